@@ -18,6 +18,7 @@ import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.MultiStatus;
 
 
 /**
@@ -99,6 +100,35 @@ public interface IFileBufferManager {
 	 */
 	void connectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException;
 
+	/**
+	 * Connects the files at the given locations to this manager. This is equivalent to calling
+	 * {@link #connect(IPath, LocationKind, IProgressMonitor)} for each location, except that the
+	 * file buffers which do not exist yet are created concurrently.
+	 * <p>
+	 * A file which cannot be connected does not prevent the other files from being connected.
+	 * The returned array contains one entry per location: the connected file buffer, or
+	 * <code>null</code> if the file could not be connected. The reason of each failure is added
+	 * to the given status. If the monitor is cancelled, the files which have not been connected
+	 * yet are skipped and a cancel status is added.
+	 * </p>
+	 * <p>
+	 * Every returned file buffer has to be disconnected, e.g. by
+	 * {@link #disconnect(IPath[], LocationKind, IProgressMonitor)}.
+	 * </p>
+	 *
+	 * @param locations the locations of the files to be connected
+	 * @param locationKind the kind of the given locations
+	 * @param threadCount the maximum number of threads used to create file buffers, values
+	 *            smaller than <code>1</code> are treated as <code>1</code>
+	 * @param status the status collecting the failures, or <code>null</code> if the failures are
+	 *            of no interest
+	 * @param monitor the progress monitor, or <code>null</code> if progress reporting is not desired
+	 * @return the connected file buffers, <code>null</code> for files which could not be connected
+	 * @see LocationKind
+	 * @since 3.9
+	 */
+	IFileBuffer[] connect(IPath[] locations, LocationKind locationKind, int threadCount, MultiStatus status, IProgressMonitor monitor);
+
 	/**
 	 * Disconnects the file at the given location from this manager. After that
 	 * call successfully completed there is no guarantee that <code>getFileBuffer</code>
@@ -158,6 +188,22 @@ public interface IFileBufferManager {
 	 */
 	void disconnectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException;
 
+	/**
+	 * Disconnects the files at the given locations from this manager. This is equivalent to
+	 * calling {@link #disconnect(IPath, LocationKind, IProgressMonitor)} for each location, except
+	 * that a file which cannot be disconnected does not prevent the other files from being
+	 * disconnected.
+	 *
+	 * @param locations the locations of the files to be disconnected
+	 * @param locationKind the kind of the given locations
+	 * @param monitor the progress monitor, or <code>null</code> if progress reporting is not desired
+	 * @throws CoreException if some files could not successfully be disconnected, the status
+	 *             contains one child status per failure
+	 * @see LocationKind
+	 * @since 3.9
+	 */
+	void disconnect(IPath[] locations, LocationKind locationKind, IProgressMonitor monitor) throws CoreException;
+
 	/**
 	 * Returns the file buffer managed for the given location or <code>null</code>
 	 * if there is no such file buffer.
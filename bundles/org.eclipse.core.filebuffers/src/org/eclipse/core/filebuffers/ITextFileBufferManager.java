@@ -225,4 +225,34 @@ public interface ITextFileBufferManager extends IFileBufferManager {
 	 * @since 3.2
 	 */
 	boolean isTextFileLocation(IPath location, boolean strict);
+
+	/**
+	 * Sets how many characters of recently released text file buffers this manager retains.
+	 * <p>
+	 * When the last connection to a text file buffer is released and the buffer is neither dirty
+	 * nor out of sync with its file, the manager may keep the buffer's content. Connecting the
+	 * same file again then reuses that content instead of reading and decoding the file, as long
+	 * as the file has not been modified in the meantime and would be decoded with the same
+	 * encoding. When the limit is exceeded, the content released longest ago is discarded first.
+	 * </p>
+	 * <p>
+	 * The default is <code>0</code>, i.e. no content is retained, unless the
+	 * <code>org.eclipse.core.filebuffers.releasedContentLimit</code> system property specifies
+	 * another default.
+	 * </p>
+	 *
+	 * @param maxCharacters the maximum total number of retained characters, <code>0</code> to
+	 *            disable retention and discard all retained content
+	 * @since 3.9
+	 */
+	void setReleasedContentLimit(long maxCharacters);
+
+	/**
+	 * Returns how many characters of recently released text file buffers this manager retains.
+	 *
+	 * @return the maximum total number of retained characters, <code>0</code> if disabled
+	 * @see #setReleasedContentLimit(long)
+	 * @since 3.9
+	 */
+	long getReleasedContentLimit();
 }
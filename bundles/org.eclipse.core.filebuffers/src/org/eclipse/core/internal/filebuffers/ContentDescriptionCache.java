@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentDescription;
+
+import org.eclipse.jface.text.IDocumentExtension4;
+
+
+/**
+ * Caches the content descriptions of file stores, i.e. their content type, charset and byte
+ * order mark, so that connecting many files in a row does not read the header of each file
+ * several times.
+ * <p>
+ * A description is keyed by its <code>IFileStore</code> and is valid as long as the file's
+ * modification stamp and length and the content type settings are unchanged. Workspace files are
+ * not cached here as the workspace already caches their descriptions, taking project specific
+ * settings into account. The cache is shared by all file buffers of a manager and holds a
+ * bounded number of descriptions, evicting the least recently used first. Hit and miss counters
+ * are kept for diagnostics.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.9
+ */
+public final class ContentDescriptionCache {
+
+	/**
+	 * Computes a content description on a cache miss.
+	 */
+	interface DescriptionLoader {
+
+		/**
+		 * Computes the content description.
+		 *
+		 * @return the content description or <code>null</code> if none could be determined
+		 * @throws CoreException if the description cannot be computed
+		 */
+		IContentDescription load() throws CoreException;
+	}
+
+	private static final class Entry {
+		final IContentDescription fDescription;
+		final long fModificationStamp;
+		final long fLength;
+		final long fSettingsGeneration;
+
+		Entry(IContentDescription description, long modificationStamp, long length, long settingsGeneration) {
+			fDescription= description;
+			fModificationStamp= modificationStamp;
+			fLength= length;
+			fSettingsGeneration= settingsGeneration;
+		}
+	}
+
+	/** Maximum number of cached descriptions. */
+	private static final int MAX_ENTRIES= 512;
+
+	/**
+	 * Counts the changes of the content type settings. A single listener is registered for all
+	 * caches so that it does not keep any cache or manager alive.
+	 */
+	private static final AtomicLong fgSettingsGeneration= new AtomicLong();
+
+	static {
+		Platform.getContentTypeManager().addContentTypeChangeListener(event -> fgSettingsGeneration.incrementAndGet());
+	}
+
+	private final Map<Object, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private final AtomicLong fHits= new AtomicLong();
+
+	private final AtomicLong fMisses= new AtomicLong();
+
+	/**
+	 * Returns the content description of the given file, computing it with the given loader if
+	 * there is no valid cached description.
+	 *
+	 * @param key the file store
+	 * @param modificationStamp the current modification stamp of the file, or
+	 *            {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP} if unknown in which case
+	 *            the description is neither looked up nor cached
+	 * @param length the current length of the file, or <code>-1</code> if unknown
+	 * @param loader computes the description on a cache miss
+	 * @return the content description or <code>null</code> if none could be determined
+	 * @throws CoreException if the loader fails
+	 */
+	IContentDescription getDescription(Object key, long modificationStamp, long length, DescriptionLoader loader) throws CoreException {
+		if (modificationStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+			fMisses.incrementAndGet();
+			return loader.load();
+		}
+
+		long settingsGeneration= fgSettingsGeneration.get();
+		synchronized (fEntries) {
+			Entry entry= fEntries.get(key);
+			if (entry != null && entry.fModificationStamp == modificationStamp && entry.fLength == length && entry.fSettingsGeneration == settingsGeneration) {
+				fHits.incrementAndGet();
+				return entry.fDescription;
+			}
+		}
+
+		// load outside of the lock, loading reads the file
+		fMisses.incrementAndGet();
+		IContentDescription description= loader.load();
+		synchronized (fEntries) {
+			fEntries.put(key, new Entry(description, modificationStamp, length, settingsGeneration));
+		}
+		return description;
+	}
+
+	/**
+	 * Discards all cached descriptions.
+	 */
+	public void clear() {
+		synchronized (fEntries) {
+			fEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of lookups answered from the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		return fHits.get();
+	}
+
+	/**
+	 * Returns the number of lookups which had to compute the description.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		return fMisses.get();
+	}
+
+	/**
+	 * Returns the number of cached descriptions.
+	 *
+	 * @return the number of cached descriptions
+	 */
+	public int size() {
+		synchronized (fEntries) {
+			return fEntries.size();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ContentDescriptionCache [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
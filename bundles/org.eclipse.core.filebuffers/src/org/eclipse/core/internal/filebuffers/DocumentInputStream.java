@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.runtime.Assert;
+
+import org.eclipse.jface.text.IDocument;
+
+
+/**
+ * An <code>InputStream</code> that encodes the content of an <code>IDocument</code>
+ * chunk by chunk while it is read. Unlike encoding <code>document.get()</code> at once
+ * this never holds more than a small buffer of the encoded content in memory.
+ * <p>
+ * Like {@link DocumentReader} the stream delivers the document content at the time
+ * the stream was created. Unmappable characters are reported according to the encoder's
+ * configuration as {@link CharacterCodingException}.
+ * </p>
+ * <p>
+ * Note that {@link #close()} must be called to release any acquired resources.
+ * </p>
+ *
+ * @since 3.9
+ */
+class DocumentInputStream extends InputStream {
+
+	/** Number of characters encoded at once. */
+	private static final int CHUNK_SIZE= 8192;
+
+	/** The reader delivering the document content. */
+	private final Reader fReader;
+
+	/** The encoder. */
+	private final CharsetEncoder fEncoder;
+
+	/** Characters read from the document but not yet encoded. */
+	private final CharBuffer fChars= CharBuffer.allocate(CHUNK_SIZE);
+
+	/** Encoded bytes not yet read, ready for reading. */
+	private final ByteBuffer fBytes;
+
+	/** Tells whether all characters have been read from the document. */
+	private boolean fEndOfInput;
+
+	/** Tells whether the encoder has been flushed, i.e. all bytes have been produced. */
+	private boolean fFlushed;
+
+	/**
+	 * Creates a new stream encoding the given document with the given encoder.
+	 * The encoder is reset before it is used.
+	 *
+	 * @param document the document
+	 * @param encoder the encoder
+	 */
+	public DocumentInputStream(IDocument document, CharsetEncoder encoder) {
+		Assert.isNotNull(encoder);
+		fReader= new DocumentReader(document);
+		fEncoder= encoder;
+		fEncoder.reset();
+		fBytes= ByteBuffer.allocate((int) Math.ceil(CHUNK_SIZE * (double) encoder.maxBytesPerChar()) + 16);
+		fChars.flip();
+		fBytes.flip();
+	}
+
+	/**
+	 * Returns a stream delivering the content of the given document encoded with the given
+	 * encoder. Encoders for charsets which contain all of Unicode never report unmappable
+	 * characters, so the content is encoded while the stream is read. Other encoders may report
+	 * unmappable characters, which must happen before anything is written, so the content is
+	 * encoded once up front and the stream delivers those bytes.
+	 * <p>
+	 * Note that {@link #close()} must be called on the returned stream to release any acquired
+	 * resources.
+	 * </p>
+	 *
+	 * @param document the document
+	 * @param encoder the encoder
+	 * @return the stream of the encoded content
+	 * @throws CharacterCodingException if the encoder reports an error
+	 */
+	public static InputStream open(IDocument document, CharsetEncoder encoder) throws CharacterCodingException {
+		if (encoder.charset().contains(StandardCharsets.UTF_8)) {
+			return new DocumentInputStream(document, encoder);
+		}
+		ByteBuffer byteBuffer= encoder.encode(CharBuffer.wrap(document.get()));
+		byte[] bytes;
+		if (byteBuffer.hasArray()) {
+			bytes= byteBuffer.array();
+		} else {
+			bytes= new byte[byteBuffer.limit()];
+			byteBuffer.get(bytes);
+		}
+		return new ByteArrayInputStream(bytes, 0, byteBuffer.limit());
+	}
+
+	@Override
+	public int read() throws IOException {
+		while (!fBytes.hasRemaining()) {
+			if (fFlushed) {
+				return -1;
+			}
+			fill();
+		}
+		return fBytes.get() & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		while (!fBytes.hasRemaining()) {
+			if (fFlushed) {
+				return -1;
+			}
+			fill();
+		}
+		int count= Math.min(len, fBytes.remaining());
+		fBytes.get(b, off, count);
+		return count;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped= 0;
+		while (skipped < n) {
+			if (!fBytes.hasRemaining()) {
+				if (fFlushed) {
+					break;
+				}
+				fill();
+				continue;
+			}
+			int count= (int) Math.min(n - skipped, fBytes.remaining());
+			fBytes.position(fBytes.position() + count);
+			skipped+= count;
+		}
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return fBytes.remaining();
+	}
+
+	@Override
+	public void close() throws IOException {
+		fReader.close();
+	}
+
+	/**
+	 * Encodes the next chunk of characters into the byte buffer.
+	 *
+	 * @throws IOException if reading the document or encoding fails
+	 */
+	private void fill() throws IOException {
+		fBytes.clear();
+		try {
+			if (!fEndOfInput) {
+				fChars.compact();
+				int read= fReader.read(fChars.array(), fChars.arrayOffset() + fChars.position(), fChars.remaining());
+				if (read == -1) {
+					fEndOfInput= true;
+				} else {
+					fChars.position(fChars.position() + read);
+				}
+				fChars.flip();
+			}
+
+			CoderResult result= fEncoder.encode(fChars, fBytes, fEndOfInput);
+			if (result.isError()) {
+				result.throwException();
+			}
+			if (fEndOfInput && result.isUnderflow()) {
+				fFlushed= fEncoder.flush(fBytes).isUnderflow();
+			}
+		} finally {
+			fBytes.flip();
+		}
+	}
+}
@@ -168,6 +168,22 @@ class DocumentReader extends Reader {
 
 	@Override
 	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len > 1 && fOffset < fLength) {
+			// copy whole chunks instead of calling charAt for each character
+			CharSequence sequence= fCharSequence;
+			if (sequence == null) {
+				throw new IOException(FileBuffersMessages.DocumentInputStream_error_streamClosed);
+			}
+			int count= Math.min(len, fLength - fOffset);
+			try {
+				sequence.subSequence(fOffset, fOffset + count).toString().getChars(0, count, cbuf, off);
+				fOffset+= count;
+				return count;
+			} catch (IndexOutOfBoundsException x) {
+				// fall back to reading character by character
+			}
+		}
+
 		int i= 0;
 		try {
 			for (; i < len && fOffset < fLength; i++) {
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.core.filesystem.IFileInfo;
+import org.eclipse.core.filesystem.IFileStore;
+
+
+/**
+ * Loads the content of a text file into a string.
+ * <p>
+ * <code>InputStream.readAllBytes()</code> does not know the size of the content, it collects
+ * the bytes in chunks and copies them into the result array at the end, so reading a file that
+ * way briefly needs twice its size. If the file size is known, the bytes are read into an array
+ * of that size instead and decoded from there.
+ * </p>
+ *
+ * @since 3.9
+ */
+final class FileBufferContentLoader {
+
+	/** The largest array the VM can allocate reliably. */
+	private static final int MAX_ARRAY_SIZE= Integer.MAX_VALUE - 8;
+
+	private FileBufferContentLoader() {
+		// static helper
+	}
+
+	/**
+	 * Returns the length of the given file store for use as size hint.
+	 *
+	 * @param fileStore the file store, may be <code>null</code>
+	 * @return the length in bytes or <code>-1</code> if unknown
+	 */
+	static long getLengthHint(IFileStore fileStore) {
+		if (fileStore == null) {
+			return -1;
+		}
+		IFileInfo info= fileStore.fetchInfo();
+		return info.exists() ? info.getLength() : -1;
+	}
+
+	/**
+	 * Reads the remaining content of the given stream and decodes it with the given encoding.
+	 * The stream is not closed.
+	 *
+	 * @param stream the stream to read
+	 * @param encoding the character encoding
+	 * @param lengthHint the expected number of bytes, <code>-1</code> if unknown; the content is
+	 *            read completely even if the hint is wrong
+	 * @return the decoded content
+	 * @throws IOException if reading fails or the encoding is not supported
+	 */
+	static String load(InputStream stream, String encoding, long lengthHint) throws IOException {
+		if (lengthHint <= 0 || lengthHint > MAX_ARRAY_SIZE) {
+			return new String(stream.readAllBytes(), encoding);
+		}
+
+		byte[] bytes= new byte[(int) lengthHint];
+		int length= stream.readNBytes(bytes, 0, bytes.length);
+		if (length == bytes.length) {
+			// the file may have grown since its size was fetched
+			byte[] rest= stream.readAllBytes();
+			if (rest.length > 0) {
+				if (rest.length > MAX_ARRAY_SIZE - length) {
+					throw new OutOfMemoryError();
+				}
+				byte[] all= new byte[length + rest.length];
+				System.arraycopy(bytes, 0, all, 0, length);
+				System.arraycopy(rest, 0, all, length, rest.length);
+				bytes= all;
+				length= all.length;
+			}
+		}
+		return new String(bytes, 0, length, encoding);
+	}
+}
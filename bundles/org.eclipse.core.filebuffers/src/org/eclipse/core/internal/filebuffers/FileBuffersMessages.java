@@ -47,6 +47,9 @@ final class FileBuffersMessages extends NLS {
 	public static String TextFileBufferManager_error_documentSetupFailed;
 	public static String TextFileBufferManager_error_documentFactoryFailed;
 	public static String TextFileBufferManager_warning_documentSetupInstallsDefaultPartitioner;
+	public static String TextFileBufferManager_task_connecting;
+	public static String TextFileBufferManager_error_connectFailed;
+	public static String TextFileBufferManager_error_disconnectFailed;
 	public static String DocumentInputStream_error_streamClosed;
 
 	static {
@@ -20,8 +20,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.SequenceInputStream;
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
@@ -103,6 +101,11 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 	private String fExplicitEncoding;
 	/** Tells whether the file on disk has a BOM. */
 	private boolean fHasBOM;
+	/**
+	 * The encoding the document content was last loaded or saved with.
+	 * @since 3.9
+	 */
+	private String fContentEncoding;
 	/** The annotation model of this file buffer */
 	private IAnnotationModel fAnnotationModel;
 	/**
@@ -290,13 +293,11 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 				}
 			}
 
-			try(InputStream stream= fFileStore.openInputStream(EFS.NONE, null)) {
-				IContentDescription desc= Platform.getContentTypeManager().getDescriptionFor(stream, fFileStore.getName(), NO_PROPERTIES);
-				if (desc != null && desc.getContentType() != null) {
-					return desc.getContentType();
-				}
-				return null;
+			IContentDescription desc= fManager.getContentDescription(fFileStore, fFileStore.fetchInfo());
+			if (desc != null && desc.getContentType() != null) {
+				return desc.getContentType();
 			}
+			return null;
 		} catch (IOException x) {
 			throw new CoreException(new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IStatus.OK, NLSUtility.format(FileBuffersMessages.FileBuffer_error_queryContentDescription, fFileStore.toString()), x));
 		}
@@ -328,6 +329,28 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		}
 	}
 
+	@Override
+	protected void dispose() {
+		retainContent();
+		super.dispose();
+	}
+
+	/**
+	 * Hands the document content to the manager's released content cache if it matches the
+	 * file's content.
+	 *
+	 * @since 3.9
+	 */
+	private void retainContent() {
+		ReleasedContentCache cache= fManager.getReleasedContentCache();
+		if (fDocument == null || fCanBeSaved || fContentEncoding == null || (fStatus != null && !fStatus.isOK()) || !cache.accepts(fDocument.getLength())) {
+			return;
+		}
+		if (isSynchronized()) {
+			cache.put(fFileStore, fDocument.get(), fContentEncoding, fSynchronizationStamp);
+		}
+	}
+
 	@Override
 	protected void connected() {
 		super.connected();
@@ -349,20 +372,20 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		fHasBOM= false;
 		fIsCacheUpdated= true;
 
-		try(InputStream stream= getFileContents(fFileStore)) {
-			if (stream == null) {
+		try {
+			IFileInfo info= fFileStore.fetchInfo();
+			if (!info.exists()) {
 				return;
 			}
 
-			QualifiedName[] options= new QualifiedName[] { IContentDescription.CHARSET, IContentDescription.BYTE_ORDER_MARK };
-			IContentDescription description= Platform.getContentTypeManager().getDescriptionFor(stream, fFileStore.getName(), options);
+			IContentDescription description= fManager.getContentDescription(fFileStore, info);
 			if (description != null) {
 				fHasBOM= description.getProperty(IContentDescription.BYTE_ORDER_MARK) != null;
 				if (fEncoding == null) {
 					fEncoding= description.getCharset();
 				}
 			}
-		} catch (CoreException | IOException e) {
+		} catch (CoreException e) {
 			// do nothing
 		}
 
@@ -399,18 +422,10 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		encoder.onMalformedInput(CodingErrorAction.REPLACE);
 		encoder.onUnmappableCharacter(CodingErrorAction.REPORT);
 
-		byte[] bytes;
-		int bytesLength;
+		InputStream encoded;
 
 		try {
-			ByteBuffer byteBuffer= encoder.encode(CharBuffer.wrap(fDocument.get()));
-			bytesLength= byteBuffer.limit();
-			if (byteBuffer.hasArray()) {
-				bytes= byteBuffer.array();
-			} else {
-				bytes= new byte[bytesLength];
-				byteBuffer.get(bytes);
-			}
+			encoded= DocumentInputStream.open(fDocument, encoder);
 		} catch (CharacterCodingException ex) {
 			Assert.isTrue(ex instanceof UnmappableCharacterException);
 			String message= NLSUtility.format(FileBuffersMessages.ResourceTextFileBuffer_error_charset_mapping_failed_message_arg, encoding);
@@ -418,6 +433,18 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 			throw new CoreException(s);
 		}
 
+		try {
+			writeFileBufferContent(encoded, encoding, overwrite, monitor);
+		} finally {
+			try {
+				encoded.close();
+			} catch (IOException ex) {
+				// ignore
+			}
+		}
+	}
+
+	private void writeFileBufferContent(InputStream encoded, String encoding, boolean overwrite, IProgressMonitor monitor) throws CoreException {
 		IFileInfo fileInfo= fFileStore.fetchInfo();
 		if (fileInfo != null && fileInfo.exists()) {
 
@@ -425,7 +452,7 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 				checkSynchronizationState();
 			}
 
-			InputStream stream= new ByteArrayInputStream(bytes, 0, bytesLength);
+			InputStream stream= encoded;
 
 			/*
 			 * XXX:
@@ -442,6 +469,7 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 			setFileContents(stream, monitor);
 			// set synchronization stamp to know whether the file synchronizer must become active
 			fSynchronizationStamp= fFileStore.fetchInfo().getLastModified();
+			fContentEncoding= encoding;
 
 			if (fAnnotationModel instanceof IPersistableAnnotationModel persistableModel) {
 				persistableModel.commit(fDocument);
@@ -450,7 +478,7 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		} else {
 			fFileStore.getParent().mkdir(EFS.NONE, null);
 
-			try(OutputStream out= fFileStore.openOutputStream(EFS.NONE, null)) {
+			try(InputStream in= encoded; OutputStream out= fFileStore.openOutputStream(EFS.NONE, null)) {
 				/*
 				 * XXX:
 				 * This is a workaround for a corresponding bug in Java readers and writer,
@@ -460,7 +488,7 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 					out.write(IContentDescription.BOM_UTF_8);
 				}
 
-				out.write(bytes, 0, bytesLength);
+				in.transferTo(out);
 				out.flush();
 				out.close();
 			} catch (IOException x) {
@@ -470,6 +498,7 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 
 			// set synchronization stamp to know whether the file synchronizer must become active
 			fSynchronizationStamp= fFileStore.fetchInfo().getLastModified();
+			fContentEncoding= encoding;
 
 		}
 	}
@@ -523,6 +552,17 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 		if (encoding == null) {
 			encoding= fManager.getDefaultEncoding();
 		}
+
+		ReleasedContentCache cache= fManager.getReleasedContentCache();
+		if (cache.getLimit() > 0) {
+			String content= cache.take(file, encoding, file.fetchInfo().getLastModified());
+			if (content != null) {
+				document.set(content);
+				fContentEncoding= encoding;
+				return;
+			}
+		}
+
 		try (InputStream contentStream= getFileContents(file)) {
 			if (contentStream == null) {
 				return;
@@ -535,9 +575,15 @@ public class FileStoreTextFileBuffer extends FileStoreFileBuffer implements ITex
 				}
 			}
 
+			long lengthHint= FileBufferContentLoader.getLengthHint(file);
+			if (skipUTF8BOM && lengthHint > 0) {
+				lengthHint-= IContentDescription.BOM_UTF_8.length;
+			}
+
 			try {
-				String content= new String(contentStream.readAllBytes(), encoding);
+				String content= FileBufferContentLoader.load(contentStream, encoding, lengthHint);
 				document.set(content);
+				fContentEncoding= encoding;
 			} catch (OutOfMemoryError e) {
 				throw new IOException(NLS.bind(FileBuffersMessages.ResourceTextFileBuffer_oom_on_file_read, file.toURI()), e);
 			}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.filebuffers;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.filesystem.IFileStore;
+
+
+/**
+ * Retains the decoded content of recently released, unmodified text file buffers so that
+ * connecting the same file again does not need to read and decode it.
+ * <p>
+ * The cache is bounded by the total number of retained characters and by the number of entries;
+ * the least recently released content is evicted first. A limit of <code>0</code> disables the
+ * cache. An entry is only handed out if the file still has the modification
+ * stamp it had when the content was loaded or saved and if it would be decoded with the same
+ * encoding. An entry is removed when it is handed out, the file buffer connected for it owns the
+ * content until it is released again.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.9
+ */
+final class ReleasedContentCache {
+
+	private static final class Entry {
+		final String fContent;
+		final String fEncoding;
+		final long fModificationStamp;
+
+		Entry(String content, String encoding, long modificationStamp) {
+			fContent= content;
+			fEncoding= encoding;
+			fModificationStamp= modificationStamp;
+		}
+	}
+
+	/** The maximum number of retained entries. */
+	private static final int MAX_ENTRIES= 64;
+
+	/** The retained content in the order it was released. */
+	private final Map<IFileStore, Entry> fEntries= new LinkedHashMap<>();
+
+	/** The maximum number of retained characters, <code>0</code> if disabled. */
+	private long fLimit;
+
+	/** The number of retained characters. */
+	private long fSize;
+
+	/**
+	 * Sets the maximum number of retained characters. A limit of <code>0</code> disables the
+	 * cache and discards all entries.
+	 *
+	 * @param maxCharacters the maximum number of retained characters
+	 */
+	synchronized void setLimit(long maxCharacters) {
+		fLimit= Math.max(0, maxCharacters);
+		evict();
+	}
+
+	/**
+	 * Returns the maximum number of retained characters.
+	 *
+	 * @return the maximum number of retained characters, <code>0</code> if disabled
+	 */
+	synchronized long getLimit() {
+		return fLimit;
+	}
+
+	/**
+	 * Tells whether the cache accepts content at all. Callers use this to avoid copying the
+	 * document content when the cache is disabled.
+	 *
+	 * @param length the number of characters to retain
+	 * @return <code>true</code> if content of the given length may be retained
+	 */
+	synchronized boolean accepts(int length) {
+		return fLimit > 0 && length <= fLimit;
+	}
+
+	/**
+	 * Retains the content of a released file buffer.
+	 *
+	 * @param fileStore the file store of the file buffer
+	 * @param content the content
+	 * @param encoding the encoding the content was loaded or saved with
+	 * @param modificationStamp the modification stamp of the file when the content was loaded
+	 *            or saved
+	 */
+	synchronized void put(IFileStore fileStore, String content, String encoding, long modificationStamp) {
+		remove(fileStore);
+		if (!accepts(content.length())) {
+			return;
+		}
+		fEntries.put(fileStore, new Entry(content, encoding, modificationStamp));
+		fSize+= content.length();
+		evict();
+	}
+
+	/**
+	 * Removes and returns the retained content of the given file store if it is still valid.
+	 *
+	 * @param fileStore the file store
+	 * @param encoding the encoding the file would be decoded with
+	 * @param modificationStamp the current modification stamp of the file
+	 * @return the content or <code>null</code> if there is no valid content
+	 */
+	synchronized String take(IFileStore fileStore, String encoding, long modificationStamp) {
+		Entry entry= remove(fileStore);
+		if (entry == null || entry.fModificationStamp != modificationStamp || !Objects.equals(entry.fEncoding, encoding)) {
+			return null;
+		}
+		return entry.fContent;
+	}
+
+	/**
+	 * Discards the retained content of the given file store.
+	 *
+	 * @param fileStore the file store
+	 * @return the discarded entry or <code>null</code> if none
+	 */
+	private Entry remove(IFileStore fileStore) {
+		Entry entry= fEntries.remove(fileStore);
+		if (entry != null) {
+			fSize-= entry.fContent.length();
+		}
+		return entry;
+	}
+
+	private void evict() {
+		Iterator<Entry> iter= fEntries.values().iterator();
+		while ((fLimit == 0 || fSize > fLimit || fEntries.size() > MAX_ENTRIES) && iter.hasNext()) {
+			fSize-= iter.next().fContent.length();
+			iter.remove();
+		}
+	}
+}
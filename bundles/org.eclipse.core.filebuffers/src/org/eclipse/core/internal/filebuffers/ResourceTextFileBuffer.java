@@ -18,8 +18,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.SequenceInputStream;
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
@@ -34,6 +32,7 @@ import org.eclipse.core.filebuffers.IPersistableAnnotationModel;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.manipulation.ContainerCreator;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceStatus;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -106,6 +105,11 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 	private String fExplicitEncoding;
 	/** The BOM that needs to get written. */
 	private byte[] fBOM;
+	/**
+	 * The encoding the document content was last loaded or saved with.
+	 * @since 3.9
+	 */
+	private String fContentEncoding;
 	/**
 	 * Lock for lazy creation of annotation model.
 	 * @since 3.2
@@ -275,6 +279,7 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 	 */
 	@Override
 	protected void dispose() {
+		retainContent();
 		try {
 			fDocument.removePositionCategory(IDocument.DEFAULT_CATEGORY);
 		} catch (BadPositionCategoryException ex) {
@@ -287,6 +292,22 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 		super.dispose();
 	}
 
+	/**
+	 * Hands the document content to the manager's released content cache if it matches the
+	 * file's content.
+	 *
+	 * @since 3.9
+	 */
+	private void retainContent() {
+		ReleasedContentCache cache= getManager().getReleasedContentCache();
+		if (fDocument == null || fCanBeSaved || fContentEncoding == null || (fStatus != null && !fStatus.isOK()) || !cache.accepts(fDocument.getLength())) {
+			return;
+		}
+		if (isSynchronized()) {
+			cache.put(fFileStore, fDocument.get(), fContentEncoding, fSynchronizationStamp);
+		}
+	}
+
 	@Override
 	protected void commitFileBufferContent(IProgressMonitor monitor, boolean overwrite) throws CoreException {
 		if (!isSynchronized() && !overwrite) {
@@ -320,15 +341,7 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 		InputStream stream;
 
 		try {
-			byte[] bytes;
-			ByteBuffer byteBuffer= encoder.encode(CharBuffer.wrap(fDocument.get()));
-			if (byteBuffer.hasArray()) {
-				bytes= byteBuffer.array();
-			} else {
-				bytes= new byte[byteBuffer.limit()];
-				byteBuffer.get(bytes);
-			}
-			stream= new ByteArrayInputStream(bytes, 0, byteBuffer.limit());
+			stream= DocumentInputStream.open(fDocument, encoder);
 		} catch (CharacterCodingException ex) {
 			Assert.isTrue(ex instanceof UnmappableCharacterException);
 			String message= NLSUtility.format(FileBuffersMessages.ResourceTextFileBuffer_error_charset_mapping_failed_message_arg, new Object[] {encoding,getLocation().toString()});
@@ -349,37 +362,48 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 			stream= new SequenceInputStream(new ByteArrayInputStream(IContentDescription.BOM_UTF_16LE), stream);
 		}
 
-		if (fFile.exists()) {
+		try {
+			if (fFile.exists()) {
 
-			// here the file synchronizer should actually be removed and afterwards added again. However,
-			// we are already inside an operation, so the delta is sent AFTER we have added the listener
-			fFile.setContents(stream, overwrite, true, monitor);
-			// set synchronization stamp to know whether the file synchronizer must become active
+				// here the file synchronizer should actually be removed and afterwards added again. However,
+				// we are already inside an operation, so the delta is sent AFTER we have added the listener
+				fFile.setContents(stream, overwrite, true, monitor);
+				// set synchronization stamp to know whether the file synchronizer must become active
 
-			if (fDocument instanceof IDocumentExtension4 ext4) {
-				fSynchronizationStamp= ext4.getModificationStamp();
-				fFile.revertModificationStamp(fSynchronizationStamp);
-			} else {
-				fSynchronizationStamp= fFile.getModificationStamp();
-			}
+				if (fDocument instanceof IDocumentExtension4 ext4) {
+					fSynchronizationStamp= ext4.getModificationStamp();
+					fFile.revertModificationStamp(fSynchronizationStamp);
+				} else {
+					fSynchronizationStamp= fFile.getModificationStamp();
+				}
+				fContentEncoding= encoding;
 
-			if (fAnnotationModel instanceof IPersistableAnnotationModel persistableModel) {
-				persistableModel.commit(fDocument);
-			}
+				if (fAnnotationModel instanceof IPersistableAnnotationModel persistableModel) {
+					persistableModel.commit(fDocument);
+				}
 
-		} else {
-			SubMonitor subMonitor= SubMonitor.convert(monitor, FileBuffersMessages.ResourceTextFileBuffer_task_saving, 2);
-			ContainerCreator creator= new ContainerCreator(fFile.getWorkspace(), fFile.getParent().getFullPath());
-			creator.createContainer(subMonitor.split(1));
+			} else {
+				SubMonitor subMonitor= SubMonitor.convert(monitor, FileBuffersMessages.ResourceTextFileBuffer_task_saving, 2);
+				ContainerCreator creator= new ContainerCreator(fFile.getWorkspace(), fFile.getParent().getFullPath());
+				creator.createContainer(subMonitor.split(1));
 
-			fFile.create(stream, false, subMonitor.split(1));
+				fFile.create(stream, false, subMonitor.split(1));
 
 
-			// set synchronization stamp to know whether the file synchronizer must become active
-			fSynchronizationStamp= fFile.getModificationStamp();
+				// set synchronization stamp to know whether the file synchronizer must become active
+				fSynchronizationStamp= fFile.getModificationStamp();
+				fContentEncoding= encoding;
 
-			subMonitor.split(1);
-			// TODO commit persistable annotation model
+				subMonitor.split(1);
+				// TODO commit persistable annotation model
+			}
+		} finally {
+			try {
+				// the stream is closed by the workspace, close it anyway to release the document if that failed early
+				stream.close();
+			} catch (IOException ex) {
+				// ignore
+			}
 		}
 
 	}
@@ -499,6 +523,21 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 		if (encoding == null) {
 			encoding= fManager.getDefaultEncoding();
 		}
+
+		ReleasedContentCache cache= getManager().getReleasedContentCache();
+		if (cache.getLimit() > 0 && file.isSynchronized(IResource.DEPTH_ZERO)) {
+			String content= cache.take(fFileStore, encoding, file.getModificationStamp());
+			if (content != null) {
+				if (document instanceof IDocumentExtension4 ext4) {
+					ext4.set(content, file.getModificationStamp());
+				} else {
+					document.set(content);
+				}
+				fContentEncoding= encoding;
+				return;
+			}
+		}
+
 		try (InputStream contentStream= file.getContents()) {
 			boolean skipUTF8BOM= fBOM != null && StandardCharsets.UTF_8.name().equals(encoding);
 			if (skipUTF8BOM) {
@@ -508,13 +547,19 @@ public class ResourceTextFileBuffer extends ResourceFileBuffer implements ITextF
 				}
 			}
 
+			long lengthHint= FileBufferContentLoader.getLengthHint(fFileStore);
+			if (skipUTF8BOM && lengthHint > 0) {
+				lengthHint-= IContentDescription.BOM_UTF_8.length;
+			}
+
 			try {
-				String content= new String(contentStream.readAllBytes(), encoding);
+				String content= FileBufferContentLoader.load(contentStream, encoding, lengthHint);
 				if (document instanceof IDocumentExtension4 ext4) {
 					ext4.set(content, fFile.getModificationStamp());
 				} else {
 					document.set(content);
 				}
+				fContentEncoding= encoding;
 			} catch (OutOfMemoryError e) {
 				throw new IOException(NLS.bind(FileBuffersMessages.ResourceTextFileBuffer_oom_on_file_read, file.getLocationURI()), e);
 			}
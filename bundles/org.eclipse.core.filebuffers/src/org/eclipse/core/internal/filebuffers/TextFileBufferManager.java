@@ -20,8 +20,17 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileInfo;
@@ -35,9 +44,12 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.content.IContentDescription;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.content.IContentTypeManager;
@@ -72,15 +84,37 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 
 	protected static final IContentType TEXT_CONTENT_TYPE= Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT);
 
+	/**
+	 * The properties computed for cached content descriptions.
+	 * @since 3.9
+	 */
+	private static final QualifiedName[] DESCRIPTION_PROPERTIES= new QualifiedName[] { IContentDescription.CHARSET, IContentDescription.BYTE_ORDER_MARK };
+
 	private final Map<IPath, AbstractFileBuffer> fFilesBuffers= new HashMap<>();
 	private final Map<IFileStore, FileStoreFileBuffer> fFileStoreFileBuffers= new HashMap<>();
 	private final List<IFileBufferListener> fFileBufferListeners= new ArrayList<>();
 	protected ExtensionsRegistry fRegistry;
 	private ISynchronizationContext fSynchronizationContext;
+	/**
+	 * The content of recently released text file buffers.
+	 * @since 3.9
+	 */
+	private final ReleasedContentCache fReleasedContentCache= new ReleasedContentCache();
+	/**
+	 * The content descriptions of recently connected file stores.
+	 * @since 3.9
+	 */
+	private final ContentDescriptionCache fContentDescriptionCache= new ContentDescriptionCache();
+	/**
+	 * The executor creating file buffers for bulk connects, created on first use.
+	 * @since 3.9
+	 */
+	private static ExecutorService fgConnectExecutor;
 
 
 	public TextFileBufferManager()  {
 		fRegistry= new ExtensionsRegistry();
+		fReleasedContentCache.setLimit(Long.getLong("org.eclipse.core.filebuffers.releasedContentLimit", 0).longValue()); //$NON-NLS-1$
 	}
 
 	/**
@@ -117,13 +151,156 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 
 		fileBuffer.create(location, monitor);
 
+		connectCreatedFileBuffer(location, fileBuffer);
+	}
+
+	@Override
+	public IFileBuffer[] connect(IPath[] locations, LocationKind locationKind, int threadCount, MultiStatus status, IProgressMonitor monitor) {
+		Assert.isNotNull(locations);
+		SubMonitor subMonitor= SubMonitor.convert(monitor, FileBuffersMessages.TextFileBufferManager_task_connecting, locations.length);
+		IFileBuffer[] result= new IFileBuffer[locations.length];
+		// the indices of the locations whose file buffer has to be created, by normalized location
+		Map<IPath, List<Integer>> toCreate= new LinkedHashMap<>();
+
+		// connect existing file buffers with a single lock acquisition
+		synchronized (fFilesBuffers) {
+			for (int i= 0; i < locations.length; i++) {
+				Assert.isNotNull(locations[i]);
+				IPath location= locationKind == LocationKind.NORMALIZE ? normalizeLocation(locations[i]) : locations[i];
+				AbstractFileBuffer fileBuffer= internalGetFileBuffer(location);
+				if (fileBuffer != null) {
+					fileBuffer.connect();
+					result[i]= fileBuffer;
+				} else {
+					toCreate.computeIfAbsent(location, l -> new ArrayList<>()).add(Integer.valueOf(i));
+				}
+			}
+		}
+		int created= toCreate.values().stream().mapToInt(List::size).sum();
+		subMonitor.worked(locations.length - created);
+		if (toCreate.isEmpty()) {
+			return result;
+		}
+
+		// create the missing file buffers concurrently, without holding the lock
+		CompletionService<AbstractFileBuffer> completionService= new ExecutorCompletionService<>(getConnectExecutor());
+		Map<Future<AbstractFileBuffer>, IPath> submitted= new HashMap<>();
+		Iterator<IPath> pending= toCreate.keySet().iterator();
+		int window= Math.max(1, threadCount);
+		boolean canceled= false;
+		try {
+			while (pending.hasNext() && submitted.size() < window) {
+				submitCreation(completionService, submitted, pending.next(), locationKind, subMonitor);
+			}
+			while (!submitted.isEmpty()) {
+				Future<AbstractFileBuffer> future= completionService.take();
+				IPath location= submitted.remove(future);
+				if (pending.hasNext()) {
+					submitCreation(completionService, submitted, pending.next(), locationKind, subMonitor);
+				}
+				List<Integer> indices= toCreate.get(location);
+				try {
+					AbstractFileBuffer fileBuffer= future.get();
+					if (fileBuffer != null) {
+						fileBuffer= connectCreatedFileBuffer(location, fileBuffer);
+						result[indices.get(0).intValue()]= fileBuffer;
+						// a location given several times is connected once per occurrence
+						for (int i= 1; i < indices.size(); i++) {
+							synchronized (fFilesBuffers) {
+								fileBuffer.connect();
+							}
+							result[indices.get(i).intValue()]= fileBuffer;
+						}
+					} else {
+						canceled= true;
+					}
+				} catch (ExecutionException ex) {
+					if (status != null) {
+						Throwable cause= ex.getCause();
+						if (cause instanceof CoreException coreException) {
+							status.add(coreException.getStatus());
+						} else {
+							String message= NLSUtility.format(FileBuffersMessages.TextFileBufferManager_error_connectFailed, location);
+							status.add(new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IFileBufferStatusCodes.CREATION_FAILED, message, cause));
+						}
+					}
+				} catch (CoreException ex) {
+					if (status != null) {
+						status.add(ex.getStatus());
+					}
+				}
+				if (!subMonitor.isCanceled()) {
+					subMonitor.worked(indices.size());
+				}
+			}
+		} catch (InterruptedException ex) {
+			// the created file buffers which were not collected are not connected and get garbage collected
+			Thread.currentThread().interrupt();
+			for (Future<AbstractFileBuffer> future : submitted.keySet()) {
+				future.cancel(true);
+			}
+			canceled= true;
+		}
+		if (canceled && status != null) {
+			status.add(Status.CANCEL_STATUS);
+		}
+		return result;
+	}
+
+	private void submitCreation(CompletionService<AbstractFileBuffer> completionService, Map<Future<AbstractFileBuffer>, IPath> submitted, IPath location, LocationKind locationKind, SubMonitor monitor) {
+		submitted.put(completionService.submit(() -> {
+			if (monitor.isCanceled()) {
+				return null;
+			}
+			AbstractFileBuffer fileBuffer= createFileBuffer(location, locationKind);
+			if (fileBuffer == null) {
+				throw new CoreException(new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IFileBufferStatusCodes.CREATION_FAILED, FileBuffersMessages.FileBufferManager_error_canNotCreateFilebuffer, null));
+			}
+			fileBuffer.create(location, null);
+			return fileBuffer;
+		}), location);
+	}
+
+	/**
+	 * Returns the executor creating file buffers for bulk connects. It is shared by all managers
+	 * and bounded by the number of processors; its threads terminate when idle.
+	 *
+	 * @return the executor
+	 * @since 3.9
+	 */
+	private static synchronized ExecutorService getConnectExecutor() {
+		if (fgConnectExecutor == null) {
+			int threads= Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread= new Thread(runnable, "File Buffer Connector"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fgConnectExecutor= executor;
+		}
+		return fgConnectExecutor;
+	}
+
+	/**
+	 * Connects a newly created file buffer and makes it available for the given location,
+	 * unless another file buffer has been connected for the location while the given one was
+	 * created.
+	 *
+	 * @param location the location of the file buffer
+	 * @param fileBuffer the newly created file buffer
+	 * @return the file buffer connected for the location
+	 * @throws CoreException if disconnecting the superfluous file buffer fails
+	 * @since 3.9
+	 */
+	private AbstractFileBuffer connectCreatedFileBuffer(IPath location, AbstractFileBuffer fileBuffer) throws CoreException {
 		synchronized (fFilesBuffers) {
 			AbstractFileBuffer oldFileBuffer= internalGetFileBuffer(location);
 			if (oldFileBuffer != null) {
 				fileBuffer.disconnect();
 				fileBuffer.dispose();
 				oldFileBuffer.connect();
-				return;
+				return oldFileBuffer;
 			}
 			fileBuffer.connect();
 			fFilesBuffers.put(location, fileBuffer);
@@ -131,6 +308,7 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 
 		// Do notification outside synchronized block
 		fireBufferCreated(fileBuffer);
+		return fileBuffer;
 	}
 
 	@Override
@@ -214,6 +392,47 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		fileBuffer.dispose();
 	}
 
+	@Override
+	public void disconnect(IPath[] locations, LocationKind locationKind, IProgressMonitor monitor) throws CoreException {
+		Assert.isNotNull(locations);
+		MultiStatus status= new MultiStatus(FileBuffersPlugin.PLUGIN_ID, IStatus.OK, FileBuffersMessages.TextFileBufferManager_error_disconnectFailed, null);
+		List<AbstractFileBuffer> disconnected= new ArrayList<>();
+
+		// disconnect with a single lock acquisition
+		synchronized (fFilesBuffers) {
+			for (IPath location : locations) {
+				Assert.isNotNull(location);
+				if (locationKind == LocationKind.NORMALIZE) {
+					location= normalizeLocation(location);
+				}
+				AbstractFileBuffer fileBuffer= internalGetFileBuffer(location);
+				if (fileBuffer == null) {
+					continue;
+				}
+				try {
+					fileBuffer.disconnect();
+				} catch (CoreException ex) {
+					status.add(ex.getStatus());
+					continue;
+				}
+				if (fileBuffer.isDisconnected()) {
+					fFilesBuffers.remove(location);
+					disconnected.add(fileBuffer);
+				}
+			}
+		}
+
+		// Do notification outside synchronized block
+		for (AbstractFileBuffer fileBuffer : disconnected) {
+			fireBufferDisposed(fileBuffer);
+			fileBuffer.dispose();
+		}
+
+		if (!status.isOK()) {
+			throw new CoreException(status);
+		}
+	}
+
 	@Override
 	public void disconnectFileStore(IFileStore fileStore, IProgressMonitor monitor) throws CoreException {
 		Assert.isLegal(fileStore != null);
@@ -279,15 +498,15 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		IFileInfo fileInfo= fileStore.fetchInfo();
 		if (fileInfo.exists()) {
 
-			try(InputStream is= fileStore.openInputStream(EFS.NONE, null)) {
-				IContentDescription description= manager.getDescriptionFor(is, fileStore.getName(), IContentDescription.ALL);
+			try {
+				IContentDescription description= getContentDescription(fileStore, fileInfo);
 				if (description != null) {
 					IContentType type= description.getContentType();
 					if (type != null) {
 						return type.isKindOf(TEXT_CONTENT_TYPE);
 					}
 				}
-			} catch (CoreException | IOException ex) {
+			} catch (CoreException ex) {
 				// ignore: API specification tells return true if content type can't be determined
 			}
 
@@ -428,6 +647,59 @@ public class TextFileBufferManager implements ITextFileBufferManager {
 		}
 	}
 
+	@Override
+	public void setReleasedContentLimit(long maxCharacters) {
+		fReleasedContentCache.setLimit(maxCharacters);
+	}
+
+	@Override
+	public long getReleasedContentLimit() {
+		return fReleasedContentCache.getLimit();
+	}
+
+	/**
+	 * Returns the cache for the content of released text file buffers.
+	 *
+	 * @return the released content cache
+	 * @since 3.9
+	 */
+	ReleasedContentCache getReleasedContentCache() {
+		return fReleasedContentCache;
+	}
+
+	/**
+	 * Returns the cache for the content descriptions of files. Clients may use it to inspect the
+	 * hit and miss counters.
+	 *
+	 * @return the content description cache
+	 * @since 3.9
+	 */
+	public ContentDescriptionCache getContentDescriptionCache() {
+		return fContentDescriptionCache;
+	}
+
+	/**
+	 * Returns the content description of the given file store including its charset and byte
+	 * order mark. The description is taken from the content description cache if the file did
+	 * not change since it was computed.
+	 *
+	 * @param fileStore the file store
+	 * @param fileInfo the current info of the file store
+	 * @return the content description or <code>null</code> if none could be determined
+	 * @throws CoreException if the file cannot be read
+	 * @since 3.9
+	 */
+	IContentDescription getContentDescription(IFileStore fileStore, IFileInfo fileInfo) throws CoreException {
+		long stamp= fileInfo.exists() ? fileInfo.getLastModified() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		return fContentDescriptionCache.getDescription(fileStore, stamp, fileInfo.getLength(), () -> {
+			try (InputStream stream= fileStore.openInputStream(EFS.NONE, null)) {
+				return Platform.getContentTypeManager().getDescriptionFor(stream, fileStore.getName(), DESCRIPTION_PROPERTIES);
+			} catch (IOException x) {
+				throw new CoreException(new Status(IStatus.ERROR, FileBuffersPlugin.PLUGIN_ID, IStatus.OK, NLSUtility.format(FileBuffersMessages.FileBuffer_error_queryContentDescription, fileStore.toString()), x));
+			}
+		});
+	}
+
 	@Override
 	public String getDefaultEncoding() {
 		return System.getProperty("file.encoding"); //$NON-NLS-1$;
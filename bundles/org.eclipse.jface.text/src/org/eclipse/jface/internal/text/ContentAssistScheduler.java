@@ -0,0 +1,411 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.internal.text;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.text.Activator;
+
+
+/**
+ * Schedules asynchronous content assist computations on a shared executor while keeping a single
+ * slow processor from starving the others.
+ * <p>
+ * Every processor (or any other key object) is limited to a fixed number of concurrently running
+ * computations; further requests wait in a small per-key queue. If the queue is full, the oldest
+ * waiting request is dropped, since a newer completion request always supersedes an older one. The
+ * future of a dropped request is completed with the value given on submission, so that callers
+ * waiting for all their requests are not left waiting.
+ * </p>
+ * <p>
+ * For each key the time spent waiting and computing is recorded. Keys whose computations
+ * repeatedly exceed the compute budget are deprioritized: they are limited to a single running and
+ * a single waiting computation until one of their computations finishes within budget again.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 3.30
+ */
+public final class ContentAssistScheduler {
+
+	/** Default number of computations a single key may run concurrently. */
+	public static final int DEFAULT_CONCURRENCY_LIMIT= 2;
+
+	/** Default number of computations a single key may have waiting. */
+	public static final int DEFAULT_QUEUE_LIMIT= 4;
+
+	/** Default compute time after which a computation is considered over budget. */
+	public static final long DEFAULT_BUDGET_MILLIS= 1000;
+
+	/** Default number of consecutive over budget computations before a key is deprioritized. */
+	public static final int DEFAULT_DEPRIORITIZE_THRESHOLD= 3;
+
+	private static ContentAssistScheduler fgDefault;
+
+	/**
+	 * Returns the scheduler shared by all content assistants, backed by the executor of this
+	 * plug-in.
+	 *
+	 * @return the shared scheduler
+	 */
+	public static synchronized ContentAssistScheduler getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new ContentAssistScheduler(Activator::getExecutor, DEFAULT_CONCURRENCY_LIMIT, DEFAULT_QUEUE_LIMIT,
+					DEFAULT_BUDGET_MILLIS, DEFAULT_DEPRIORITIZE_THRESHOLD);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Immutable snapshot of the metrics recorded for one key.
+	 */
+	public static final class Statistics {
+		private final int fRunning;
+		private final int fQueued;
+		private final int fMaxQueued;
+		private final long fCompleted;
+		private final long fCancelled;
+		private final long fDropped;
+		private final long fOverBudget;
+		private final long fTotalQueueNanos;
+		private final long fTotalComputeNanos;
+		private final boolean fDeprioritized;
+
+		Statistics(KeyState state) {
+			fRunning= state.running;
+			fQueued= state.queue.size();
+			fMaxQueued= state.maxQueued;
+			fCompleted= state.completed;
+			fCancelled= state.cancelled;
+			fDropped= state.dropped;
+			fOverBudget= state.overBudget;
+			fTotalQueueNanos= state.totalQueueNanos;
+			fTotalComputeNanos= state.totalComputeNanos;
+			fDeprioritized= state.deprioritized;
+		}
+
+		/**
+		 * @return the number of computations currently running
+		 */
+		public int getRunning() {
+			return fRunning;
+		}
+
+		/**
+		 * @return the number of computations currently waiting
+		 */
+		public int getQueued() {
+			return fQueued;
+		}
+
+		/**
+		 * @return the highest number of waiting computations observed, a measure of saturation
+		 */
+		public int getMaxQueued() {
+			return fMaxQueued;
+		}
+
+		/**
+		 * @return the number of computations that ran to completion, normally or exceptionally
+		 */
+		public long getCompleted() {
+			return fCompleted;
+		}
+
+		/**
+		 * @return the number of computations that were cancelled while waiting or running
+		 */
+		public long getCancelled() {
+			return fCancelled;
+		}
+
+		/**
+		 * @return the number of waiting computations that were dropped because the queue was full
+		 */
+		public long getDropped() {
+			return fDropped;
+		}
+
+		/**
+		 * @return the number of computations that exceeded the compute budget
+		 */
+		public long getOverBudget() {
+			return fOverBudget;
+		}
+
+		/**
+		 * @return the average time in milliseconds a computation waited before it started
+		 */
+		public long getAverageQueueMillis() {
+			return fCompleted == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(fTotalQueueNanos / fCompleted);
+		}
+
+		/**
+		 * @return the average time in milliseconds a computation took to run
+		 */
+		public long getAverageComputeMillis() {
+			return fCompleted == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(fTotalComputeNanos / fCompleted);
+		}
+
+		/**
+		 * @return <code>true</code> if the key is currently deprioritized
+		 */
+		public boolean isDeprioritized() {
+			return fDeprioritized;
+		}
+
+		@Override
+		public String toString() {
+			return "running=" + fRunning + ", queued=" + fQueued + ", maxQueued=" + fMaxQueued //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", completed=" + fCompleted + ", cancelled=" + fCancelled + ", dropped=" + fDropped + ", overBudget=" + fOverBudget //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", avgQueueMs=" + getAverageQueueMillis() + ", avgComputeMs=" + getAverageComputeMillis() //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", deprioritized=" + fDeprioritized; //$NON-NLS-1$
+		}
+	}
+
+	private static final class KeyState {
+		final Deque<Task<?>> queue= new ArrayDeque<>();
+		int running;
+		int maxQueued;
+		long completed;
+		long cancelled;
+		long dropped;
+		long overBudget;
+		int consecutiveOverBudget;
+		long totalQueueNanos;
+		long totalComputeNanos;
+		boolean deprioritized;
+	}
+
+	private final class Task<T> implements Runnable {
+		final KeyState fState;
+		final Callable<T> fCallable;
+		final T fDroppedValue;
+		final CompletableFuture<T> fResult= new CompletableFuture<>();
+		final long fEnqueued= System.nanoTime();
+		/** The thread running the computation, protected by this task. */
+		private Thread fThread;
+
+		Task(KeyState state, Callable<T> callable, T droppedValue) {
+			fState= state;
+			fCallable= callable;
+			fDroppedValue= droppedValue;
+		}
+
+		@Override
+		public void run() {
+			long start= System.nanoTime();
+			T result= null;
+			Exception error= null;
+			boolean ran= false;
+			try {
+				synchronized (this) {
+					ran= !fResult.isDone();
+					fThread= ran ? Thread.currentThread() : null;
+				}
+				if (ran) {
+					result= fCallable.call();
+				}
+			} catch (Exception e) {
+				error= e;
+			} finally {
+				synchronized (this) {
+					fThread= null;
+					// an interrupt by a late cancellation must not hit the next task of the thread
+					Thread.interrupted();
+				}
+				// account before completing so that callers observe up to date statistics
+				finished(this, ran, start, System.nanoTime());
+			}
+			if (error != null) {
+				fResult.completeExceptionally(error);
+			} else {
+				fResult.complete(result);
+			}
+		}
+
+		synchronized void interrupt() {
+			if (fThread != null) {
+				fThread.interrupt();
+			}
+		}
+	}
+
+	private final Supplier<? extends ExecutorService> fExecutor;
+	private final int fConcurrencyLimit;
+	private final int fQueueLimit;
+	private final long fBudgetNanos;
+	private final int fDeprioritizeThreshold;
+	private final Map<Object, KeyState> fStates= new WeakHashMap<>();
+
+	/**
+	 * Creates a new scheduler.
+	 *
+	 * @param executor supplies the executor that runs the computations
+	 * @param concurrencyLimit the number of computations a key may run concurrently
+	 * @param queueLimit the number of computations a key may have waiting
+	 * @param budgetMillis the compute time after which a computation is over budget
+	 * @param deprioritizeThreshold the number of consecutive over budget computations after which
+	 *            a key is deprioritized
+	 */
+	public ContentAssistScheduler(Supplier<? extends ExecutorService> executor, int concurrencyLimit, int queueLimit, long budgetMillis, int deprioritizeThreshold) {
+		fExecutor= executor;
+		fConcurrencyLimit= Math.max(1, concurrencyLimit);
+		fQueueLimit= Math.max(1, queueLimit);
+		fBudgetNanos= TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+		fDeprioritizeThreshold= Math.max(1, deprioritizeThreshold);
+	}
+
+	/**
+	 * Submits a computation on behalf of the given key. Cancelling the returned future removes a
+	 * waiting computation or interrupts a running one.
+	 *
+	 * @param key the object the computation is accounted to, typically a content assist processor
+	 * @param callable the computation
+	 * @param droppedValue the value the returned future is completed with if the computation is
+	 *            dropped because newer computations fill the queue
+	 * @return a future completed with the result of the computation
+	 */
+	public <T> CompletableFuture<T> submit(Object key, Callable<T> callable, T droppedValue) {
+		Task<T> task;
+		Task<?> dropped= null;
+		synchronized (this) {
+			KeyState state= fStates.computeIfAbsent(key, k -> new KeyState());
+			task= new Task<>(state, callable, droppedValue);
+			if (state.running < getConcurrencyLimit(state)) {
+				state.running++;
+				start(task);
+			} else {
+				if (state.queue.size() >= getQueueLimit(state)) {
+					dropped= state.queue.pollFirst();
+					state.dropped++;
+				}
+				state.queue.addLast(task);
+				state.maxQueued= Math.max(state.maxQueued, state.queue.size());
+			}
+		}
+		if (dropped != null) {
+			completeDropped(dropped);
+		}
+		task.fResult.whenComplete((r, t) -> {
+			if (task.fResult.isCancelled()) {
+				cancelled(task);
+			}
+		});
+		return task.fResult;
+	}
+
+	private static <T> void completeDropped(Task<T> task) {
+		task.fResult.complete(task.fDroppedValue);
+	}
+
+	/**
+	 * Returns a snapshot of the metrics recorded for the given key.
+	 *
+	 * @param key the key
+	 * @return the statistics, or <code>null</code> if nothing was ever submitted for the key
+	 */
+	public synchronized Statistics getStatistics(Object key) {
+		KeyState state= fStates.get(key);
+		return state == null ? null : new Statistics(state);
+	}
+
+	/**
+	 * Tells whether the given key is currently deprioritized.
+	 *
+	 * @param key the key
+	 * @return <code>true</code> if the key repeatedly exceeded its budget
+	 */
+	public synchronized boolean isDeprioritized(Object key) {
+		KeyState state= fStates.get(key);
+		return state != null && state.deprioritized;
+	}
+
+	private int getConcurrencyLimit(KeyState state) {
+		return state.deprioritized ? 1 : fConcurrencyLimit;
+	}
+
+	private int getQueueLimit(KeyState state) {
+		return state.deprioritized ? 1 : fQueueLimit;
+	}
+
+	/*
+	 * Must be called with the monitor held and the running count already incremented.
+	 */
+	private void start(Task<?> task) {
+		try {
+			fExecutor.get().execute(task);
+		} catch (RejectedExecutionException e) {
+			task.fState.running--;
+			task.fResult.completeExceptionally(e);
+		}
+	}
+
+	private void cancelled(Task<?> task) {
+		synchronized (this) {
+			if (task.fState.queue.remove(task)) {
+				task.fState.cancelled++;
+				return;
+			}
+		}
+		// the task was started, its run method skips the computation if it did not start yet
+		task.interrupt();
+	}
+
+	private void finished(Task<?> task, boolean ran, long start, long end) {
+		KeyState state= task.fState;
+		synchronized (this) {
+			state.running--;
+			if (task.fResult.isDone()) {
+				// cancelled before or while running
+				state.cancelled++;
+			} else {
+				state.completed++;
+				state.totalQueueNanos+= start - task.fEnqueued;
+				state.totalComputeNanos+= end - start;
+			}
+			long computeNanos= end - start;
+			if (!ran) {
+				// nothing to account
+			} else if (computeNanos > fBudgetNanos) {
+				state.overBudget++;
+				if (++state.consecutiveOverBudget >= fDeprioritizeThreshold) {
+					state.deprioritized= true;
+				}
+			} else if (!task.fResult.isCancelled()) {
+				state.consecutiveOverBudget= 0;
+				state.deprioritized= false;
+			}
+			while (state.running < getConcurrencyLimit(state) && !state.queue.isEmpty()) {
+				Task<?> next= state.queue.pollFirst();
+				if (next.fResult.isDone()) {
+					continue;
+				}
+				state.running++;
+				start(next);
+			}
+		}
+	}
+}
@@ -21,6 +21,7 @@ import java.util.stream.Stream;
 import org.eclipse.swt.custom.StyledText;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
@@ -61,6 +62,24 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 	 */
 	private IProgressMonitor fMonitor;
 
+	/**
+	 * The height measured by {@link #getHeight(GC)}, <code>-1</code> if not measured yet. Measuring
+	 * multi-line minings needs a text extent per line, so the height is only measured again when the
+	 * font or the line spacing change, or when the minings are updated or redrawn. The labels of
+	 * the minings only change when they are resolved, which is always followed by a redraw.
+	 */
+	private int fCachedHeight= -1;
+
+	/**
+	 * The font {@link #fCachedHeight} was measured with.
+	 */
+	private Font fCachedHeightFont;
+
+	/**
+	 * The line spacing {@link #fCachedHeight} was measured with.
+	 */
+	private int fCachedHeightLineSpacing;
+
 	/**
 	 * Code mining annotation constructor.
 	 *
@@ -95,7 +114,15 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 	}
 
 	public int getHeight(GC gc) {
-		return hasAtLeastOneResolvedMiningNotEmpty(fMinings, fResolvedMinings) ? getMultilineHeight(gc, fMinings, super.getTextWidget(), super.getHeight()) : 0;
+		StyledText styledText= super.getTextWidget();
+		Font font= gc.getFont();
+		int lineSpacing= styledText.getLineSpacing();
+		if (fCachedHeight == -1 || !font.equals(fCachedHeightFont) || lineSpacing != fCachedHeightLineSpacing) {
+			fCachedHeight= hasAtLeastOneResolvedMiningNotEmpty(fMinings, fResolvedMinings) ? getMultilineHeight(gc, fMinings, styledText, super.getHeight()) : 0;
+			fCachedHeightFont= font;
+			fCachedHeightLineSpacing= lineSpacing;
+		}
+		return fCachedHeight;
 	}
 
 	static int getMultilineHeight(GC gc, List<ICodeMining> minings, StyledText styledText, int superHeight) {
@@ -185,6 +212,7 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 		disposeMinings(fMinings);
 		fMonitor= monitor;
 		fMinings.addAll(minings);
+		fCachedHeight= -1;
 	}
 
 	@Override
@@ -193,6 +221,7 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 		if (deleted) {
 			disposeMinings(fMinings);
 			fResolvedMinings= null;
+			fCachedHeight= -1;
 		}
 	}
 
@@ -265,6 +294,8 @@ public class CodeMiningLineHeaderAnnotation extends LineHeaderAnnotation impleme
 
 	@Override
 	public void redraw() {
+		// the labels may have changed
+		fCachedHeight= -1;
 		// redraw codemining annotation is done only if all current minings are resolved.
 		List<ICodeMining> minings= new ArrayList<>(fMinings);
 		for (ICodeMining mining : minings) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2025 Red Hat Inc. and others.
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,11 +23,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -45,8 +42,8 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jface.contentassist.IContentAssistSubjectControl;
+import org.eclipse.jface.internal.text.ContentAssistScheduler;
 
-import org.eclipse.jface.text.Activator;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
@@ -193,7 +190,10 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		List<CompletableFuture<List<ICompletionProposal>>> computationFutures= buildCompletionFuturesOrJobs(offset);
 		toCancelFutures.addAll(computationFutures);
 		fComputedProposals= Collections.synchronizedList(new ArrayList<>());
-		List<CompletableFuture<Void>> populateFutures= computationFutures.stream().map(future -> future.thenAccept(fComputedProposals::addAll)).collect(Collectors.toList());
+		// a failed computation must still count as done, or the popup would keep computing forever
+		List<CompletableFuture<Void>> populateFutures= computationFutures.stream()
+				.map(future -> future.handle((proposals, error) -> proposals != null ? proposals : Collections.<ICompletionProposal> emptyList()))
+				.map(future -> future.thenAccept(fComputedProposals::addAll)).collect(Collectors.toList());
 		toCancelFutures.addAll(populateFutures);
 		CompletableFuture<?> aggregatedPopulateFuture= CompletableFuture.allOf(populateFutures.toArray(new CompletableFuture[populateFutures.size()]));
 		toCancelFutures.add(aggregatedPopulateFuture);
@@ -379,7 +379,7 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		}
 		List<CompletableFuture<List<ICompletionProposal>>> futures = new ArrayList<>(processors.size());
 		for (IContentAssistProcessor processor : processors) {
-			futures.add(submitInterruptible(() -> {
+			futures.add(ContentAssistScheduler.getDefault().submit(processor, () -> {
 				AtomicReference<List<ICompletionProposal>> result= new AtomicReference<>();
 				SafeRunner.run(() -> {
 					ICompletionProposal[] proposals= processor.computeCompletionProposals(fViewer, invocationOffset);
@@ -396,42 +396,11 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 					return Collections.emptyList();
 				}
 				return proposals;
-			}, Activator.getExecutor()));
+			}, Collections.emptyList()));
 		}
 		return futures;
 	}
 
-	/**
-	 * Submit a task in such a way that it actually reacts to cancellation (i.e. calls to
-	 * {@code future.cancel(true)})
-	 *
-	 * @param executor Do not use the common pool here since that one does not cancel (interrupts)
-	 *            worker threads
-	 * @return an interruptible future.
-	 */
-	private static <T> CompletableFuture<T> submitInterruptible(
-			Callable<T> task, ExecutorService executor) {
-
-		CompletableFuture<T> cf= new CompletableFuture<>();
-
-		Future<?> ft= executor.submit(() -> {
-			try {
-				cf.complete(task.call());
-			} catch (Exception e) {
-				cf.completeExceptionally(e);
-			}
-		});
-
-		// make canceling the CF also cancel the FutureTask
-		cf.whenComplete((r, t) -> {
-			if (cf.isCancelled()) {
-				ft.cancel(true); // this actually interrupts
-			}
-		});
-
-		return cf;
-	}
-
 	private String getTokenContentType(int invocationOffset) throws BadLocationException {
 		if (fContentAssistSubjectControl != null) {
 			IDocument document= fContentAssistSubjectControl.getDocument();
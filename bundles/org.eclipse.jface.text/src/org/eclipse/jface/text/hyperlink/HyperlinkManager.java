@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,11 @@ package org.eclipse.jface.text.hyperlink;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
@@ -34,6 +38,9 @@ import org.eclipse.swt.widgets.Listener;
 
 import org.eclipse.core.runtime.Assert;
 
+import org.eclipse.jface.text.Activator;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextListener;
 import org.eclipse.jface.text.ITextSelection;
@@ -134,6 +141,55 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	private IHyperlinkPresenter fHyperlinkPresenter;
 	/** The detection strategy. */
 	private final DETECTION_STRATEGY fDetectionStrategy;
+	/**
+	 * Tells whether hyperlinks are detected off the UI thread while the mouse moves.
+	 * @since 3.30
+	 */
+	private volatile boolean fIsAsynchronousDetection;
+	/**
+	 * The pending asynchronous detection, or <code>null</code>.
+	 * @since 3.30
+	 */
+	private Future<?> fPendingDetection;
+	/**
+	 * Incremented on every mouse move and deactivation so that stale asynchronous results are
+	 * dropped.
+	 * @since 3.30
+	 */
+	private volatile int fDetectionGeneration;
+	/**
+	 * The recently detected hyperlinks, keyed by offset and state mask, valid for
+	 * {@link #fCacheModificationStamp}. Guarded by itself.
+	 * @since 3.30
+	 */
+	private final Map<Long, IHyperlink[]> fHyperlinkCache= new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, IHyperlink[]> eldest) {
+			return size() > MAX_CACHED_DETECTIONS;
+		}
+	};
+	/**
+	 * The document modification stamp the cached hyperlinks were detected for.
+	 * @since 3.30
+	 */
+	private long fCacheModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	/**
+	 * The last non-empty detection result, reused while the mouse stays inside its regions.
+	 * @since 3.30
+	 */
+	private IHyperlink[] fLastDetected;
+	/**
+	 * The state mask {@link #fLastDetected} was detected for.
+	 * @since 3.30
+	 */
+	private int fLastDetectedStateMask;
+
+	/** Number of detection results kept in the cache. */
+	private static final int MAX_CACHED_DETECTIONS= 64;
+	/** Cache marker for offsets without hyperlinks. */
+	private static final IHyperlink[] NO_HYPERLINKS= new IHyperlink[0];
 
 
 	/**
@@ -198,6 +254,42 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 				fHyperlinkDetectors= hyperlinkDetectors;
 			}
 		}
+		clearCache();
+	}
+
+	/**
+	 * Sets whether hyperlinks are detected asynchronously while the mouse moves with the hyperlink
+	 * modifier held. In this mode the detectors run on a worker thread, a detection still running
+	 * when the mouse moves on is cancelled, and its result is dropped. Clicking and
+	 * {@link #openHyperlink()} still detect synchronously.
+	 * <p>
+	 * Only enable this mode if all installed detectors can be called outside the UI thread, i.e.
+	 * they only access the viewer's document and not its widget.
+	 * </p>
+	 * <p>
+	 * Independently of this mode, detection results are cached per offset and state mask while the
+	 * hyperlink modifier is held and the document's modification stamp does not change.
+	 * </p>
+	 *
+	 * @param asynchronous <code>true</code> to detect hyperlinks off the UI thread on mouse moves
+	 * @since 3.30
+	 */
+	public void setAsynchronousDetection(boolean asynchronous) {
+		fIsAsynchronousDetection= asynchronous;
+		if (!asynchronous) {
+			cancelPendingDetection();
+		}
+	}
+
+	/**
+	 * Returns whether hyperlinks are detected asynchronously on mouse moves.
+	 *
+	 * @return <code>true</code> if detection runs off the UI thread
+	 * @see #setAsynchronousDetection(boolean)
+	 * @since 3.30
+	 */
+	public boolean isAsynchronousDetection() {
+		return fIsAsynchronousDetection;
 	}
 
 	/**
@@ -245,6 +337,9 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	 * Deactivates the currently shown hyperlinks.
 	 */
 	protected void deactivate() {
+		cancelPendingDetection();
+		// detectors may depend on more than the document, only reuse results within one session
+		clearCache();
 		fHyperlinkPresenter.hideHyperlinks();
 		fActive= false;
 	}
@@ -272,26 +367,57 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	 * @since 3.7
 	 */
 	private IHyperlink[] findHyperlinks(IRegion region) {
-		List<IHyperlink> allHyperlinks= new ArrayList<>(fHyperlinkDetectors.length * 2);
-		synchronized (fHyperlinkDetectors) {
-			for (IHyperlinkDetector detector : fHyperlinkDetectors) {
+		int activeStateMask= fActiveHyperlinkStateMask;
+		long stamp= getModificationStamp();
+		IHyperlink[] cached= getCachedHyperlinks(region, activeStateMask, stamp);
+		if (cached != null) {
+			return cached == NO_HYPERLINKS ? null : cached;
+		}
+		IHyperlink[] hyperlinks= detectHyperlinks(region, activeStateMask);
+		cacheHyperlinks(region, activeStateMask, stamp, hyperlinks);
+		return hyperlinks;
+	}
+
+	/**
+	 * Asks the detectors for the hyperlinks in the given region. May be called outside the UI
+	 * thread in asynchronous mode.
+	 *
+	 * @param region the selection region
+	 * @param activeStateMask the active state mask
+	 * @return the array of hyperlinks found or <code>null</code> if none
+	 * @since 3.30
+	 */
+	private IHyperlink[] detectHyperlinks(IRegion region, int activeStateMask) {
+		IHyperlinkDetector[] hyperlinkDetectors= fHyperlinkDetectors;
+		IHyperlinkPresenter hyperlinkPresenter= fHyperlinkPresenter;
+		ITextViewer textViewer= fTextViewer;
+		if (hyperlinkDetectors == null || hyperlinkPresenter == null || textViewer == null) {
+			return null;
+		}
+		List<IHyperlink> allHyperlinks= new ArrayList<>(hyperlinkDetectors.length * 2);
+		synchronized (hyperlinkDetectors) {
+			for (IHyperlinkDetector detector : hyperlinkDetectors) {
 				if (detector == null) {
 					continue;
 				}
+				if (Thread.currentThread().isInterrupted()) {
+					// cancelled asynchronous detection
+					return null;
+				}
 
 				if (detector instanceof IHyperlinkDetectorExtension2) {
 					int stateMask= ((IHyperlinkDetectorExtension2)detector).getStateMask();
-					if (stateMask != -1 && stateMask != fActiveHyperlinkStateMask) {
+					if (stateMask != -1 && stateMask != activeStateMask) {
 						continue;
-					} else if (stateMask == -1 && fActiveHyperlinkStateMask != fHyperlinkStateMask) {
+					} else if (stateMask == -1 && activeStateMask != fHyperlinkStateMask) {
 						continue;
 					}
-				} else if (fActiveHyperlinkStateMask != fHyperlinkStateMask) {
+				} else if (activeStateMask != fHyperlinkStateMask) {
 					continue;
 				}
 
-				boolean canShowMultipleHyperlinks= fHyperlinkPresenter.canShowMultipleHyperlinks();
-				IHyperlink[] hyperlinks= detector.detectHyperlinks(fTextViewer, region, canShowMultipleHyperlinks);
+				boolean canShowMultipleHyperlinks= hyperlinkPresenter.canShowMultipleHyperlinks();
+				IHyperlink[] hyperlinks= detector.detectHyperlinks(textViewer, region, canShowMultipleHyperlinks);
 				if (hyperlinks == null) {
 					continue;
 				}
@@ -331,6 +457,152 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 
 	}
 
+	/**
+	 * Returns the modification stamp of the viewer's document.
+	 *
+	 * @return the modification stamp or {@link IDocumentExtension4#UNKNOWN_MODIFICATION_STAMP} if
+	 *         results cannot be cached
+	 * @since 3.30
+	 */
+	private long getModificationStamp() {
+		ITextViewer textViewer= fTextViewer;
+		IDocument document= textViewer != null ? textViewer.getDocument() : null;
+		if (document instanceof IDocumentExtension4 extension) {
+			return extension.getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	private static Long getCacheKey(IRegion region, int stateMask) {
+		return Long.valueOf(((long) region.getOffset() << 32) | (stateMask & 0xFFFFFFFFL));
+	}
+
+	/**
+	 * Returns the cached hyperlinks for the given region.
+	 *
+	 * @param region the region
+	 * @param stateMask the active state mask
+	 * @param stamp the current modification stamp of the document
+	 * @return the cached hyperlinks, {@link #NO_HYPERLINKS} if there are none, or <code>null</code>
+	 *         if the region is not cached
+	 * @since 3.30
+	 */
+	private IHyperlink[] getCachedHyperlinks(IRegion region, int stateMask, long stamp) {
+		if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || region.getLength() != 0) {
+			return null;
+		}
+		synchronized (fHyperlinkCache) {
+			if (stamp != fCacheModificationStamp) {
+				return null;
+			}
+			IHyperlink[] cached= fHyperlinkCache.get(getCacheKey(region, stateMask));
+			if (cached != null) {
+				return cached;
+			}
+			// the mouse usually stays inside the hyperlink that was just found
+			if (fLastDetected != null && fLastDetectedStateMask == stateMask && containsOffset(fLastDetected, region.getOffset())) {
+				return fLastDetected;
+			}
+			return null;
+		}
+	}
+
+	private static boolean containsOffset(IHyperlink[] hyperlinks, int offset) {
+		for (IHyperlink hyperlink : hyperlinks) {
+			IRegion hyperlinkRegion= hyperlink.getHyperlinkRegion();
+			if (hyperlinkRegion == null || offset < hyperlinkRegion.getOffset() || offset >= hyperlinkRegion.getOffset() + hyperlinkRegion.getLength()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void cacheHyperlinks(IRegion region, int stateMask, long stamp, IHyperlink[] hyperlinks) {
+		if (stamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP || region.getLength() != 0 || stamp != getModificationStamp()) {
+			return;
+		}
+		synchronized (fHyperlinkCache) {
+			if (stamp != fCacheModificationStamp) {
+				fHyperlinkCache.clear();
+				fLastDetected= null;
+				fCacheModificationStamp= stamp;
+			}
+			fHyperlinkCache.put(getCacheKey(region, stateMask), hyperlinks == null ? NO_HYPERLINKS : hyperlinks);
+			if (hyperlinks != null) {
+				fLastDetected= hyperlinks;
+				fLastDetectedStateMask= stateMask;
+			}
+		}
+	}
+
+	private void clearCache() {
+		synchronized (fHyperlinkCache) {
+			fHyperlinkCache.clear();
+			fLastDetected= null;
+			fCacheModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		}
+	}
+
+	/**
+	 * Detects the hyperlinks at the current mouse location on a worker thread and shows them once
+	 * found, unless the mouse has moved or the manager was deactivated in the meantime.
+	 *
+	 * @since 3.30
+	 */
+	private void findHyperlinksAsynchronously() {
+		cancelPendingDetection();
+		int offset= getCurrentTextOffset();
+		if (offset == -1) {
+			fActiveHyperlinks= null;
+			showHyperlinks(false);
+			return;
+		}
+
+		IRegion region= new Region(offset, 0);
+		int activeStateMask= fActiveHyperlinkStateMask;
+		long stamp= getModificationStamp();
+		IHyperlink[] cached= getCachedHyperlinks(region, activeStateMask, stamp);
+		if (cached != null) {
+			fActiveHyperlinks= cached == NO_HYPERLINKS ? null : cached;
+			showHyperlinks(false);
+			return;
+		}
+
+		StyledText text= fTextViewer.getTextWidget();
+		int generation= fDetectionGeneration;
+		try {
+			fPendingDetection= Activator.getExecutor().submit(() -> {
+				IHyperlink[] hyperlinks= detectHyperlinks(region, activeStateMask);
+				if (Thread.currentThread().isInterrupted() || generation != fDetectionGeneration) {
+					return;
+				}
+				cacheHyperlinks(region, activeStateMask, stamp, hyperlinks);
+				if (text.isDisposed()) {
+					return;
+				}
+				text.getDisplay().asyncExec(() -> {
+					if (generation != fDetectionGeneration || !fActive || text.isDisposed() || stamp != getModificationStamp()) {
+						return;
+					}
+					fPendingDetection= null;
+					fActiveHyperlinks= hyperlinks;
+					showHyperlinks(false);
+				});
+			});
+		} catch (RejectedExecutionException e) {
+			fActiveHyperlinks= findHyperlinks(region);
+			showHyperlinks(false);
+		}
+	}
+
+	private void cancelPendingDetection() {
+		fDetectionGeneration++;
+		if (fPendingDetection != null) {
+			fPendingDetection.cancel(true);
+			fPendingDetection= null;
+		}
+	}
+
 	/**
 	 * Computes the length of the longest detected hyperlink.
 	 *
@@ -384,6 +656,7 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 
 	@Override
 	public void mouseDown(MouseEvent event) {
+		cancelPendingDetection();
 
 		if (fHyperlinkPresenter instanceof IHyperlinkPresenterExtension) {
 			if (!((IHyperlinkPresenterExtension)fHyperlinkPresenter).canHideHyperlinks()) {
@@ -471,6 +744,11 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 			return;
 		}
 
+		if (fIsAsynchronousDetection) {
+			findHyperlinksAsynchronously();
+			return;
+		}
+
 		fActiveHyperlinks= findHyperlinks();
 		showHyperlinks(false);
 	}
@@ -517,6 +795,9 @@ public class HyperlinkManager implements ITextListener, Listener, KeyListener, M
 	public void textChanged(TextEvent event) {
 		if (event.getDocumentEvent() != null) {
 			deactivate();
+		} else {
+			// visible region changes do not change the modification stamp
+			clearCache();
 		}
 	}
 
@@ -187,6 +187,12 @@ public class LineNumberChangeRulerColumn extends LineNumberRulerColumn implement
 		}
 	}
 
+	@Override
+	boolean canRepaintDamagedLines() {
+		// revision and diff colors span several lines and are redrawn on their own model changes
+		return !fRevisionPainter.hasInformation() && !fDiffPainter.hasInformation();
+	}
+
 	@Override
 	public IAnnotationHover getHover() {
 		int activeLine= getParentRuler().getLineOfLastMouseButtonActivity();
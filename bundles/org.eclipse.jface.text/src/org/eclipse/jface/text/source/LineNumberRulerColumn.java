@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextListener;
@@ -71,9 +72,16 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 
 			boolean fCachedRedrawState= event.getViewerRedrawState();
 			if (!fCachedRedrawState) {
+				fFullRepaintRequired= true;
 				return;
 			}
 
+			if (fDamageTracking && recordDamage(event)) {
+				// the number of lines did not change, hence neither did the number of digits
+				return;
+			}
+
+			fFullRepaintRequired= true;
 			if (updateNumberOfDigits()) {
 				computeIndentations();
 				layout(event.getViewerRedrawState());
@@ -389,6 +397,26 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 	private int fLastBottomModelLine;
 	/** Last canvas height used. */
 	private int fLastHeight= -1;
+	/**
+	 * Whether only the lines damaged by text changes are repainted.
+	 * @since 3.30
+	 */
+	private boolean fDamageTracking= false;
+	/**
+	 * First damaged model line, <code>-1</code> if there is no pending damage.
+	 * @since 3.30
+	 */
+	private int fDamageStartLine= -1;
+	/**
+	 * Last damaged model line (inclusive).
+	 * @since 3.30
+	 */
+	private int fDamageEndLine= -1;
+	/**
+	 * Whether the next paint has to repaint the whole column regardless of recorded damage.
+	 * @since 3.30
+	 */
+	private boolean fFullRepaintRequired= true;
 	/**
 	 * Redraw runnable lock
 	 * @since 3.0
@@ -482,6 +510,90 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 		return fIndentation[0];
 	}
 
+	/**
+	 * Enables or disables damage tracking. When enabled, a text change that does not change the
+	 * number of lines only repaints the lines it touched and reuses the rest of the double buffer,
+	 * and the number of digits is not recomputed for such a change. Any other change, scrolling,
+	 * resizing or explicit redraw request still repaints the whole column.
+	 * <p>
+	 * Damage tracking is disabled by default. It is worth enabling for large documents where a full
+	 * repaint of the column on every keystroke is noticeable.
+	 * </p>
+	 *
+	 * @param enabled <code>true</code> to repaint only damaged lines
+	 * @since 3.30
+	 */
+	public void setDamageTrackingEnabled(boolean enabled) {
+		fDamageTracking= enabled;
+		fFullRepaintRequired= true;
+	}
+
+	/**
+	 * Returns whether damage tracking is enabled.
+	 *
+	 * @return <code>true</code> if only damaged lines are repainted after a text change
+	 * @see #setDamageTrackingEnabled(boolean)
+	 * @since 3.30
+	 */
+	public boolean isDamageTrackingEnabled() {
+		return fDamageTracking;
+	}
+
+	/**
+	 * Records the model lines touched by the given text event if the event does not change the
+	 * number of lines.
+	 *
+	 * @param event the text event
+	 * @return <code>true</code> if the damage could be recorded, <code>false</code> if the event
+	 *         requires a full repaint
+	 * @since 3.30
+	 */
+	private boolean recordDamage(TextEvent event) {
+		DocumentEvent documentEvent= event.getDocumentEvent();
+		if (documentEvent == null || fCachedNumberOfDigits == -1 || containsLineDelimiter(event.getText())
+				|| event.getReplacedText() == null || containsLineDelimiter(event.getReplacedText())) {
+			return false;
+		}
+		try {
+			int line= documentEvent.getDocument().getLineOfOffset(documentEvent.getOffset());
+			if (fDamageStartLine == -1) {
+				fDamageStartLine= line;
+				fDamageEndLine= line;
+			} else {
+				fDamageStartLine= Math.min(fDamageStartLine, line);
+				fDamageEndLine= Math.max(fDamageEndLine, line);
+			}
+			return true;
+		} catch (BadLocationException e) {
+			return false;
+		}
+	}
+
+	private static boolean containsLineDelimiter(String text) {
+		if (text == null) {
+			return false;
+		}
+		for (int i= 0; i < text.length(); i++) {
+			char c= text.charAt(i);
+			if (c == '\n' || c == '\r') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether the painting of this column for a line only depends on that line, which is a
+	 * precondition for repainting damaged lines only. Subclasses that decorate ranges of lines
+	 * return <code>false</code> while such decorations are shown.
+	 *
+	 * @return <code>true</code> if damaged lines can be repainted in isolation
+	 * @since 3.30
+	 */
+	boolean canRepaintDamagedLines() {
+		return true;
+	}
+
 	/**
 	 * Computes the number of digits to be displayed. Returns
 	 * <code>true</code> if the number of digits changed compared
@@ -517,7 +629,7 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 		int lines= document == null ? 0 : document.getNumberOfLines();
 
 		int digits= 2;
-		while (lines > Math.pow(10, digits) -1) {
+		for (int max= 99; lines > max && digits < 10; max= max * 10 + 9) {
 			++digits;
 		}
 		return digits;
@@ -530,6 +642,7 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 	 * @param redraw <code>true</code> if this column can be redrawn
 	 */
 	protected void layout(boolean redraw) {
+		fFullRepaintRequired= true;
 		if (!redraw) {
 			fRelayoutRequired= true;
 			return;
@@ -630,6 +743,7 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 					fBuffer.dispose();
 					fBuffer= null;
 				}
+				fFullRepaintRequired= true;
 				layout(false);
 			});
 		});
@@ -699,12 +813,60 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 
 		if (fBuffer == null) {
 			newFullBufferImage(visibleLines, size);
-		} else {
+		} else if (!repaintDamagedLines(visibleLines, size)) {
 			doPaint(visibleLines, size);
 		}
+		fDamageStartLine= -1;
+		fDamageEndLine= -1;
+		fFullRepaintRequired= false;
 		dest.drawImage(fBuffer, 0, 0);
 	}
 
+	/**
+	 * Repaints the recorded damaged lines into the existing buffer if nothing else has changed
+	 * since the last paint.
+	 *
+	 * @param visibleLines the visible model lines
+	 * @param size the canvas size, equal to the buffer size
+	 * @return <code>true</code> if the buffer is up to date, <code>false</code> if a full paint is
+	 *         needed
+	 * @since 3.30
+	 */
+	private boolean repaintDamagedLines(ILineRange visibleLines, Point size) {
+		if (!fDamageTracking || fFullRepaintRequired || fDamageStartLine == -1 || !canRepaintDamagedLines()
+				|| fCachedTextWidget.getWordWrap()
+				|| fCachedTextWidget.getTopPixel() != fLastTopPixel
+				|| visibleLines.getStartLine() != fLastTopModelLine
+				|| visibleLines.getNumberOfLines() != fLastNumberOfLines) {
+			return false;
+		}
+		int startLine= Math.max(fDamageStartLine, visibleLines.getStartLine());
+		int endLine= Math.min(fDamageEndLine, end(visibleLines) - 1);
+		if (startLine > endLine) {
+			// all damage is outside the viewport
+			return true;
+		}
+		int startWidgetLine= JFaceTextUtil.modelLineToWidgetLine(fCachedTextViewer, startLine);
+		int endWidgetLine= JFaceTextUtil.modelLineToWidgetLine(fCachedTextViewer, endLine);
+		if (startWidgetLine == -1 || endWidgetLine == -1) {
+			return false;
+		}
+		int top= fCachedTextWidget.getLinePixel(startWidgetLine);
+		int bottom= endWidgetLine + 1 < fCachedTextWidget.getLineCount() ? fCachedTextWidget.getLinePixel(endWidgetLine + 1) : size.y;
+		if (bottom <= top) {
+			return true;
+		}
+		GC bufferGC= new GC(fBuffer);
+		try {
+			bufferGC.setClipping(0, top, size.x, bottom - top);
+			initializeGC(bufferGC, 0, top, size.x, bottom - top);
+			doPaint(bufferGC, new LineRange(startLine, endLine - startLine + 1));
+		} finally {
+			bufferGC.dispose();
+		}
+		return true;
+	}
+
 	private void newFullBufferImage(ILineRange visibleLines, Point size) {
 		ImageGcDrawer imageGcDrawer= (gc, imageWidth, imageHeight) -> {
 			// We redraw everything; paint directly into the buffer
@@ -969,6 +1131,7 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 	 * @since 3.0
 	 */
 	protected final void postRedraw() {
+		fFullRepaintRequired= true;
 		if (fCanvas != null && !fCanvas.isDisposed()) {
 			Display d= fCanvas.getDisplay();
 			if (d != null) {
@@ -1014,6 +1177,7 @@ public class LineNumberRulerColumn implements IVerticalRulerColumn {
 	@Override
 	public void setFont(Font font) {
 		fFont= font;
+		fFullRepaintRequired= true;
 		if (fCanvas != null && !fCanvas.isDisposed()) {
 			fCanvas.setFont(fFont);
 			updateNumberOfDigits();
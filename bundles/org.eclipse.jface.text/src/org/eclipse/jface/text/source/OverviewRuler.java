@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,12 @@
 package org.eclipse.jface.text.source;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -45,6 +48,7 @@ import org.eclipse.swt.widgets.ScrollBar;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextListener;
 import org.eclipse.jface.text.ITextViewer;
@@ -83,12 +87,14 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 		public void textChanged(TextEvent e) {
 			if (fTextViewer != null && e.getDocumentEvent() == null && e.getViewerRedrawState()) {
 				// handle only changes of visible document
+				fAreCachedRowsValid= false;
 				redraw();
 			}
 		}
 
 		@Override
 		public void modelChanged(IAnnotationModel model) {
+			invalidateAnnotationCache();
 			update();
 		}
 
@@ -99,10 +105,19 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 			}
 
 			if (event.isWorldChange()) {
+				invalidateAnnotationCache();
 				update();
 				return;
 			}
 
+			synchronized (fPendingEvents) {
+				if (fPendingEvents.size() < MAX_PENDING_EVENTS) {
+					fPendingEvents.add(event);
+				} else {
+					fIsAnnotationCacheValid= false;
+				}
+			}
+
 			Annotation[] annotations= event.getAddedAnnotations();
 			int length= annotations.length;
 			for (int i= 0; i < length; i++) {
@@ -196,7 +211,7 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 
 				fNext= next;
 				Object annotationType= next.getType();
-				if (fType == null || fType.equals(annotationType) || !fConfiguredAnnotationTypes.contains(annotationType) && isSubtype(annotationType)) {
+				if (fType == null || isOfType(annotationType, fType)) {
 					if (temp && pers) {
 						return;
 					}
@@ -211,13 +226,6 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 			fNext= null;
 		}
 
-		private boolean isSubtype(Object annotationType) {
-			if (fAnnotationAccess instanceof IAnnotationAccessExtension extension) {
-				return extension.isSubtype(annotationType, fType);
-			}
-			return fType.equals(annotationType);
-		}
-
 		@Override
 		public boolean hasNext() {
 			return fNext != null;
@@ -394,6 +402,19 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 			visibleLines= bottomIndex - topIndex;
 			invisibleLines= maxLines - visibleLines;
 		}
+
+		/**
+		 * Tells whether lines are mapped to the same ruler rows as with the given infos.
+		 *
+		 * @param other the infos to compare with, may be <code>null</code>
+		 * @return <code>true</code> if {@link OverviewRuler#computeY(int, WidgetInfos)} returns the
+		 *         same values for both infos
+		 * @since 3.30
+		 */
+		boolean hasSameGeometry(WidgetInfos other) {
+			return other != null && maxLines == other.maxLines && thumbHeight == other.thumbHeight
+					&& visibleLines == other.visibleLines && writable == other.writable && bounds.equals(other.bounds);
+		}
 	}
 
 	private static final boolean DEBUG_DRAW= false;
@@ -401,6 +422,11 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 	private static final boolean DEBUG_TO_DOCUMENT_LINE_NUMBER= false;
 
 	private static final int INSET= 2;
+	/**
+	 * Number of annotation model events buffered before the annotation cache is rebuilt instead.
+	 * @since 3.30
+	 */
+	private static final int MAX_PENDING_EVENTS= 64;
 	private static final int ANNOTATION_HEIGHT= 4;
 	private static boolean ANNOTATION_HEIGHT_SCALABLE= true;
 
@@ -472,10 +498,52 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 	 */
 	private final Map<Object, Boolean> fAllowedHeaderAnnotationTypes= new HashMap<>();
 	/**
-	 * The cached annotations.
+	 * The cached annotations. Maintained incrementally from annotation model events and only
+	 * accessed in the UI thread.
 	 * @since 3.0
 	 */
-	private final List<Annotation> fCachedAnnotations= new ArrayList<>();
+	private final Set<Annotation> fCachedAnnotations= new LinkedHashSet<>();
+	/**
+	 * The cached annotations grouped by the layered annotation types they are drawn for. An
+	 * annotation is contained in the set of each type it is painted with.
+	 * @since 3.30
+	 */
+	private final Map<Object, Set<Annotation>> fCachedAnnotationsByType= new HashMap<>();
+	/**
+	 * Tells whether the annotation cache reflects the model, up to {@link #fPendingEvents}.
+	 * Guarded by {@link #fPendingEvents}.
+	 * @since 3.30
+	 */
+	private boolean fIsAnnotationCacheValid= false;
+	/**
+	 * Annotation model events not yet applied to the annotation cache.
+	 * @since 3.30
+	 */
+	private final List<AnnotationModelEvent> fPendingEvents= new ArrayList<>();
+	/**
+	 * The ruler rows covered by the cached annotations of each layered annotation type, for
+	 * persistent and for temporary annotations, as pairs of y coordinate and height. Rebuilt only
+	 * when the annotations, the document or the geometry of the ruler change, so that a repaint is
+	 * bounded by the ruler height rather than the number of annotations. Only accessed in the UI
+	 * thread.
+	 * @since 3.30
+	 */
+	private final Map<Object, int[][]> fCachedRows= new HashMap<>();
+	/**
+	 * Tells whether {@link #fCachedRows} reflects the annotation cache.
+	 * @since 3.30
+	 */
+	private boolean fAreCachedRowsValid= false;
+	/**
+	 * The widget infos {@link #fCachedRows} was computed with.
+	 * @since 3.30
+	 */
+	private WidgetInfos fCachedRowsInfos;
+	/**
+	 * The modification stamp of the document {@link #fCachedRows} was computed with.
+	 * @since 3.30
+	 */
+	private long fCachedRowsStamp;
 
 	/**
 	 * Redraw runnable lock
@@ -566,6 +634,7 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 			}
 
 			fModel= model;
+			invalidateAnnotationCache();
 
 			if (fModel != null) {
 				fModel.addAnnotationModelListener(fInternalListener);
@@ -676,6 +745,11 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 		fAnnotationTypes2Colors.clear();
 		fAnnotationsSortedByLayer.clear();
 		fLayersSortedByLayer.clear();
+		invalidateAnnotationCache();
+		fCachedAnnotations.clear();
+		fCachedAnnotationsByType.clear();
+		fCachedRows.clear();
+		fCachedRowsInfos= null;
 	}
 
 	/**
@@ -716,31 +790,118 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 		gc.setBackground(fCanvas.getBackground());
 		gc.fillRectangle(0, 0, width, height);
 
-		cacheAnnotations();
+		if (cacheAnnotations()) {
+			fAreCachedRowsValid= false;
+		}
 
 		doPaint(gc);
 	}
 
-	private void cacheAnnotations() {
-		fCachedAnnotations.clear();
-		if (fModel != null) {
-			Iterator<Annotation> iter= fModel.getAnnotationIterator();
-			while (iter.hasNext()) {
-				Annotation annotation= iter.next();
+	/**
+	 * Marks the annotation cache as stale so that it is rebuilt from the model on the next paint.
+	 *
+	 * @since 3.30
+	 */
+	private void invalidateAnnotationCache() {
+		synchronized (fPendingEvents) {
+			fIsAnnotationCacheValid= false;
+			fPendingEvents.clear();
+		}
+	}
 
-				if (annotation.isMarkedDeleted()) {
-					continue;
+	/**
+	 * Brings the annotation cache up to date, either by applying the pending annotation model
+	 * events or by rebuilding it from the model.
+	 *
+	 * @return <code>true</code> if the annotation cache was changed
+	 */
+	private boolean cacheAnnotations() {
+		List<AnnotationModelEvent> events;
+		synchronized (fPendingEvents) {
+			if (fIsAnnotationCacheValid) {
+				if (fPendingEvents.isEmpty()) {
+					return false;
 				}
+				events= new ArrayList<>(fPendingEvents);
+			} else {
+				events= null;
+				fIsAnnotationCacheValid= true;
+			}
+			fPendingEvents.clear();
+		}
 
-				if (skip(annotation.getType())) {
-					continue;
+		if (events == null) {
+			fCachedAnnotations.clear();
+			fCachedAnnotationsByType.clear();
+			if (fModel != null) {
+				Iterator<Annotation> iter= fModel.getAnnotationIterator();
+				while (iter.hasNext()) {
+					addToAnnotationCache(iter.next());
 				}
+			}
+			return true;
+		}
 
-				fCachedAnnotations.add(annotation);
+		for (AnnotationModelEvent event : events) {
+			for (Annotation annotation : event.getRemovedAnnotations()) {
+				removeFromAnnotationCache(annotation);
+			}
+			for (Annotation annotation : event.getChangedAnnotations()) {
+				// the type may have changed
+				removeFromAnnotationCache(annotation);
+				addToAnnotationCache(annotation);
+			}
+			for (Annotation annotation : event.getAddedAnnotations()) {
+				addToAnnotationCache(annotation);
+			}
+		}
+		return true;
+	}
+
+	private void addToAnnotationCache(Annotation annotation) {
+		// deleted annotations are kept since they may be restored without an event; they are skipped when painting
+		Object annotationType= annotation.getType();
+		if (skip(annotationType) || !fCachedAnnotations.add(annotation)) {
+			return;
+		}
+
+		for (Object type : fAnnotationsSortedByLayer) {
+			if (isOfType(annotationType, type)) {
+				fCachedAnnotationsByType.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(annotation);
+			}
+		}
+	}
+
+	private void removeFromAnnotationCache(Annotation annotation) {
+		if (fCachedAnnotations.remove(annotation)) {
+			for (Set<Annotation> annotations : fCachedAnnotationsByType.values()) {
+				annotations.remove(annotation);
 			}
 		}
 	}
 
+	/**
+	 * Tells whether annotations of the given annotation type are drawn for the given layered type.
+	 *
+	 * @param annotationType the type of an annotation
+	 * @param type the layered annotation type
+	 * @return <code>true</code> if the types are equal, or if the annotation type is not configured
+	 *         itself and is a subtype of the layered type
+	 * @since 3.30
+	 */
+	private boolean isOfType(Object annotationType, Object type) {
+		if (type.equals(annotationType)) {
+			return true;
+		}
+		if (fConfiguredAnnotationTypes.contains(annotationType)) {
+			return false;
+		}
+		if (fAnnotationAccess instanceof IAnnotationAccessExtension extension) {
+			return extension.isSubtype(annotationType, type);
+		}
+		return false;
+	}
+
 	/**
 	 * Draws this overview ruler.
 	 *
@@ -749,111 +910,56 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 	private void doPaint(GC gc) {
 
 		Rectangle r= new Rectangle(0, 0, 0, 0);
-		int yy, hh= ANNOTATION_HEIGHT;
+		int yy;
 
-		IDocument document= fTextViewer.getDocument();
 		StyledText textWidget= fTextViewer.getTextWidget();
-		ITextViewerExtension5 extension= null;
-		IRegion visible= null;
-		if (fTextViewer instanceof ITextViewerExtension5) {
-			extension= (ITextViewerExtension5) fTextViewer;
-		} else {
-			visible= fTextViewer.getVisibleRegion(); // legacy support
-		}
-
 		WidgetInfos infos= null;
 
+		if (!fCachedAnnotations.isEmpty()) {
+			infos= new WidgetInfos(textWidget, fCanvas);
+			r.x= INSET;
+			r.width= infos.bounds.width - (2 * INSET);
+			cacheRows(infos);
+		}
+
+		int[] style= new int[] { FilterIterator.PERSISTENT, FilterIterator.TEMPORARY };
 		for (Object annotationType : fAnnotationsSortedByLayer) {
-			if (skip(annotationType)) {
+			if (infos == null || skip(annotationType)) {
 				continue;
 			}
 
-			int[] style= new int[] { FilterIterator.PERSISTENT, FilterIterator.TEMPORARY };
-			for (int element : style) {
-				boolean areColorsComputed= false;
-				Color fill= null;
-				Color stroke= null;
-
-				Iterator<Annotation> e= new FilterIterator(annotationType, element, fCachedAnnotations.iterator());
-				while (e.hasNext()) {
-					Annotation a= e.next();
-					Position p= fModel.getPosition(a);
+			int[][] rowsByStyle= fCachedRows.get(annotationType);
+			if (rowsByStyle == null) {
+				continue;
+			}
 
-					if (p == null) {
-						continue;
-					}
-					if (visible != null && !p.overlapsWith(visible.getOffset(), visible.getLength())) {
-						continue;
-					}
+			for (int i= 0; i < style.length; i++) {
+				int[] rows= rowsByStyle[i];
+				if (rows.length == 0) {
+					continue;
+				}
 
-					int annotationOffset= p.getOffset();
-					int annotationLength= p.getLength();
-					IRegion widgetRegion= null;
-					if (visible != null) {
-						annotationOffset= Math.max(p.getOffset(), visible.getOffset());
-						int annotationEnd= Math.min(p.getOffset() + p.getLength(), visible.getOffset() + visible.getLength());
-						annotationLength= annotationEnd - annotationOffset;
-					} else {
-						ITextViewerExtension5 ext= extension;
-						widgetRegion= ext.modelRange2WidgetRange(new Region(annotationOffset, annotationLength));
-						if (widgetRegion == null) {
-							continue;
-						}
-					}
+				boolean temporary= style[i] == FilterIterator.TEMPORARY;
+				Color stroke= getStrokeColor(annotationType, temporary);
+				Color fill= fUseSaturatedColors ? stroke : getFillColor(annotationType, temporary);
+				for (int j= 0; j < rows.length; j+= 2) {
+					yy= rows[j];
+					int hh= rows[j + 1];
 
-					if (infos == null) {
-						infos= new WidgetInfos(textWidget, fCanvas);
-						r.x= INSET;
-						r.width= infos.bounds.width - (2 * INSET);
+					if (fill != null) {
+						gc.setBackground(fill);
+						gc.fillRectangle(INSET, yy, infos.bounds.width-(2*INSET), hh);
 					}
 
-					try {
-						@SuppressWarnings("null")
-						int startOffset= visible != null ? annotationOffset - visible.getOffset() : widgetRegion.getOffset();
-						int startLine= textWidget.getLineAtOffset(startOffset);
-
-						yy= computeY(startLine, infos);
-
-						if (ANNOTATION_HEIGHT_SCALABLE) {
-							int numberOfLines= document.getNumberOfLines(annotationOffset, annotationLength);
-							// don't count empty trailing line
-							IRegion lastLine= document.getLineInformationOfOffset(annotationOffset + annotationLength);
-							if (lastLine.getOffset() == annotationOffset + annotationLength) {
-								numberOfLines--;
-							}
-							if (numberOfLines > 1) {
-								int yy2= computeY(startLine + numberOfLines - 1, infos);
-								hh= Math.max(yy2 - yy, ANNOTATION_HEIGHT);
-							} else {
-								hh= ANNOTATION_HEIGHT;
-							}
-						}
-						fAnnotationHeight= hh;
-
-						if (!areColorsComputed) {
-							stroke= getStrokeColor(annotationType, element == FilterIterator.TEMPORARY);
-							fill= fUseSaturatedColors ? stroke : getFillColor(annotationType, element == FilterIterator.TEMPORARY);
-							areColorsComputed= true;
-						}
-
-						if (fill != null) {
-							gc.setBackground(fill);
-							gc.fillRectangle(INSET, yy, infos.bounds.width-(2*INSET), hh);
+					if (stroke != null) {
+						gc.setForeground(stroke);
+						r.y= yy;
+						if (yy + hh == infos.bounds.height) {
+							r.y--;
 						}
-
-						if (stroke != null) {
-							gc.setForeground(stroke);
-							r.y= yy;
-							if (yy + hh == infos.bounds.height) {
-								r.y--;
-							}
-							r.height= hh;
-							gc.setLineWidth(0); // NOTE: 0 means width is 1 but with optimized performance
-							gc.drawRectangle(r);
-						}
-					} catch (BadLocationException | IllegalArgumentException x) {
-						// We don't care if the widget's content is changed since the annotation was created
-						// and do not match the annotation line/offset etc
+						r.height= hh;
+						gc.setLineWidth(0); // NOTE: 0 means width is 1 but with optimized performance
+						gc.drawRectangle(r);
 					}
 				}
 			}
@@ -878,6 +984,141 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 		}
 	}
 
+	/**
+	 * Brings {@link #fCachedRows} up to date with the annotation cache, the document and the given
+	 * widget infos.
+	 *
+	 * @param infos the current widget infos
+	 * @since 3.30
+	 */
+	private void cacheRows(WidgetInfos infos) {
+		IDocument document= fTextViewer.getDocument();
+		long stamp= document instanceof IDocumentExtension4 extension4 ? extension4.getModificationStamp() : IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		if (fAreCachedRowsValid && stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && stamp == fCachedRowsStamp && infos.hasSameGeometry(fCachedRowsInfos)) {
+			return;
+		}
+		fCachedRows.clear();
+		fAreCachedRowsValid= true;
+		fCachedRowsStamp= stamp;
+		fCachedRowsInfos= infos;
+
+		for (Object annotationType : fAnnotationsSortedByLayer) {
+			if (skip(annotationType)) {
+				continue;
+			}
+			Set<Annotation> annotations= fCachedAnnotationsByType.get(annotationType);
+			if (annotations == null || annotations.isEmpty()) {
+				continue;
+			}
+			int[][] rowsByStyle= new int[][] { computeRows(annotations, true, document, infos), computeRows(annotations, false, document, infos) };
+			if (rowsByStyle[0].length > 0 || rowsByStyle[1].length > 0) {
+				fCachedRows.put(annotationType, rowsByStyle);
+			}
+		}
+	}
+
+	/**
+	 * Computes the ruler rows covered by the given annotations. Annotations mapped to the same rows
+	 * yield a single entry.
+	 *
+	 * @param annotations the annotations of one layered type
+	 * @param persistent whether to compute the rows of the persistent or the temporary annotations
+	 * @param document the document
+	 * @param infos the widget infos
+	 * @return pairs of y coordinate and height
+	 * @since 3.30
+	 */
+	private int[] computeRows(Set<Annotation> annotations, boolean persistent, IDocument document, WidgetInfos infos) {
+		StyledText textWidget= fTextViewer.getTextWidget();
+		ITextViewerExtension5 extension= null;
+		IRegion visible= null;
+		if (fTextViewer instanceof ITextViewerExtension5) {
+			extension= (ITextViewerExtension5) fTextViewer;
+		} else {
+			visible= fTextViewer.getVisibleRegion(); // legacy support
+		}
+
+		int[] rows= new int[16];
+		int size= 0;
+		// the rows already covered by a single line annotation
+		BitSet painted= new BitSet();
+		// the y coordinates and heights already covered by a multi-line annotation
+		Set<Long> paintedRanges= new HashSet<>();
+		int hh= ANNOTATION_HEIGHT;
+
+		for (Annotation a : annotations) {
+			if (a.isMarkedDeleted() || a.isPersistent() != persistent) {
+				continue;
+			}
+			Position p= fModel.getPosition(a);
+
+			if (p == null) {
+				continue;
+			}
+			if (visible != null && !p.overlapsWith(visible.getOffset(), visible.getLength())) {
+				continue;
+			}
+
+			int annotationOffset= p.getOffset();
+			int annotationLength= p.getLength();
+			IRegion widgetRegion= null;
+			if (visible != null) {
+				annotationOffset= Math.max(p.getOffset(), visible.getOffset());
+				int annotationEnd= Math.min(p.getOffset() + p.getLength(), visible.getOffset() + visible.getLength());
+				annotationLength= annotationEnd - annotationOffset;
+			} else {
+				ITextViewerExtension5 ext= extension;
+				widgetRegion= ext.modelRange2WidgetRange(new Region(annotationOffset, annotationLength));
+				if (widgetRegion == null) {
+					continue;
+				}
+			}
+
+			try {
+				@SuppressWarnings("null")
+				int startOffset= visible != null ? annotationOffset - visible.getOffset() : widgetRegion.getOffset();
+				int startLine= textWidget.getLineAtOffset(startOffset);
+
+				int yy= computeY(startLine, infos);
+
+				if (ANNOTATION_HEIGHT_SCALABLE) {
+					int numberOfLines= document.getNumberOfLines(annotationOffset, annotationLength);
+					// don't count empty trailing line
+					IRegion lastLine= document.getLineInformationOfOffset(annotationOffset + annotationLength);
+					if (lastLine.getOffset() == annotationOffset + annotationLength) {
+						numberOfLines--;
+					}
+					if (numberOfLines > 1) {
+						int yy2= computeY(startLine + numberOfLines - 1, infos);
+						hh= Math.max(yy2 - yy, ANNOTATION_HEIGHT);
+					} else {
+						hh= ANNOTATION_HEIGHT;
+					}
+				}
+				fAnnotationHeight= hh;
+
+				if (hh == ANNOTATION_HEIGHT) {
+					if (painted.get(yy)) {
+						continue;
+					}
+					painted.set(yy);
+				} else if (!paintedRanges.add(Long.valueOf(((long) yy << 32) | hh))) {
+					continue;
+				}
+
+				if (size + 2 > rows.length) {
+					rows= Arrays.copyOf(rows, rows.length * 2);
+				}
+				rows[size++]= yy;
+				rows[size++]= hh;
+			} catch (BadLocationException | IllegalArgumentException x) {
+				// We don't care if the widget's content is changed since the annotation was created
+				// and do not match the annotation line/offset etc
+			}
+		}
+		return Arrays.copyOf(rows, size);
+	}
+
 	/**
 	 * Computes and returns the y location of the given startLine.
 	 *
@@ -1222,6 +1463,7 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 			fConfiguredAnnotationTypes.add(annotationType);
 			fAllowedAnnotationTypes.clear();
 		}
+		invalidateAnnotationCache();
 	}
 
 	@Override
@@ -1230,10 +1472,12 @@ public class OverviewRuler implements IOverviewRulerExtension, IOverviewRuler {
 			fConfiguredAnnotationTypes.remove(annotationType);
 			fAllowedAnnotationTypes.clear();
 		}
+		invalidateAnnotationCache();
 	}
 
 	@Override
 	public void setAnnotationTypeLayer(Object annotationType, int layer) {
+		invalidateAnnotationCache();
 		int j= fAnnotationsSortedByLayer.indexOf(annotationType);
 		if (j != -1) {
 			fAnnotationsSortedByLayer.remove(j);
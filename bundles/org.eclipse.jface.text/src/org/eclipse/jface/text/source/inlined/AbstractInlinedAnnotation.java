@@ -154,6 +154,11 @@ public abstract class AbstractInlinedAnnotation extends Annotation {
 			try {
 				Position pos= getPosition();
 				int offset= pos.getOffset();
+				if (support != null && !isMarkedDeleted() && !pos.isDeleted() && support.isOutsideVisibleLines(offset)) {
+					// outside of the viewport the annotation is measured and laid out once it is painted,
+					// without information about the viewport it is redrawn right away
+					return;
+				}
 				ISourceViewer viewer= getViewer();
 				if (viewer instanceof ITextViewerExtension5) {
 					// adjust offset according folded content
@@ -549,8 +549,12 @@ public class InlinedAnnotationSupport {
 	private AbstractInlinedAnnotation getInlinedAnnotationAtPoint(int x, int y) {
 		if (fInlinedAnnotations != null) {
 			for (AbstractInlinedAnnotation ann : fInlinedAnnotations) {
+				// check visibility first, measuring annotations outside the viewport is expensive
+				if (!isInVisibleLines(ann.getPosition().getOffset())) {
+					continue;
+				}
 				ann.setSupport(this);
-				if (ann.contains(x, y) && isInVisibleLines(ann.getPosition().getOffset())) {
+				if (ann.contains(x, y)) {
 					return ann;
 				}
 			}
@@ -573,6 +577,17 @@ public class InlinedAnnotationSupport {
 		return visibleLines.isInVisibleLines(documentOffset);
 	}
 
+	/**
+	 * Returns whether the given offset is known to be outside of the visible lines.
+	 *
+	 * @param documentOffset the document offset
+	 * @return <code>true</code> if the visible lines are tracked and do not contain the offset,
+	 *         <code>false</code> if they contain it or the support has been uninstalled
+	 */
+	boolean isOutsideVisibleLines(int documentOffset) {
+		return visibleLines != null && !visibleLines.isInVisibleLines(documentOffset);
+	}
+
 
 	/**
 	 * Returns the font according the specified <code>style</code> that the receiver will use to
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat Inc and others.
+ * Copyright (c) 2023, 2026 Red Hat Inc and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.search.internal.core.text.DirtyFileProvider;
 import org.eclipse.search.internal.core.text.TextSearchEngineRegistry;
+import org.eclipse.search.internal.core.text.TrigramIndex;
 
 public class SearchCorePlugin extends Plugin {
 	/**
@@ -30,12 +31,15 @@ public class SearchCorePlugin extends Plugin {
 	public static final String PLUGIN_ID = "org.eclipse.search.core"; //$NON-NLS-1$
 	/** Status code describing an internal error */
 	public static final int INTERNAL_ERROR = 1;
+	/** Name of the file in the state location storing the trigram index */
+	private static final String TRIGRAM_INDEX_FILE = "trigram.index"; //$NON-NLS-1$
 
 	private static SearchCorePlugin fgSearchPlugin;
 
 	private TextSearchEngineRegistry fTextSearchEngineRegistry;
 	private DirtyFileProvider fDirtyFileSearchParticipant;
 	private DirtyFileSearchParticipantServiceTracker fDirtyFileSearchParticipantTracker;
+	private TrigramIndex fTrigramIndex;
 
 	/**
 	 * @return Returns the search plugin instance.
@@ -58,7 +62,12 @@ public class SearchCorePlugin extends Plugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
-		// do nothing
+		synchronized (this) {
+			if (fTrigramIndex != null) {
+				fTrigramIndex.shutdown();
+				fTrigramIndex = null;
+			}
+		}
 	}
 
 	public TextSearchEngineRegistry getTextSearchEngineRegistry() {
@@ -68,6 +77,19 @@ public class SearchCorePlugin extends Plugin {
 		return fTextSearchEngineRegistry;
 	}
 
+	/**
+	 * Returns the trigram index of the workspace files, loading it on first access.
+	 *
+	 * @return the trigram index
+	 */
+	public synchronized TrigramIndex getTrigramIndex() {
+		if (fTrigramIndex == null) {
+			fTrigramIndex = new TrigramIndex(getStateLocation().append(TRIGRAM_INDEX_FILE).toFile());
+			fTrigramIndex.startup();
+		}
+		return fTrigramIndex;
+	}
+
 	public DirtyFileProvider getDirtyFileDiscovery() {
 		if (fDirtyFileSearchParticipant == null) {
 			this.fDirtyFileSearchParticipantTracker.open();
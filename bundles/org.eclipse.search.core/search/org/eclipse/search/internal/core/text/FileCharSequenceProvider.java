@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -497,21 +498,36 @@ public class FileCharSequenceProvider {
 			if (length >= MAX_BUFFER_LENGTH) {
 				return null;
 			}
-			String charset = file.getCharset();
-			int offset = 0;
-			if (StandardCharsets.UTF_8.name().equals(charset)) {
-				if (startsWith(content, IContentDescription.BOM_UTF_8)) {
-					offset = IContentDescription.BOM_UTF_8.length;
-				}
-			}
-			return new String(content, offset, length - offset, charset);
+			return decode(file, content, length);
 		} catch (Exception e) {
 			return null;
 		}
 	}
 
-	private static boolean startsWith(byte[] a, byte[] start) {
-		if (a.length < start.length) {
+	/**
+	 * Decodes the first bytes of the given array, the content of the file, with the file's charset.
+	 * A UTF-8 byte order mark is skipped.
+	 *
+	 * @param file the file
+	 * @param content the content of the file
+	 * @param length the number of bytes of the content
+	 * @return the decoded content
+	 * @throws CoreException if the charset of the file cannot be determined
+	 * @throws UnsupportedEncodingException if the charset is not supported
+	 */
+	public static String decode(IFile file, byte[] content, int length) throws CoreException, UnsupportedEncodingException {
+		String charset = file.getCharset();
+		int offset = 0;
+		if (StandardCharsets.UTF_8.name().equals(charset)) {
+			if (startsWith(content, length, IContentDescription.BOM_UTF_8)) {
+				offset = IContentDescription.BOM_UTF_8.length;
+			}
+		}
+		return new String(content, offset, length - offset, charset);
+	}
+
+	private static boolean startsWith(byte[] a, int length, byte[] start) {
+		if (length < start.length) {
 			return false;
 		}
 		for (int i = 0; i < start.length; i++) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,7 +39,7 @@ public class FileNamePatternSearchScope extends TextSearchScope {
 	 * @return a scope for the given resources.
 	 */
 	public static FileNamePatternSearchScope newSearchScope(String description, IResource[] resources, boolean includeDerived) {
-		return new FileNamePatternSearchScope(description, removeRedundantEntries(resources, includeDerived), includeDerived);
+		return FilesOfScopeCalculator.markEvaluated(new FileNamePatternSearchScope(description, removeRedundantEntries(resources, includeDerived), includeDerived));
 	}
 
 	private static final boolean IS_CASE_SENSITIVE_FILESYSTEM = !new File("Temp").equals(new File("temp")); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,13 @@
 package org.eclipse.search.internal.core.text;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.MultiStatus;
 
 import org.eclipse.core.resources.IFile;
@@ -27,9 +32,39 @@ import org.eclipse.search.core.text.TextSearchScope;
 
 public class FilesOfScopeCalculator implements IResourceProxyVisitor {
 
+	/** Scopes whose files are the files found by a calculator, see {@link #markEvaluated(TextSearchScope)}. */
+	private static final Map<TextSearchScope, Boolean> fgEvaluatedScopes= Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Marks the given scope as one whose files are the files found by a calculator, i.e. whose
+	 * class does not override {@link TextSearchScope#evaluateFilesInScope(MultiStatus)}. Called by
+	 * the factories of such scopes, so that a search can process the files as soon as they are
+	 * found.
+	 *
+	 * @param <T> the type of the scope
+	 * @param scope the scope
+	 * @return the scope
+	 */
+	public static <T extends TextSearchScope> T markEvaluated(T scope) {
+		fgEvaluatedScopes.put(scope, Boolean.TRUE);
+		return scope;
+	}
+
+	/**
+	 * Tells whether the files of the given scope are the files found by a calculator.
+	 *
+	 * @param scope the scope
+	 * @return <code>true</code> if the scope was marked by its factory
+	 * @see #markEvaluated(TextSearchScope)
+	 */
+	public static boolean isEvaluated(TextSearchScope scope) {
+		return fgEvaluatedScopes.containsKey(scope);
+	}
+
 	private final TextSearchScope fScope;
 	private final MultiStatus fStatus;
-	private ArrayList<IResource> fFiles;
+	private Consumer<IFile> fRequestor;
+	private IProgressMonitor fMonitor;
 
 	public FilesOfScopeCalculator(TextSearchScope scope, MultiStatus status) {
 		fScope= scope;
@@ -38,16 +73,33 @@ public class FilesOfScopeCalculator implements IResourceProxyVisitor {
 
 	@Override
 	public boolean visit(IResourceProxy proxy) {
+		if (fMonitor != null && fMonitor.isCanceled()) {
+			return false;
+		}
 		boolean inScope= fScope.contains(proxy);
 
 		if (inScope && proxy.getType() == IResource.FILE) {
-			fFiles.add(proxy.requestResource());
+			fRequestor.accept((IFile) proxy.requestResource());
 		}
 		return inScope;
 	}
 
 	public IFile[] process() {
-		fFiles= new ArrayList<>();
+		ArrayList<IFile> files= new ArrayList<>();
+		process(files::add, null);
+		return files.toArray(new IFile[files.size()]);
+	}
+
+	/**
+	 * Passes the files in the scope to the requestor as soon as they are found, so that the
+	 * caller can start working on them while the rest of the scope is evaluated.
+	 *
+	 * @param requestor receives the files in the scope
+	 * @param monitor stops the evaluation when canceled, can be <code>null</code>
+	 */
+	public void process(Consumer<IFile> requestor, IProgressMonitor monitor) {
+		fRequestor= requestor;
+		fMonitor= monitor;
 		try {
 			IResource[] roots= fScope.getRoots();
 			for (IResource resource : roots) {
@@ -60,9 +112,9 @@ public class FilesOfScopeCalculator implements IResourceProxyVisitor {
 					fStatus.add(ex.getStatus());
 				}
 			}
-			return fFiles.toArray(new IFile[fFiles.size()]);
 		} finally {
-			fFiles= null;
+			fRequestor= null;
+			fMonitor= null;
 		}
 	}
 }
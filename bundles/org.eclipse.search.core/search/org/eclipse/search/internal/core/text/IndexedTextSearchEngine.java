@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+
+import org.eclipse.core.resources.IFile;
+
+import org.eclipse.jface.text.IDocument;
+
+import org.eclipse.search.core.text.TextSearchEngine;
+import org.eclipse.search.core.text.TextSearchRequestor;
+import org.eclipse.search.core.text.TextSearchScope;
+import org.eclipse.search.internal.core.SearchCoreMessages;
+import org.eclipse.search.internal.core.SearchCorePlugin;
+
+/**
+ * A text search engine that consults the {@link TrigramIndex} to skip files which cannot contain
+ * a match before searching the remaining files like the default engine. Patterns without a
+ * required literal of at least three characters search all files.
+ */
+public class IndexedTextSearchEngine extends TextSearchEngine {
+
+	@Override
+	public IStatus search(TextSearchScope scope, TextSearchRequestor requestor, Pattern searchPattern, IProgressMonitor monitor) {
+		MultiStatus status= new MultiStatus(SearchCorePlugin.PLUGIN_ID, IStatus.OK, SearchCoreMessages.TextSearchEngine_statusMessage, null);
+		IFile[] files= scope.evaluateFilesInScope(status);
+		IStatus result= search(files, requestor, searchPattern, monitor);
+		if (status.isOK()) {
+			return result;
+		}
+		status.merge(result);
+		return status;
+	}
+
+	@Override
+	public IStatus search(IFile[] scope, TextSearchRequestor requestor, Pattern searchPattern, IProgressMonitor monitor) {
+		DirtyFileProvider discovery= SearchCorePlugin.getDefault().getDirtyFileDiscovery();
+		IFile[] files= scope;
+		int[] trigrams= TrigramIndex.getTrigrams(searchPattern);
+		if (trigrams != null) {
+			Map<IFile, IDocument> dirtyFiles= discovery != null ? discovery.dirtyFiles() : null;
+			files= SearchCorePlugin.getDefault().getTrigramIndex().getCandidates(scope, trigrams,
+					dirtyFiles != null ? dirtyFiles.keySet() : Collections.emptySet());
+		}
+		return new TextSearchVisitor(requestor, searchPattern, discovery).search(files, monitor);
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Skips files which do not contain a literal required by the search pattern, by looking for the
+ * literal in the raw bytes of the file before the file is decoded.
+ * <p>
+ * Only ASCII literals are searched, and only in files whose charset encodes ASCII characters as
+ * single bytes of the same value and never produces ASCII characters from other bytes. For case
+ * insensitive patterns the literal must not contain letters which match non ASCII characters when
+ * ignoring case, i.e. <code>i</code>, <code>k</code> and <code>s</code>. Files are read in chunks
+ * into a {@link ContentBuffer}. If a file fits into one chunk, its content is kept in the buffer
+ * and can be decoded from there, so that a file which may match is not read a second time.
+ * </p>
+ * <p>
+ * Instances are immutable and can be shared between threads; the buffer passed to
+ * {@link #mayMatch(IFile, ContentBuffer)} must not.
+ * </p>
+ */
+public final class LiteralPrefilter {
+
+	/** Shorter literals are too frequent to skip files. */
+	private static final int MIN_LITERAL_LENGTH= 2;
+
+	/**
+	 * Size of a {@link ContentBuffer}, large enough for the files {@link FileCharSequenceProvider}
+	 * decodes into a string at once.
+	 */
+	public static final int BUFFER_SIZE= 1024 * 1024;
+
+	/**
+	 * A buffer the files are read into, to be reused for the files checked by one thread.
+	 */
+	public static final class ContentBuffer {
+
+		private final byte[] fBytes= new byte[BUFFER_SIZE];
+
+		private int fLength;
+
+		/** Whether the buffer holds the whole content of the last checked file. */
+		private boolean fComplete;
+
+		/**
+		 * Returns the content of the file last checked with this buffer, if it fit into the
+		 * buffer.
+		 *
+		 * @param file the file last passed to {@link LiteralPrefilter#mayMatch(IFile, ContentBuffer)}
+		 * @return the decoded content or <code>null</code> if the file has to be read again
+		 * @throws CoreException if the charset of the file cannot be determined
+		 * @throws IOException if the content cannot be decoded
+		 */
+		public String getContent(IFile file) throws CoreException, IOException {
+			return fComplete ? FileCharSequenceProvider.decode(file, fBytes, fLength) : null;
+		}
+	}
+
+	private static final Map<String, Boolean> fgAsciiCompatible= new ConcurrentHashMap<>();
+
+	private final byte[] fLiteral;
+	private final boolean fIgnoreCase;
+
+	private LiteralPrefilter(byte[] literal, boolean ignoreCase) {
+		fLiteral= literal;
+		fIgnoreCase= ignoreCase;
+	}
+
+	/**
+	 * Creates a prefilter for the given pattern.
+	 *
+	 * @param pattern the search pattern
+	 * @return the prefilter or <code>null</code> if the pattern has no suitable required literal
+	 */
+	public static LiteralPrefilter create(Pattern pattern) {
+		boolean ignoreCase= RequiredLiterals.isCaseInsensitive(pattern);
+		boolean unicodeCase= ignoreCase && ((pattern.flags() & Pattern.UNICODE_CASE) != 0 || pattern.pattern().contains("(?")); //$NON-NLS-1$
+		String best= ""; //$NON-NLS-1$
+		for (String literal : RequiredLiterals.of(pattern)) {
+			// every substring of a required literal is required as well
+			int start= 0;
+			for (int i= 0; i <= literal.length(); i++) {
+				if (i == literal.length() || !isSearchable(literal.charAt(i), unicodeCase)) {
+					if (i - start > best.length()) {
+						best= literal.substring(start, i);
+					}
+					start= i + 1;
+				}
+			}
+		}
+		if (best.length() < MIN_LITERAL_LENGTH) {
+			return null;
+		}
+		byte[] bytes= best.getBytes(StandardCharsets.US_ASCII);
+		if (ignoreCase) {
+			for (int i= 0; i < bytes.length; i++) {
+				bytes[i]= fold(bytes[i]);
+			}
+		}
+		return new LiteralPrefilter(bytes, ignoreCase);
+	}
+
+	private static boolean isSearchable(char c, boolean unicodeCase) {
+		if (c > 127) {
+			return false;
+		}
+		if (unicodeCase) {
+			char lower= Character.toLowerCase(c);
+			return lower != 'i' && lower != 'k' && lower != 's';
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether the given file may contain a match.
+	 *
+	 * @param file the file
+	 * @param buffer the buffer to read the file into, holding its content afterwards if it fits
+	 * @return <code>false</code> if the file cannot contain a match, <code>true</code> if it
+	 *         contains the literal or could not be checked
+	 */
+	public boolean mayMatch(IFile file, ContentBuffer buffer) {
+		buffer.fComplete= false;
+		try {
+			if (!isAsciiCompatible(file.getCharset())) {
+				return true;
+			}
+			byte[] bytes= buffer.fBytes;
+			try (InputStream contents= file.getContents()) {
+				int kept= 0;
+				boolean first= true;
+				while (true) {
+					int length= kept + contents.readNBytes(bytes, kept, bytes.length - kept);
+					if (length < bytes.length) {
+						// end of file
+						if (first) {
+							buffer.fLength= length;
+							buffer.fComplete= true;
+						}
+						return contains(bytes, length);
+					}
+					if (contains(bytes, length)) {
+						return true;
+					}
+					// keep the tail, the literal may span two chunks
+					kept= fLiteral.length - 1;
+					System.arraycopy(bytes, length - kept, bytes, 0, kept);
+					first= false;
+				}
+			}
+		} catch (CoreException | IOException | RuntimeException e) {
+			// let the regular search report the problem
+			buffer.fComplete= false;
+			return true;
+		}
+	}
+
+	/**
+	 * Tells whether the literal occurs in the first bytes of the buffer. Candidates are found by
+	 * comparing the first and the last byte of the literal, a loop the JIT compiles into tight
+	 * code.
+	 */
+	private boolean contains(byte[] bytes, int length) {
+		byte[] literal= fLiteral;
+		int last= literal.length - 1;
+		byte firstByte= literal[0];
+		byte lastByte= literal[last];
+		int end= length - literal.length;
+		if (fIgnoreCase) {
+			for (int i= 0; i <= end; i++) {
+				if (fold(bytes[i]) == firstByte && fold(bytes[i + last]) == lastByte && matchesAt(bytes, i)) {
+					return true;
+				}
+			}
+		} else {
+			for (int i= 0; i <= end; i++) {
+				if (bytes[i] == firstByte && bytes[i + last] == lastByte && matchesAt(bytes, i)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean matchesAt(byte[] bytes, int offset) {
+		for (int k= 1; k < fLiteral.length - 1; k++) {
+			byte b= bytes[offset + k];
+			if ((fIgnoreCase ? fold(b) : b) != fLiteral[k]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte fold(byte b) {
+		return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+	}
+
+	/**
+	 * Tells whether ASCII characters are encoded as single bytes of their value by the given
+	 * charset, and no other bytes decode to ASCII characters.
+	 */
+	private static boolean isAsciiCompatible(String charsetName) {
+		return fgAsciiCompatible.computeIfAbsent(charsetName, name -> {
+			String canonical;
+			try {
+				canonical= Charset.forName(name).name();
+			} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+				return Boolean.FALSE;
+			}
+			return Boolean.valueOf("UTF-8".equals(canonical) || "US-ASCII".equals(canonical) //$NON-NLS-1$ //$NON-NLS-2$
+					|| canonical.startsWith("ISO-8859-") || canonical.startsWith("windows-125")); //$NON-NLS-1$ //$NON-NLS-2$
+		}).booleanValue();
+	}
+}
@@ -0,0 +1,562 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.text.MultiStringMatcher;
+
+/**
+ * Chooses how to find the matches of a search pattern. Patterns created by
+ * {@link PatternConstructor} for plain text and whole word searches, and regular expressions which
+ * are an alternation of plain strings, are searched without the regular expression engine.
+ * <p>
+ * The matches found are exactly the matches {@link Matcher#find()} finds: case insensitive
+ * literals compare characters the way {@link Pattern#CASE_INSENSITIVE} and
+ * {@link Pattern#UNICODE_CASE} do, word boundaries are checked with the pattern itself, and of
+ * several alternatives matching at the same offset the first one is chosen.
+ * </p>
+ * <p>
+ * Plans are immutable and can be shared between threads, their {@link Finder finders} must not.
+ * </p>
+ */
+public abstract class PatternPlan {
+
+	/**
+	 * The strategy of a plan.
+	 */
+	public enum Kind {
+		/** A case sensitive string. */
+		LITERAL,
+		/** A string ignoring case. */
+		CASE_INSENSITIVE_LITERAL,
+		/** A string with a word boundary at the start or the end. */
+		WORD_LITERAL,
+		/** A case sensitive alternation of strings. */
+		ALTERNATION,
+		/** Any other pattern, searched with the regular expression engine. */
+		REGEX
+	}
+
+	/**
+	 * Finds the matches of a plan in a region of a text. Like a {@link Matcher} with transparent
+	 * and non-anchoring bounds, the text outside of the region is visible to look-arounds,
+	 * anchors and word boundaries.
+	 */
+	public interface Finder {
+
+		/**
+		 * Sets the text and the region to search.
+		 *
+		 * @param text the text
+		 * @param start the start of the region
+		 * @param end the end of the region
+		 */
+		void reset(CharSequence text, int start, int end);
+
+		/**
+		 * Finds the next match in the region.
+		 *
+		 * @return <code>true</code> if there is a match
+		 */
+		boolean find();
+
+		/**
+		 * @return the start of the last match found
+		 */
+		int start();
+
+		/**
+		 * @return the end of the last match found
+		 */
+		int end();
+	}
+
+	private static final int SUPPORTED_FLAGS= Pattern.MULTILINE | Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.LITERAL;
+
+	private static final String META_CHARACTERS= "^$.?*+()[]{}"; //$NON-NLS-1$
+
+	private static final int FOLD_NONE= 0;
+	private static final int FOLD_ASCII= 1;
+	private static final int FOLD_UNICODE= 2;
+
+	/**
+	 * Creates the plan for a pattern.
+	 *
+	 * @param pattern the pattern
+	 * @return the plan
+	 */
+	public static PatternPlan create(Pattern pattern) {
+		int flags= pattern.flags();
+		String regex= pattern.pattern();
+		if ((flags & ~SUPPORTED_FLAGS) != 0 || regex.isEmpty()) {
+			return new RegexPlan(pattern);
+		}
+		int fold= FOLD_NONE;
+		if ((flags & Pattern.CASE_INSENSITIVE) != 0) {
+			fold= (flags & Pattern.UNICODE_CASE) != 0 ? FOLD_UNICODE : FOLD_ASCII;
+		}
+		if ((flags & Pattern.LITERAL) != 0) {
+			return createLiteral(pattern, regex, fold, false);
+		}
+
+		List<String> alternatives= new ArrayList<>();
+		StringBuilder literal= new StringBuilder();
+		boolean isWordBounded= false;
+		int length= regex.length();
+		int i= 0;
+		if (regex.startsWith("\\b")) { //$NON-NLS-1$
+			isWordBounded= true;
+			i= 2;
+		}
+		while (i < length) {
+			char c= regex.charAt(i);
+			if (c == '\\') {
+				if (i + 1 == length) {
+					return new RegexPlan(pattern);
+				}
+				char next= regex.charAt(i + 1);
+				if (next == 'Q') {
+					int end= regex.indexOf("\\E", i + 2); //$NON-NLS-1$
+					if (end == -1) {
+						end= length;
+					}
+					literal.append(regex, i + 2, end);
+					i= Math.min(length, end + 2);
+				} else if (next == 'b' && i + 2 == length) {
+					isWordBounded= true;
+					i+= 2;
+				} else if (Character.isLetterOrDigit(next)) {
+					return new RegexPlan(pattern);
+				} else {
+					literal.append(next);
+					i+= 2;
+				}
+			} else if (c == '|') {
+				alternatives.add(literal.toString());
+				literal.setLength(0);
+				i++;
+			} else if (META_CHARACTERS.indexOf(c) != -1) {
+				return new RegexPlan(pattern);
+			} else {
+				literal.append(c);
+				i++;
+			}
+		}
+		if (alternatives.isEmpty()) {
+			return createLiteral(pattern, literal.toString(), fold, isWordBounded);
+		}
+		alternatives.add(literal.toString());
+		if (isWordBounded || fold != FOLD_NONE || alternatives.contains("")) { //$NON-NLS-1$
+			return new RegexPlan(pattern);
+		}
+		return new AlternationPlan(alternatives);
+	}
+
+	private static PatternPlan createLiteral(Pattern pattern, String literal, int fold, boolean isWordBounded) {
+		if (literal.isEmpty()) {
+			return new RegexPlan(pattern);
+		}
+		if (fold != FOLD_NONE) {
+			for (int i= 0; i < literal.length(); i++) {
+				if (Character.isSurrogate(literal.charAt(i))) {
+					// case folding of supplementary characters works on code points
+					return new RegexPlan(pattern);
+				}
+			}
+		}
+		LiteralPlan plan= new LiteralPlan(literal, fold);
+		return isWordBounded ? new WordPlan(plan, pattern) : plan;
+	}
+
+	private PatternPlan() {
+		// only the plans below
+	}
+
+	/**
+	 * @return the kind of this plan
+	 */
+	public abstract Kind getKind();
+
+	/**
+	 * Creates a finder for this plan. Finders are cheap, but not thread safe.
+	 *
+	 * @return the finder
+	 */
+	public abstract Finder finder();
+
+	/**
+	 * Tells whether the given text contains a match of this plan.
+	 *
+	 * @param text the text
+	 * @return <code>true</code> if the text contains a match
+	 */
+	public boolean matches(CharSequence text) {
+		Finder finder= finder();
+		finder.reset(text, 0, text.length());
+		return finder.find();
+	}
+
+	private static char fold(char c, int fold) {
+		switch (fold) {
+			case FOLD_ASCII:
+				return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+			case FOLD_UNICODE:
+				return Character.toLowerCase(Character.toUpperCase(c));
+			default:
+				return c;
+		}
+	}
+
+	/**
+	 * A string, searched with the Boyer-Moore-Horspool algorithm, or with
+	 * {@link String#indexOf(String, int)} where possible.
+	 */
+	private static final class LiteralPlan extends PatternPlan {
+
+		private final String fLiteral;
+		/** The characters of the literal folded to lower case if case is ignored. */
+		private final char[] fFolded;
+		private final int fFold;
+		/** Horspool shifts by the lower byte of the folded last character of the window. */
+		private final int[] fShifts= new int[256];
+
+		LiteralPlan(String literal, int fold) {
+			fLiteral= literal;
+			fFold= fold;
+			int length= literal.length();
+			fFolded= new char[length];
+			for (int i= 0; i < length; i++) {
+				fFolded[i]= fold(literal.charAt(i), fold);
+			}
+			Arrays.fill(fShifts, length);
+			for (int i= 0; i < length - 1; i++) {
+				// a text character matches if it equals the folded character or folds to it
+				fShifts[fFolded[i] & 0xFF]= length - 1 - i;
+				fShifts[fold(fFolded[i], fold) & 0xFF]= length - 1 - i;
+			}
+		}
+
+		@Override
+		public Kind getKind() {
+			return fFold == FOLD_NONE ? Kind.LITERAL : Kind.CASE_INSENSITIVE_LITERAL;
+		}
+
+		@Override
+		public Finder finder() {
+			return new LiteralFinder(this);
+		}
+
+		int length() {
+			return fFolded.length;
+		}
+
+		/**
+		 * Returns the start of the first occurrence that starts at or after <code>from</code> and
+		 * ends at or before <code>to</code>.
+		 */
+		int indexOf(CharSequence text, int from, int to) {
+			int length= fFolded.length;
+			if (fFold == FOLD_NONE && text instanceof String string && to == string.length()) {
+				return string.indexOf(fLiteral, from);
+			}
+			int last= length - 1;
+			char[] folded= fFolded;
+			for (int i= from; i <= to - length; ) {
+				char c= text.charAt(i + last);
+				char foldedChar= fold(c, fFold);
+				if (c == folded[last] || foldedChar == folded[last]) {
+					int j= last - 1;
+					while (j >= 0 && matches(folded[j], text.charAt(i + j))) {
+						j--;
+					}
+					if (j < 0) {
+						return i;
+					}
+				}
+				i+= fShifts[foldedChar & 0xFF];
+			}
+			return -1;
+		}
+
+		private boolean matches(char folded, char c) {
+			return c == folded || fFold != FOLD_NONE && fold(c, fFold) == folded;
+		}
+	}
+
+	private static final class LiteralFinder implements Finder {
+
+		private final LiteralPlan fPlan;
+		private CharSequence fText;
+		private int fPosition;
+		private int fEnd;
+		private int fMatchStart= -1;
+
+		LiteralFinder(LiteralPlan plan) {
+			fPlan= plan;
+		}
+
+		@Override
+		public void reset(CharSequence text, int start, int end) {
+			fText= text;
+			fPosition= start;
+			fEnd= end;
+			fMatchStart= -1;
+		}
+
+		@Override
+		public boolean find() {
+			int index= fPosition <= fEnd ? fPlan.indexOf(fText, fPosition, fEnd) : -1;
+			if (index == -1) {
+				fPosition= fEnd + 1;
+				fMatchStart= -1;
+				return false;
+			}
+			fMatchStart= index;
+			fPosition= index + fPlan.length();
+			return true;
+		}
+
+		@Override
+		public int start() {
+			checkMatch(fMatchStart);
+			return fMatchStart;
+		}
+
+		@Override
+		public int end() {
+			checkMatch(fMatchStart);
+			return fMatchStart + fPlan.length();
+		}
+	}
+
+	/**
+	 * A string with word boundaries. Occurrences of the string are checked with the pattern, so
+	 * that the word boundaries have the exact meaning of the regular expression engine.
+	 */
+	private static final class WordPlan extends PatternPlan {
+
+		private final LiteralPlan fLiteral;
+		private final Pattern fPattern;
+
+		WordPlan(LiteralPlan literal, Pattern pattern) {
+			fLiteral= literal;
+			fPattern= pattern;
+		}
+
+		@Override
+		public Kind getKind() {
+			return Kind.WORD_LITERAL;
+		}
+
+		@Override
+		public Finder finder() {
+			Matcher verifier= fPattern.matcher(""); //$NON-NLS-1$
+			verifier.useTransparentBounds(true);
+			verifier.useAnchoringBounds(false);
+			return new Finder() {
+				private CharSequence fText;
+				private int fPosition;
+				private int fEnd;
+				private int fMatchStart= -1;
+
+				@Override
+				public void reset(CharSequence text, int start, int end) {
+					fText= text;
+					fPosition= start;
+					fEnd= end;
+					fMatchStart= -1;
+					verifier.reset(text);
+				}
+
+				@Override
+				public boolean find() {
+					int length= fLiteral.length();
+					while (fPosition <= fEnd) {
+						int index= fLiteral.indexOf(fText, fPosition, fEnd);
+						if (index == -1) {
+							break;
+						}
+						verifier.region(index, fEnd);
+						if (verifier.lookingAt() && verifier.end() == index + length) {
+							fMatchStart= index;
+							fPosition= index + length;
+							return true;
+						}
+						fPosition= index + 1;
+					}
+					fPosition= fEnd + 1;
+					fMatchStart= -1;
+					return false;
+				}
+
+				@Override
+				public int start() {
+					checkMatch(fMatchStart);
+					return fMatchStart;
+				}
+
+				@Override
+				public int end() {
+					checkMatch(fMatchStart);
+					return fMatchStart + fLiteral.length();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Case sensitive strings, searched with a {@link MultiStringMatcher}.
+	 */
+	private static final class AlternationPlan extends PatternPlan {
+
+		private final String[] fAlternatives;
+		private final MultiStringMatcher fMatcher;
+
+		AlternationPlan(List<String> alternatives) {
+			fAlternatives= alternatives.toArray(new String[alternatives.size()]);
+			fMatcher= MultiStringMatcher.create(fAlternatives);
+		}
+
+		@Override
+		public Kind getKind() {
+			return Kind.ALTERNATION;
+		}
+
+		@Override
+		public Finder finder() {
+			return new Finder() {
+				/** The searched text, the region if it does not end at the end of the text. */
+				private CharSequence fWindow;
+				private int fOffset;
+				private int fPosition;
+				private int fMatchStart= -1;
+				private int fMatchEnd;
+
+				@Override
+				public void reset(CharSequence text, int start, int end) {
+					if (end < text.length()) {
+						// the matcher searches up to the end of the text
+						fWindow= text.subSequence(start, end);
+						fOffset= start;
+					} else {
+						fWindow= text;
+						fOffset= 0;
+					}
+					fPosition= start - fOffset;
+					fMatchStart= -1;
+				}
+
+				@Override
+				public boolean find() {
+					MultiStringMatcher.Match match= fPosition <= fWindow.length() ? fMatcher.indexOf(fWindow, fPosition) : null;
+					if (match == null) {
+						fPosition= fWindow.length() + 1;
+						fMatchStart= -1;
+						return false;
+					}
+					// the matcher prefers the longest alternative, the regular expression the first
+					int start= match.getOffset();
+					for (String alternative : fAlternatives) {
+						if (regionMatches(fWindow, start, alternative)) {
+							fMatchStart= fOffset + start;
+							fMatchEnd= fMatchStart + alternative.length();
+							fPosition= start + alternative.length();
+							return true;
+						}
+					}
+					throw new IllegalStateException();
+				}
+
+				@Override
+				public int start() {
+					checkMatch(fMatchStart);
+					return fMatchStart;
+				}
+
+				@Override
+				public int end() {
+					checkMatch(fMatchStart);
+					return fMatchEnd;
+				}
+			};
+		}
+
+		private static boolean regionMatches(CharSequence text, int start, String string) {
+			int length= string.length();
+			if (start + length > text.length()) {
+				return false;
+			}
+			for (int i= 0; i < length; i++) {
+				if (text.charAt(start + i) != string.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class RegexPlan extends PatternPlan {
+
+		private final Pattern fPattern;
+
+		RegexPlan(Pattern pattern) {
+			fPattern= pattern;
+		}
+
+		@Override
+		public Kind getKind() {
+			return Kind.REGEX;
+		}
+
+		@Override
+		public Finder finder() {
+			Matcher matcher= fPattern.matcher(""); //$NON-NLS-1$
+			matcher.useTransparentBounds(true);
+			matcher.useAnchoringBounds(false);
+			return new Finder() {
+				@Override
+				public void reset(CharSequence text, int start, int end) {
+					matcher.reset(text);
+					matcher.region(start, end);
+				}
+
+				@Override
+				public boolean find() {
+					return matcher.find();
+				}
+
+				@Override
+				public int start() {
+					return matcher.start();
+				}
+
+				@Override
+				public int end() {
+					return matcher.end();
+				}
+			};
+		}
+	}
+
+	private static void checkMatch(int start) {
+		if (start == -1) {
+			throw new IllegalStateException("No match available"); //$NON-NLS-1$
+		}
+	}
+}
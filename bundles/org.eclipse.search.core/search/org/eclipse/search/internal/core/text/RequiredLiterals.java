@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts the literal strings every match of a regular expression contains.
+ * <p>
+ * The analysis is conservative: only literal characters on the top level of the expression are
+ * considered, groups, character classes and escapes other than escaped punctuation end a literal,
+ * and an expression with a top level alternation has no required literals at all. Whatever is
+ * returned is guaranteed to occur in every match, so a text that does not contain all literals
+ * cannot contain a match.
+ * </p>
+ */
+public final class RequiredLiterals {
+
+	private static final List<String> NONE= Collections.emptyList();
+
+	private RequiredLiterals() {
+		// don't instantiate
+	}
+
+	/**
+	 * Returns the literals which every match of the given pattern contains.
+	 *
+	 * @param pattern the pattern
+	 * @return the required literals, empty if none could be extracted
+	 */
+	public static List<String> of(Pattern pattern) {
+		String regex= pattern.pattern();
+		int flags= pattern.flags();
+		if ((flags & Pattern.LITERAL) != 0) {
+			return regex.isEmpty() ? NONE : Collections.singletonList(regex);
+		}
+		if ((flags & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0 || hasFlagGroup(regex)) {
+			return NONE;
+		}
+
+		List<String> literals= new ArrayList<>();
+		StringBuilder run= new StringBuilder();
+		int length= regex.length();
+		int i= 0;
+		while (i < length) {
+			char c= regex.charAt(i);
+			switch (c) {
+				case '\\':
+					if (i + 1 >= length) {
+						return NONE;
+					}
+					char next= regex.charAt(i + 1);
+					if (next == 'Q') {
+						int end= regex.indexOf("\\E", i + 2); //$NON-NLS-1$
+						if (end == -1) {
+							end= length;
+						}
+						run.append(regex, i + 2, end);
+						i= Math.min(length, end + 2);
+					} else if (Character.isLetterOrDigit(next)) {
+						flush(run, literals);
+						i= skipEscape(regex, i + 1);
+					} else {
+						run.append(next);
+						i+= 2;
+					}
+					break;
+				case '[':
+					flush(run, literals);
+					i= skipCharacterClass(regex, i);
+					break;
+				case '(':
+					flush(run, literals);
+					i= skipGroup(regex, i);
+					if (i == -1) {
+						return NONE;
+					}
+					break;
+				case '|':
+					return NONE;
+				case '*':
+				case '?':
+					removeLastCharacter(run);
+					flush(run, literals);
+					i++;
+					break;
+				case '{':
+					int close= regex.indexOf('}', i);
+					if (close == -1) {
+						return NONE;
+					}
+					if (isZeroMinimum(regex, i + 1, close)) {
+						removeLastCharacter(run);
+					}
+					flush(run, literals);
+					i= close + 1;
+					break;
+				case '+':
+				case '.':
+				case '^':
+				case '$':
+					flush(run, literals);
+					i++;
+					break;
+				default:
+					run.append(c);
+					i++;
+					break;
+			}
+		}
+		flush(run, literals);
+		return literals;
+	}
+
+	/**
+	 * Tells whether matches of the given pattern may differ in case from the pattern.
+	 *
+	 * @param pattern the pattern
+	 * @return <code>true</code> if the pattern might match case insensitively
+	 */
+	public static boolean isCaseInsensitive(Pattern pattern) {
+		return (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0 || pattern.pattern().contains("(?"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tells whether the expression contains an embedded flag expression like <code>(?x)</code> or
+	 * <code>(?i:X)</code>. Such flags change the meaning of the following characters, e.g. make
+	 * white space and <code>#</code> comments insignificant, so no literal can be trusted.
+	 */
+	private static boolean hasFlagGroup(String regex) {
+		for (int i= regex.indexOf("(?"); i != -1; i= regex.indexOf("(?", i + 2)) { //$NON-NLS-1$ //$NON-NLS-2$
+			if (i + 2 < regex.length()) {
+				char c= regex.charAt(i + 2);
+				if (Character.isLetter(c) || c == '-') {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void flush(StringBuilder run, List<String> literals) {
+		if (run.length() > 0) {
+			literals.add(run.toString());
+			run.setLength(0);
+		}
+	}
+
+	/**
+	 * Removes the last character of the run, the operand of an optional quantifier.
+	 */
+	private static void removeLastCharacter(StringBuilder run) {
+		int length= run.length();
+		if (length == 0) {
+			return;
+		}
+		if (length > 1 && Character.isLowSurrogate(run.charAt(length - 1)) && Character.isHighSurrogate(run.charAt(length - 2))) {
+			run.setLength(length - 2);
+		} else {
+			run.setLength(length - 1);
+		}
+	}
+
+	private static boolean isZeroMinimum(String regex, int start, int end) {
+		int i= start;
+		while (i < end && regex.charAt(i) == '0') {
+			i++;
+		}
+		return i > start && (i == end || regex.charAt(i) == ',');
+	}
+
+	/**
+	 * Skips an escape sequence starting with a letter or digit.
+	 *
+	 * @param regex the expression
+	 * @param i the index of the character following the backslash
+	 * @return the index following the escape sequence
+	 */
+	private static int skipEscape(String regex, int i) {
+		int length= regex.length();
+		char c= regex.charAt(i++);
+		switch (c) {
+			case 'x':
+				if (i < length && regex.charAt(i) == '{') {
+					return skipTo(regex, i, '}');
+				}
+				return Math.min(length, i + 2);
+			case 'u':
+				return Math.min(length, i + 4);
+			case 'c':
+				return Math.min(length, i + 1);
+			case 'p':
+			case 'P':
+			case 'N':
+				if (i < length && regex.charAt(i) == '{') {
+					return skipTo(regex, i, '}');
+				}
+				return Math.min(length, i + 1);
+			case 'k':
+				return skipTo(regex, i, '>');
+			default:
+				if (Character.isDigit(c)) {
+					while (i < length && Character.isDigit(regex.charAt(i))) {
+						i++;
+					}
+				}
+				return i;
+		}
+	}
+
+	private static int skipTo(String regex, int i, char end) {
+		int index= regex.indexOf(end, i);
+		return index == -1 ? regex.length() : index + 1;
+	}
+
+	/**
+	 * Skips a character class including nested classes.
+	 *
+	 * @param regex the expression
+	 * @param i the index of the opening bracket
+	 * @return the index following the closing bracket
+	 */
+	private static int skipCharacterClass(String regex, int i) {
+		int length= regex.length();
+		int depth= 0;
+		while (i < length) {
+			char c= regex.charAt(i);
+			if (c == '\\') {
+				i= skipEscapeInClass(regex, i);
+				continue;
+			}
+			if (c == '[') {
+				depth++;
+				// a closing bracket directly after the opening one is a literal
+				if (i + 1 < length && regex.charAt(i + 1) == '^') {
+					i++;
+				}
+				if (i + 1 < length && regex.charAt(i + 1) == ']') {
+					i++;
+				}
+			} else if (c == ']') {
+				depth--;
+				if (depth == 0) {
+					return i + 1;
+				}
+			}
+			i++;
+		}
+		return length;
+	}
+
+	/**
+	 * Skips a group including nested groups and character classes.
+	 *
+	 * @param regex the expression
+	 * @param i the index of the opening parenthesis
+	 * @return the index following the closing parenthesis or -1 if there is none
+	 */
+	private static int skipGroup(String regex, int i) {
+		int length= regex.length();
+		int depth= 0;
+		while (i < length) {
+			char c= regex.charAt(i);
+			switch (c) {
+				case '\\':
+					if (i + 1 < length && regex.charAt(i + 1) == 'Q') {
+						int end= regex.indexOf("\\E", i + 2); //$NON-NLS-1$
+						i= end == -1 ? length : end + 2;
+					} else {
+						i+= 2;
+					}
+					continue;
+				case '[':
+					i= skipCharacterClass(regex, i);
+					continue;
+				case '(':
+					depth++;
+					break;
+				case ')':
+					depth--;
+					if (depth == 0) {
+						return i + 1;
+					}
+					break;
+				default:
+					break;
+			}
+			i++;
+		}
+		return -1;
+	}
+
+	private static int skipEscapeInClass(String regex, int i) {
+		if (i + 1 < regex.length() && regex.charAt(i + 1) == 'Q') {
+			int end= regex.indexOf("\\E", i + 2); //$NON-NLS-1$
+			return end == -1 ? regex.length() : end + 2;
+		}
+		return i + 2;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,13 +21,20 @@ import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.regex.Matcher;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.CoreException;
@@ -62,6 +69,7 @@ import org.eclipse.search.core.text.TextSearchScope;
 import org.eclipse.search.internal.core.SearchCoreMessages;
 import org.eclipse.search.internal.core.SearchCorePlugin;
 import org.eclipse.search.internal.core.text.FileCharSequenceProvider.FileCharSequenceException;
+import org.eclipse.search.internal.core.text.PatternPlan.Finder;
 
 /**
  * The visitor that does the actual work.
@@ -71,11 +79,44 @@ public class TextSearchVisitor {
 	public static final boolean TRACING= "true".equalsIgnoreCase(Platform.getDebugOption("org.eclipse.search/perf")); //$NON-NLS-1$ //$NON-NLS-2$
 	private static final int NUMBER_OF_LOGICAL_THREADS= Runtime.getRuntime().availableProcessors();
 
+	/** Approximate number of characters of a chunk of a file searched in chunks. */
+	private static final int CHUNK_SIZE= 1024 * 1024;
+
+	/** Larger files are not loaded into memory to be searched in chunks. */
+	private static final long MAX_CHUNKED_FILE_SIZE= 64 * 1024 * 1024;
+
+	/** Time an idle job waits for more files while the scope is evaluated. */
+	private static final long FILE_WAIT_MILLIS= 10;
+
+	/**
+	 * Chunks of large files waiting to be searched. The jobs take chunks before new files, so that
+	 * idle jobs help finishing the large files.
+	 */
+	private final Deque<ChunkTask> fChunkTasks= new ConcurrentLinkedDeque<>();
+
+	/**
+	 * Whether a file is loaded into memory to be searched in chunks. Only one file at a time is,
+	 * other large files are searched without loading them.
+	 */
+	private final AtomicBoolean fChunkedFileLoaded= new AtomicBoolean();
+
+	/** Number of chunks searched by the current search. */
+	private final AtomicInteger fNumberOfSearchedChunks= new AtomicInteger();
+
+	/** Number of threads the search may use. */
+	private int fNumberOfThreads= NUMBER_OF_LOGICAL_THREADS;
+
 	/**
 	 * Queue of files to be searched. IFile pointing to the same local file are
 	 * grouped together
 	 **/
-	private final Queue<List<IFile>> fileBatches;
+	private final BlockingQueue<List<IFile>> fileBatches;
+
+	/**
+	 * Whether all files have been added to {@link #fileBatches}. While the scope is evaluated,
+	 * the jobs wait for more files instead of finishing when the queue is empty.
+	 */
+	private volatile boolean fAllFilesQueued;
 
 	public static class ReusableMatchAccess extends TextSearchMatchAccess {
 
@@ -122,6 +163,50 @@ public class TextSearchVisitor {
 		}
 	}
 
+	/**
+	 * Finds the matches in a line aligned chunk of a file.
+	 */
+	private class ChunkTask {
+		private final String fContent;
+		private final int fStart;
+		private final int fEnd;
+		private final CountDownLatch fDone;
+		/** Start and end offsets of the matches. */
+		private int[] fMatches= new int[0];
+		private int fCount;
+		private StackOverflowError fError;
+
+		ChunkTask(String content, int start, int end, CountDownLatch done) {
+			fContent= content;
+			fStart= start;
+			fEnd= end;
+			fDone= done;
+		}
+
+		void run() {
+			fNumberOfSearchedChunks.incrementAndGet();
+			try {
+				Finder finder= fPlan.finder();
+				// look-arounds and anchors see the whole file
+				finder.reset(fContent, fStart, fEnd);
+				while (!fProgressMonitor.isCanceled() && finder.find()) {
+					if (finder.end() != finder.start()) {
+						if (2 * fCount == fMatches.length) {
+							fMatches= Arrays.copyOf(fMatches, Math.max(16, 2 * fMatches.length));
+						}
+						fMatches[2 * fCount]= finder.start();
+						fMatches[2 * fCount + 1]= finder.end();
+						fCount++;
+					}
+				}
+			} catch (StackOverflowError e) {
+				fError= e;
+			} finally {
+				fDone.countDown();
+			}
+		}
+	}
+
 	/**
 	 * A JobGroup for text searches across multiple files.
 	 */
@@ -143,7 +228,12 @@ public class TextSearchVisitor {
 	private class TextSearchJob extends Job {
 		private final Map<IFile, IDocument> fDocumentsInEditors;
 		private FileCharSequenceProvider fileCharSequenceProvider;
+		private LiteralPrefilter.ContentBuffer fPrefilterBuffer;
 		private final int jobCount;
+		/** Time spent searching, for tracing. */
+		private long fBusyNanos;
+		private int fNumberOfFiles;
+		private int fNumberOfChunks;
 
 		/**
 		 * Searches for matches in the files.
@@ -167,17 +257,52 @@ public class TextSearchVisitor {
 							SearchCoreMessages.TextSearchEngine_statusMessage, null);
 			SubMonitor subMonitor = SubMonitor.convert(inner, fileBatches.size() / jobCount); // approximate
 			this.fileCharSequenceProvider= new FileCharSequenceProvider();
-			List<IFile> sameFiles;
-			while (((sameFiles = fileBatches.poll()) != null) && !fFatalError && !fProgressMonitor.isCanceled()) {
-				IStatus status = processFile(sameFiles, subMonitor.split(1));
-				// Only accumulate interesting status
-				if (!status.isOK()) {
-					multiStatus.add(status);
-				// Group cancellation is propagated to this job's monitor.
-				// Stop processing and return the status for the completed jobs.
+			if (fPrefilter != null) {
+				fPrefilterBuffer= new LiteralPrefilter.ContentBuffer();
+			}
+			while (!fFatalError && !fProgressMonitor.isCanceled()) {
+				long start= TRACING ? System.nanoTime() : 0;
+				ChunkTask chunk= fChunkTasks.poll();
+				if (chunk != null) {
+					chunk.run();
+					fNumberOfChunks++;
+				} else {
+					boolean allFilesQueued= fAllFilesQueued;
+					List<IFile> sameFiles= fileBatches.poll();
+					if (sameFiles == null) {
+						if (allFilesQueued) {
+							break;
+						}
+						try {
+							long waitStart= TRACING ? System.nanoTime() : 0;
+							sameFiles= fileBatches.poll(FILE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+							if (TRACING) {
+								start+= System.nanoTime() - waitStart;
+							}
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							break;
+						}
+						if (sameFiles == null) {
+							// check the chunks and the state of the scope evaluation again
+							continue;
+						}
+					}
+					IStatus status = processFile(sameFiles, subMonitor.split(1));
+					fNumberOfFiles++;
+					// Only accumulate interesting status
+					if (!status.isOK()) {
+						multiStatus.add(status);
+					// Group cancellation is propagated to this job's monitor.
+					// Stop processing and return the status for the completed jobs.
+					}
+				}
+				if (TRACING) {
+					fBusyNanos+= System.nanoTime() - start;
 				}
 			}
 			fileCharSequenceProvider= null;
+			fPrefilterBuffer= null;
 			synchronized (fLock) {
 				fLock.notify();
 			}
@@ -187,11 +312,13 @@ public class TextSearchVisitor {
 		public IStatus processFile(List<IFile> sameFiles, IProgressMonitor monitor) {
 			// A natural cleanup after the change to use JobGroups is accepted would be to move these
 			// methods to the TextSearchJob class.
-			Matcher matcher= fSearchPattern.pattern().isEmpty() ? null : fSearchPattern.matcher(""); //$NON-NLS-1$
+			Finder finder= fSearchPattern.pattern().isEmpty() ? null : fPlan.finder();
 			IFile file = sameFiles.remove(0);
 			monitor.setTaskName(file.getFullPath().toString());
+			boolean searchedInChunks= false;
+			boolean flushed= false;
 			try {
-				if (!fCollector.acceptFile(file) || matcher == null) {
+				if (!fCollector.acceptFile(file) || finder == null) {
 					return Status.OK_STATUS;
 				}
 
@@ -202,19 +329,35 @@ public class TextSearchVisitor {
 				if (document != null) {
 					charsequence = new DocumentCharSequence(document);
 					// assume all documents are non-binary
-					occurences = locateMatches(file, charsequence, matcher, monitor);
+					occurences = locateMatches(file, charsequence, finder, monitor);
 				} else {
 					try {
+						if (fPrefilter != null && !fPrefilter.mayMatch(file, fPrefilterBuffer)) {
+							// the raw bytes do not contain a required literal
+							return Status.OK_STATUS;
+						}
 						boolean reportTextOnly = !fCollector.reportBinaryFile(file);
 						if (reportTextOnly && hasBinaryContentType(file)) {
 							// fail fast for binary file types without opening the file
 							return Status.OK_STATUS;
 						}
-						charsequence = fileCharSequenceProvider.newCharSequence(file);
+						// reuse the bytes read by the prefilter if the whole file fit
+						charsequence= fPrefilter != null ? fPrefilterBuffer.getContent(file) : null;
+						if (charsequence == null) {
+							charsequence = fileCharSequenceProvider.newCharSequence(file);
+						}
 						if (reportTextOnly && hasBinaryContent(charsequence)) {
 							return Status.OK_STATUS;
 						}
-						occurences = locateMatches(file, charsequence, matcher, monitor);
+						if (isSearchedInChunks(file, charsequence) && fChunkedFileLoaded.compareAndSet(false, true)) {
+							searchedInChunks= true;
+							CharSequence fileSequence= charsequence;
+							charsequence= fileSequence.toString();
+							fileCharSequenceProvider.releaseCharSequence(fileSequence);
+							occurences= locateMatchesInChunks(file, (String) charsequence, monitor);
+						} else {
+							occurences = locateMatches(file, charsequence, finder, monitor);
+						}
 					} catch (FileCharSequenceProvider.FileCharSequenceException e) {
 						if (e.getCause() instanceof RuntimeException runtimeEx) {
 							throw runtimeEx;
@@ -222,6 +365,7 @@ public class TextSearchVisitor {
 						throw e;
 					}
 				}
+				flushed= true;
 				fCollector.flushMatches(file);
 
 				for (IFile duplicateFiles : sameFiles) {
@@ -268,6 +412,13 @@ public class TextSearchVisitor {
 				String message= SearchCoreMessages.TextSearchVisitor_patterntoocomplex0;
 				return new Status(IStatus.ERROR, SearchCorePlugin.PLUGIN_ID, IStatus.ERROR, message, e);
 			} finally {
+				if (searchedInChunks) {
+					fChunkedFileLoaded.set(false);
+				}
+				if (!flushed) {
+					// skipped files complete too, so that the collector can hand on its pending matches
+					fCollector.flushMatches(file);
+				}
 				synchronized (fLock) {
 					fCurrentFile= file;
 					fNumberOfScannedFiles++;
@@ -284,11 +435,88 @@ public class TextSearchVisitor {
 			return fDocumentsInEditors;
 		}
 
+		/**
+		 * Tells whether the file is large enough to be split into chunks that are searched in
+		 * parallel. Splitting is only possible if no match can span a line delimiter, so that
+		 * searching the line aligned chunks finds the same matches as searching the whole file.
+		 * The file is only split if no other file is loaded to be searched in chunks.
+		 */
+		private boolean isSearchedInChunks(IFile file, CharSequence content) {
+			// short files are returned as strings
+			return fIsLineLocal && jobCount > 1 && !(content instanceof String)
+					&& estimateSize(file) <= MAX_CHUNKED_FILE_SIZE;
+		}
+
+		/**
+		 * Searches the file in line aligned chunks. The chunks are offered to the other jobs, this
+		 * job searches chunks until none is left and then waits for the chunks taken by other jobs.
+		 * The matches are reported in order by this job once all chunks are searched.
+		 */
+		private List<TextSearchMatchAccess> locateMatchesInChunks(IFile file, String content, IProgressMonitor monitor) throws CoreException {
+			List<ChunkTask> chunks= new ArrayList<>();
+			int length= content.length();
+			int count= (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			CountDownLatch done= new CountDownLatch(count);
+			int start= 0;
+			for (int i= 0; i < count; i++) {
+				int end= length;
+				if (i < count - 1) {
+					int delimiter= content.indexOf('\n', Math.max(start, (i + 1) * CHUNK_SIZE) - 1);
+					end= delimiter == -1 ? length : delimiter + 1;
+				}
+				chunks.add(new ChunkTask(content, start, end, done));
+				start= end;
+			}
+			for (int i= chunks.size() - 1; i >= 0; i--) {
+				fChunkTasks.addFirst(chunks.get(i));
+			}
+
+			try {
+				while (done.getCount() > 0) {
+					ChunkTask chunk= fChunkTasks.poll();
+					if (chunk != null) {
+						chunk.run();
+						fNumberOfChunks++;
+					} else {
+						long waitStart= TRACING ? System.nanoTime() : 0;
+						done.await();
+						if (TRACING) {
+							fBusyNanos-= System.nanoTime() - waitStart;
+						}
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				monitor.setCanceled(true);
+				return Collections.emptyList();
+			}
+
+			List<TextSearchMatchAccess> occurences= new ArrayList<>();
+			for (ChunkTask chunk : chunks) {
+				if (chunk.fError != null) {
+					throw chunk.fError;
+				}
+				for (int i= 0; i < chunk.fCount && !monitor.isCanceled(); i++) {
+					int matchStart= chunk.fMatches[2 * i];
+					ReusableMatchAccess access= new ReusableMatchAccess();
+					access.initialize(file, matchStart, chunk.fMatches[2 * i + 1] - matchStart, content);
+					occurences.add(access);
+					if (!fCollector.acceptPatternMatch(access)) {
+						return occurences; // no further reporting requested
+					}
+				}
+			}
+			return occurences;
+		}
+
 	}
 
 
 	private final TextSearchRequestor fCollector;
 	private final Pattern fSearchPattern;
+	private final PatternPlan fPlan;
+	private final LiteralPrefilter fPrefilter;
+	private final boolean fIsLineLocal;
 
 	private volatile IProgressMonitor fProgressMonitor;
 
@@ -309,24 +537,65 @@ public class TextSearchVisitor {
 				SearchCoreMessages.TextSearchEngine_statusMessage, null);
 
 		fSearchPattern= searchPattern;
+		fPlan= PatternPlan.create(searchPattern);
+		fPrefilter= LiteralPrefilter.create(searchPattern);
+		fIsLineLocal= isLineLocal(searchPattern);
 
 		fIsLightweightAutoRefresh= Platform.getPreferencesService().getBoolean(ResourcesPlugin.PI_RESOURCES, ResourcesPlugin.PREF_LIGHTWEIGHT_AUTO_REFRESH, false, null);
-		fileBatches = new ConcurrentLinkedQueue<>();
+		fileBatches = new LinkedBlockingQueue<>();
+	}
+
+	/**
+	 * Sets the number of threads the search may use, the number of processors by default. For
+	 * testing.
+	 *
+	 * @param numberOfThreads the number of threads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		fNumberOfThreads= numberOfThreads;
+	}
+
+	/**
+	 * Returns the number of chunks of large files the last search searched. For testing.
+	 *
+	 * @return the number of chunks
+	 */
+	public int getNumberOfSearchedChunks() {
+		return fNumberOfSearchedChunks.get();
 	}
 
 	public IStatus search(IFile[] files, IProgressMonitor monitor) {
 		if (files.length == 0) {
 			return fStatus;
 		}
+		return search(files, null, monitor);
+	}
+
+	public IStatus search(TextSearchScope scope, IProgressMonitor monitor) {
+		if (!FilesOfScopeCalculator.isEvaluated(scope)) {
+			return search(scope.evaluateFilesInScope(fStatus), monitor);
+		}
+		return search(null, scope, monitor);
+	}
+
+	/**
+	 * Searches the given files, or the files of the given scope. The files of a scope are passed
+	 * to the jobs as soon as they are found, so that the first matches are reported while the
+	 * scope is still evaluated. As the files are not known up front, they are neither grouped
+	 * by location nor sorted by size.
+	 */
+	private IStatus search(IFile[] files, TextSearchScope scope, IProgressMonitor monitor) {
 		fProgressMonitor = monitor == null ? new NullProgressMonitor() : monitor;
 		synchronized (fLock) {
 			fNumberOfScannedFiles = 0;
 			fCurrentFile = null;
 		}
-		int threadsNeeded = Math.min(files.length, NUMBER_OF_LOGICAL_THREADS);
+		fNumberOfSearchedChunks.set(0);
+		int threadsNeeded = files != null ? Math.min(files.length, fNumberOfThreads) : fNumberOfThreads;
 		// All but 1 threads should search. 1 thread does the UI updates:
 		int jobCount = fCollector.canRunInParallel() && threadsNeeded > 1 ? threadsNeeded - 1 : 1;
 		long startTime= TRACING ? System.currentTimeMillis() : 0;
+		List<TextSearchJob> jobs= new ArrayList<>(jobCount);
 
 		try {
 			String taskName= fSearchPattern.pattern().isEmpty()
@@ -340,22 +609,34 @@ public class TextSearchVisitor {
 
 				Map<IFile, IDocument> documentsInEditors = findDirtyFiles();
 
-				// group files with same content together:
-				Map<String, List<IFile>> localFilesByLocation = new LinkedHashMap<>();
-				Map<String, List<IFile>> remoteFilesByLocation = new LinkedHashMap<>();
+				int numberOfFilesToScan;
+				if (files != null) {
+					// group files with same content together:
+					Map<String, List<IFile>> localFilesByLocation = new LinkedHashMap<>();
+					Map<String, List<IFile>> remoteFilesByLocation = new LinkedHashMap<>();
 
-				for (IFile file : files) {
-					IPath path = file.getLocation();
-					String key = path == null ? file.getLocationURI().toString() : path.toString();
-					Map<String, List<IFile>> filesByLocation = (path != null) ? localFilesByLocation
-							: remoteFilesByLocation;
-					filesByLocation.computeIfAbsent(key, k -> new ArrayList<>()).add(file);
+					for (IFile file : files) {
+						IPath path = file.getLocation();
+						String key = path == null ? file.getLocationURI().toString() : path.toString();
+						Map<String, List<IFile>> filesByLocation = (path != null) ? localFilesByLocation
+								: remoteFilesByLocation;
+						filesByLocation.computeIfAbsent(key, k -> new ArrayList<>()).add(file);
 
+					}
+					if (jobCount > 1) {
+						offerLargestFirst(new ArrayList<>(localFilesByLocation.values()));
+					} else {
+						localFilesByLocation.values().forEach(fileBatches::offer);
+					}
+					remoteFilesByLocation.values().forEach(fileBatches::offer);
+					numberOfFilesToScan = fileBatches.size();
+					fAllFilesQueued= true;
+					fProgressMonitor.beginTask(taskName, numberOfFilesToScan);
+				} else {
+					numberOfFilesToScan = 0;
+					fAllFilesQueued= false;
+					fProgressMonitor.beginTask(taskName, IProgressMonitor.UNKNOWN);
 				}
-				localFilesByLocation.values().forEach(fileBatches::offer);
-				remoteFilesByLocation.values().forEach(fileBatches::offer);
-				int numberOfFilesToScan = fileBatches.size();
-				fProgressMonitor.beginTask(taskName, numberOfFilesToScan);
 
 				// Seed count over 1 can cause endless waits, see bug 543629
 				// comment 2
@@ -365,10 +646,15 @@ public class TextSearchVisitor {
 				final int seed = 1;
 				final JobGroup jobGroup = new TextSearchJobGroup("Text Search", jobCount, seed); //$NON-NLS-1$
 				for (int i = 0; i < jobCount; i++) {
-					Job job = new TextSearchJob(documentsInEditors, jobCount);
+					TextSearchJob job = new TextSearchJob(documentsInEditors, jobCount);
 					job.setJobGroup(jobGroup);
+					jobs.add(job);
 					job.schedule();
 				}
+				if (scope != null) {
+					// the jobs search the files while this thread evaluates the scope
+					numberOfFilesToScan= queueFilesInScope(scope);
+				}
 				// update progress until finished or canceled:
 				int numberOfScannedFiles = 0;
 				int lastNumberOfScannedFiles = 0;
@@ -414,19 +700,48 @@ public class TextSearchVisitor {
 			} catch (InterruptedException e) {
 				throw new OperationCanceledException(SearchCoreMessages.TextSearchVisitor_canceled);
 			} finally {
+				fAllFilesQueued= true;
 				fileBatches.clear();
+				fChunkTasks.clear();
 			}
 		} finally {
 			fProgressMonitor.done();
 			fCollector.endReporting();
 			if (TRACING) {
-				Object[] args= { Integer.valueOf(fNumberOfScannedFiles), Integer.valueOf(jobCount), Integer.valueOf(NUMBER_OF_LOGICAL_THREADS), Long.valueOf(System.currentTimeMillis() - startTime) };
+				Object[] args= { Integer.valueOf(fNumberOfScannedFiles), Integer.valueOf(jobCount), Integer.valueOf(fNumberOfThreads), Long.valueOf(System.currentTimeMillis() - startTime) };
 				System.out.println(MessageFormat.format(
 						"[TextSearch] Search duration for {0} files in {1} jobs using {2} threads: {3}ms", args)); //$NON-NLS-1$
+				long duration= Math.max(1, System.currentTimeMillis() - startTime);
+				for (TextSearchJob job : jobs) {
+					long busy= job.fBusyNanos / 1000000;
+					Object[] jobArgs= { Integer.valueOf(job.fNumberOfFiles), Integer.valueOf(job.fNumberOfChunks), Long.valueOf(busy), Long.valueOf(100 * busy / duration) };
+					System.out.println(MessageFormat.format(
+							"[TextSearch]   Job searched {0} files and {1} chunks, busy {2}ms ({3}%)", jobArgs)); //$NON-NLS-1$
+				}
 			}
 		}
 	}
 
+	/**
+	 * Evaluates the scope and queues every file found for the jobs.
+	 *
+	 * @return the number of queued files
+	 */
+	private int queueFilesInScope(TextSearchScope scope) {
+		int[] count= new int[1];
+		try {
+			new FilesOfScopeCalculator(scope, fStatus).process(file -> {
+				List<IFile> batch= new ArrayList<>(1);
+				batch.add(file);
+				fileBatches.offer(batch);
+				count[0]++;
+			}, fProgressMonitor);
+		} finally {
+			fAllFilesQueued= true;
+		}
+		return count[0];
+	}
+
 	private Map<IFile, IDocument> findDirtyFiles() {
 		if (fDirtyDiscovery != null) {
 			Map<IFile, IDocument> ret = fDirtyDiscovery.dirtyFiles();
@@ -437,8 +752,89 @@ public class TextSearchVisitor {
 		return Collections.emptyMap();
 	}
 
-	public IStatus search(TextSearchScope scope, IProgressMonitor monitor) {
-		return search(scope.evaluateFilesInScope(fStatus), monitor);
+	/**
+	 * Queues the file batches with the largest files first, so that no job is left searching a
+	 * large file at the end while the others are idle.
+	 */
+	private void offerLargestFirst(List<List<IFile>> batches) {
+		long[] sizes= new long[batches.size()];
+		IntStream.range(0, sizes.length).parallel().forEach(i -> sizes[i]= estimateSize(batches.get(i).get(0)));
+		Integer[] order= new Integer[sizes.length];
+		Arrays.setAll(order, Integer::valueOf);
+		Arrays.sort(order, (a, b) -> Long.compare(sizes[b.intValue()], sizes[a.intValue()]));
+		for (Integer index : order) {
+			fileBatches.offer(batches.get(index.intValue()));
+		}
+	}
+
+	private static long estimateSize(IFile file) {
+		IPath location= file.getLocation();
+		return location != null ? location.toFile().length() : 0;
+	}
+
+	/**
+	 * Tells whether no match of the pattern can contain a <code>'\n'</code>. The check is
+	 * conservative, it rejects all constructs which might match one.
+	 */
+	private static boolean isLineLocal(Pattern pattern) {
+		String regex= pattern.pattern();
+		if ((pattern.flags() & (Pattern.DOTALL | Pattern.COMMENTS | Pattern.LITERAL)) != 0 || regex.indexOf('\n') != -1) {
+			return false;
+		}
+		int classDepth= 0;
+		// the previous character of a character class, -1 if none and -2 if escaped
+		int previous= -1;
+		for (int i= 0; i < regex.length(); i++) {
+			char c= regex.charAt(i);
+			int current= -1;
+			switch (c) {
+				case '\\':
+					if (i + 1 == regex.length()) {
+						return false;
+					}
+					char next= regex.charAt(++i);
+					if (next == 'Q') {
+						int end= regex.indexOf("\\E", i); //$NON-NLS-1$
+						i= end == -1 ? regex.length() : end + 1;
+					} else if ("nsSWDvVHRxu0cpPXN".indexOf(next) != -1) { //$NON-NLS-1$
+						return false;
+					}
+					current= -2;
+					break;
+				case '[':
+					if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+						return false;
+					}
+					classDepth++;
+					break;
+				case ']':
+					if (classDepth > 0) {
+						classDepth--;
+					}
+					break;
+				case '(':
+					// inline flags, e.g. (?s)
+					if (i + 1 < regex.length() && regex.charAt(i + 1) == '?') {
+						return false;
+					}
+					break;
+				case '-':
+					if (classDepth > 0 && previous != -1 && i + 1 < regex.length() && regex.charAt(i + 1) != ']') {
+						// a range, which must not include '\n'
+						char high= regex.charAt(i + 1);
+						if (previous == -2 || high == '\\' || high == '[' || previous <= '\n' && high >= '\n') {
+							return false;
+						}
+					}
+					current= c;
+					break;
+				default:
+					current= c;
+					break;
+			}
+			previous= current;
+		}
+		return true;
 	}
 
 	private final IContentType TEXT_TYPE = Platform.getContentTypeManager().getContentType(IContentTypeManager.CT_TEXT);
@@ -486,17 +882,17 @@ public class TextSearchVisitor {
 		return false;
 	}
 
-	private List<TextSearchMatchAccess> locateMatches(IFile file, CharSequence searchInput, Matcher matcher, IProgressMonitor monitor) throws CoreException {
+	private List<TextSearchMatchAccess> locateMatches(IFile file, CharSequence searchInput, Finder finder, IProgressMonitor monitor) throws CoreException {
 		List<TextSearchMatchAccess> occurences= null;
-		matcher.reset(searchInput);
-		// Check for cancellation before calling matcher.find() since that call
+		finder.reset(searchInput, 0, searchInput.length());
+		// Check for cancellation before calling finder.find() since that call
 		// can be very expensive
-		while (!monitor.isCanceled() && matcher.find()) {
+		while (!monitor.isCanceled() && finder.find()) {
 			if (occurences == null) {
 				occurences= new ArrayList<>();
 			}
-			int start= matcher.start();
-			int end= matcher.end();
+			int start= finder.start();
+			int end= finder.end();
 			if (end != start) { // don't report 0-length matches
 				ReusableMatchAccess access= new ReusableMatchAccess();
 				access.initialize(file, start, end - start, searchInput);
@@ -0,0 +1,595 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.search.internal.core.SearchCorePlugin;
+import org.eclipse.search.internal.core.text.FileCharSequenceProvider.FileCharSequenceException;
+
+/**
+ * A persistent index of the character trigrams of the files in the workspace, used to skip files
+ * which cannot contain a match of a search pattern.
+ * <p>
+ * For each indexed file the index keeps a Bloom filter of the trigrams of its content, together
+ * with the modification and local time stamps of the file at the time it was indexed. The filter
+ * is sized to the number of distinct trigrams of the file, so a query for a few trigrams rarely
+ * reports a file that does not contain them, and never misses one that does. Characters are folded
+ * to lower case, which makes the index usable for case sensitive and case insensitive searches.
+ * </p>
+ * <p>
+ * Files are indexed in the background: after a search the files which were not indexed or whose
+ * entry is out of date are queued, and once the index is populated resource deltas queue every
+ * added or changed file. A file is only pruned if its entry matches its current time stamps; all
+ * other files are searched as before.
+ * </p>
+ * <p>
+ * The memory used by the filters is bounded, files beyond the bound are not indexed and are always
+ * searched. The index is written to the plug-in state location by a background job some time after
+ * it changed. Entries of files which no longer exist or changed since are dropped when the index is
+ * loaded, so nothing is written when the plug-in stops.
+ * </p>
+ */
+public class TrigramIndex implements IResourceChangeListener {
+
+	/** Version of the file format, files of other versions are ignored. */
+	private static final int FORMAT_VERSION= 2;
+
+	/** Number of bits of the filter used while indexing a file, a power of 2. */
+	private static final int SCRATCH_BITS= 1 << 20;
+
+	/** Smallest number of bits of a stored filter, a power of 2. */
+	private static final int MIN_FILTER_BITS= 64;
+
+	/** Largest number of bits of a stored filter, a power of 2. */
+	private static final int MAX_FILTER_BITS= 1 << 15;
+
+	/** Approximate number of bytes an entry occupies in addition to its filter. */
+	private static final int ENTRY_OVERHEAD= 128;
+
+	/** Default bound of the number of bytes all entries occupy. */
+	private static final long DEFAULT_MAX_SIZE= 32 * 1024 * 1024;
+
+	/** Delay in milliseconds after a change before the index is written. */
+	private static final long SAVE_DELAY= 30000;
+
+	/** Number of filter bits per distinct trigram of a file. */
+	private static final int BITS_PER_TRIGRAM= 8;
+
+	/** Files with more characters are never pruned. */
+	private static final int MAX_INDEXED_CHARS= 16 * 1024 * 1024;
+
+	/**
+	 * The index entry of a file.
+	 */
+	private static final class Entry {
+		final long fModificationStamp;
+		final long fLocalTimeStamp;
+		/** The filter, <code>null</code> if the file can contain any trigram. */
+		final long[] fFilter;
+
+		Entry(long modificationStamp, long localTimeStamp, long[] filter) {
+			fModificationStamp= modificationStamp;
+			fLocalTimeStamp= localTimeStamp;
+			fFilter= filter;
+		}
+
+		int getSize() {
+			return ENTRY_OVERHEAD + (fFilter == null ? 0 : fFilter.length * Long.BYTES);
+		}
+
+		boolean isCurrent(IFile file) {
+			return fModificationStamp == file.getModificationStamp() && fLocalTimeStamp == file.getLocalTimeStamp();
+		}
+
+		boolean mayContain(int[] trigrams) {
+			if (fFilter == null) {
+				return true;
+			}
+			int mask= fFilter.length * Long.SIZE - 1;
+			for (int trigram : trigrams) {
+				int bit= trigram & mask;
+				if ((fFilter[bit >>> 6] & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * The job indexing the queued files.
+	 */
+	private final class IndexJob extends Job {
+
+		private final long[] fScratch= new long[SCRATCH_BITS / Long.SIZE];
+
+		private final FileCharSequenceProvider fProvider= new FileCharSequenceProvider();
+
+		IndexJob() {
+			super("Text Search Index"); //$NON-NLS-1$
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == TrigramIndex.this;
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			IFile file;
+			while ((file= fQueue.poll()) != null) {
+				fQueued.remove(file);
+				if (monitor.isCanceled()) {
+					fQueue.clear();
+					fQueued.clear();
+					return Status.CANCEL_STATUS;
+				}
+				if (isFull()) {
+					fQueue.clear();
+					fQueued.clear();
+					break;
+				}
+				Entry entry= indexFile(file);
+				if (entry != null) {
+					put(getKey(file), entry);
+				}
+			}
+			scheduleSave();
+			return Status.OK_STATUS;
+		}
+
+		private Entry indexFile(IFile file) {
+			if (!file.isAccessible()) {
+				return null;
+			}
+			long modificationStamp= file.getModificationStamp();
+			long localTimeStamp= file.getLocalTimeStamp();
+			Entry current= fEntries.get(getKey(file));
+			if (current != null && current.isCurrent(file)) {
+				return null;
+			}
+
+			CharSequence content;
+			try {
+				content= fProvider.newCharSequence(file);
+			} catch (CoreException | IOException e) {
+				return null;
+			}
+			try {
+				Arrays.fill(fScratch, 0);
+				int c0= -1;
+				int c1= -1;
+				for (int i= 0;; i++) {
+					char c;
+					try {
+						c= content.charAt(i);
+					} catch (IndexOutOfBoundsException e) {
+						break;
+					}
+					if (i == MAX_INDEXED_CHARS) {
+						return new Entry(modificationStamp, localTimeStamp, null);
+					}
+					int c2= fold(c);
+					if (c0 != -1) {
+						int bit= hash(c0, c1, c2) & (SCRATCH_BITS - 1);
+						fScratch[bit >>> 6]|= 1L << bit;
+					}
+					c0= c1;
+					c1= c2;
+				}
+			} catch (FileCharSequenceException e) {
+				return null;
+			} finally {
+				try {
+					fProvider.releaseCharSequence(content);
+				} catch (IOException e) {
+					// ignore, the file was read
+				}
+			}
+			return new Entry(modificationStamp, localTimeStamp, compact(fScratch));
+		}
+	}
+
+	/**
+	 * The job writing the index after it changed.
+	 */
+	private final class SaveJob extends Job {
+
+		SaveJob() {
+			super("Text Search Index Save"); //$NON-NLS-1$
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			save();
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final File fStorage;
+
+	private final long fMaxSize;
+
+	/** Entries by full path of the file. */
+	private final Map<String, Entry> fEntries= new ConcurrentHashMap<>();
+
+	/** Approximate number of bytes occupied by the entries. */
+	private final AtomicLong fSize= new AtomicLong();
+
+	/** Whether the entries changed since they were written. */
+	private final AtomicBoolean fDirty= new AtomicBoolean();
+
+	private final Queue<IFile> fQueue= new ConcurrentLinkedQueue<>();
+
+	private final Set<IFile> fQueued= ConcurrentHashMap.newKeySet();
+
+	private final IndexJob fJob= new IndexJob();
+
+	private final SaveJob fSaveJob= new SaveJob();
+
+	/**
+	 * Creates an index stored in the given file.
+	 *
+	 * @param storage the file the index is persisted in
+	 */
+	public TrigramIndex(File storage) {
+		this(storage, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates an index stored in the given file, bounding the memory it uses.
+	 *
+	 * @param storage the file the index is persisted in
+	 * @param maxSize the approximate number of bytes the entries may occupy
+	 */
+	public TrigramIndex(File storage, long maxSize) {
+		fStorage= storage;
+		fMaxSize= maxSize;
+	}
+
+	/**
+	 * Loads the persisted index and starts tracking resource changes.
+	 */
+	public void startup() {
+		load();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stops tracking resource changes and indexing. Changes not written yet are lost, which only
+	 * means that the affected files are indexed again.
+	 */
+	public void shutdown() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		fJob.cancel();
+		fSaveJob.cancel();
+		try {
+			fJob.join();
+			fSaveJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Returns the number of indexed files.
+	 *
+	 * @return the number of files with an entry
+	 */
+	public int getFileCount() {
+		return fEntries.size();
+	}
+
+	/**
+	 * Returns the trigrams every match of the given pattern contains.
+	 *
+	 * @param pattern the pattern
+	 * @return the hashed trigrams or <code>null</code> if no trigram could be extracted, in which
+	 *         case all files have to be searched
+	 */
+	public static int[] getTrigrams(Pattern pattern) {
+		boolean caseInsensitive= RequiredLiterals.isCaseInsensitive(pattern);
+		int[] trigrams= new int[16];
+		int count= 0;
+		for (String literal : RequiredLiterals.of(pattern)) {
+			for (int i= 0; i + 2 < literal.length(); i++) {
+				char c0= literal.charAt(i);
+				char c1= literal.charAt(i + 1);
+				char c2= literal.charAt(i + 2);
+				// the case folding of the index is not closed for all non ASCII characters
+				if (caseInsensitive && (c0 > 127 || c1 > 127 || c2 > 127)) {
+					continue;
+				}
+				if (count == trigrams.length) {
+					trigrams= Arrays.copyOf(trigrams, 2 * count);
+				}
+				trigrams[count++]= hash(fold(c0), fold(c1), fold(c2));
+			}
+		}
+		return count == 0 ? null : Arrays.copyOf(trigrams, count);
+	}
+
+	/**
+	 * Removes the files which cannot contain any of the given trigrams and queues the files which
+	 * are not indexed or out of date for indexing.
+	 *
+	 * @param files the files to search
+	 * @param trigrams the trigrams every match contains, see {@link #getTrigrams(Pattern)}
+	 * @param searchedFiles files which are always searched, e.g. because they are open in an editor
+	 * @return the files which may contain a match
+	 */
+	public IFile[] getCandidates(IFile[] files, int[] trigrams, Collection<IFile> searchedFiles) {
+		ITextFileBufferManager bufferManager= FileBuffers.getTextFileBufferManager();
+		List<IFile> candidates= new ArrayList<>(files.length);
+		for (IFile file : files) {
+			Entry entry= fEntries.get(getKey(file));
+			if (entry == null || !entry.isCurrent(file)) {
+				candidates.add(file);
+				if (!isFull()) {
+					queue(file);
+				}
+			} else if (entry.mayContain(trigrams) || searchedFiles.contains(file)
+					|| bufferManager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) != null) {
+				candidates.add(file);
+			}
+		}
+		fJob.schedule();
+		return candidates.toArray(new IFile[candidates.size()]);
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null || fEntries.isEmpty()) {
+			return;
+		}
+		try {
+			delta.accept(this::visit);
+		} catch (CoreException e) {
+			SearchCorePlugin.log(e);
+		}
+		if (!fQueue.isEmpty()) {
+			fJob.schedule(500);
+		} else {
+			scheduleSave();
+		}
+	}
+
+	private boolean visit(IResourceDelta delta) {
+		IResource resource= delta.getResource();
+		switch (resource.getType()) {
+			case IResource.FILE:
+				String key= getKey(resource);
+				if (delta.getKind() == IResourceDelta.REMOVED) {
+					remove(key);
+				} else if (delta.getKind() == IResourceDelta.ADDED || (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.ENCODING)) != 0) {
+					remove(key);
+					queue((IFile) resource);
+				}
+				return false;
+			case IResource.ROOT:
+				return true;
+			default:
+				if (delta.getKind() == IResourceDelta.REMOVED || (delta.getFlags() & IResourceDelta.OPEN) != 0) {
+					String prefix= getKey(resource) + '/';
+					for (String path : fEntries.keySet()) {
+						if (path.startsWith(prefix)) {
+							remove(path);
+						}
+					}
+					return false;
+				}
+				return true;
+		}
+	}
+
+	private void queue(IFile file) {
+		if (fQueued.add(file)) {
+			fQueue.add(file);
+		}
+	}
+
+	private boolean isFull() {
+		return fSize.get() >= fMaxSize;
+	}
+
+	private void put(String key, Entry entry) {
+		int size= entry.getSize();
+		if (fSize.addAndGet(size) > fMaxSize) {
+			fSize.addAndGet(-size);
+			return;
+		}
+		Entry previous= fEntries.put(key, entry);
+		if (previous != null) {
+			fSize.addAndGet(-previous.getSize());
+		}
+		fDirty.set(true);
+	}
+
+	private void remove(String key) {
+		Entry previous= fEntries.remove(key);
+		if (previous != null) {
+			fSize.addAndGet(-previous.getSize());
+			fDirty.set(true);
+		}
+	}
+
+	private void scheduleSave() {
+		if (fDirty.get()) {
+			fSaveJob.schedule(SAVE_DELAY);
+		}
+	}
+
+	private static String getKey(IResource resource) {
+		return resource.getFullPath().toString();
+	}
+
+	/**
+	 * Folds the case of a character, characters equal ignoring case fold to the same character.
+	 */
+	private static int fold(char c) {
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+
+	private static int hash(int c0, int c1, int c2) {
+		long h= ((long) c0 << 32 | (long) c1 << 16 | c2) * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ h >>> 29);
+	}
+
+	/**
+	 * Folds the scratch filter to a size proportional to the number of distinct trigrams. Since
+	 * all sizes are powers of 2, a trigram's bit in the folded filter is its scratch bit modulo the
+	 * folded size.
+	 */
+	private static long[] compact(long[] scratch) {
+		int distinct= 0;
+		for (long word : scratch) {
+			distinct+= Long.bitCount(word);
+		}
+		int bits= MIN_FILTER_BITS;
+		while (bits < MAX_FILTER_BITS && bits < distinct * BITS_PER_TRIGRAM) {
+			bits<<= 1;
+		}
+		long[] filter= new long[bits / Long.SIZE];
+		for (int i= 0; i < scratch.length; i++) {
+			filter[i % filter.length]|= scratch[i];
+		}
+		return filter;
+	}
+
+	/**
+	 * Loads the persisted entries, dropping the ones of files which no longer exist or changed.
+	 */
+	private void load() {
+		if (!fStorage.isFile()) {
+			return;
+		}
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(fStorage)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return;
+			}
+			int count= in.readInt();
+			for (int i= 0; i < count; i++) {
+				String path= in.readUTF();
+				long modificationStamp= in.readLong();
+				long localTimeStamp= in.readLong();
+				int length= in.readInt();
+				long[] filter= null;
+				if (length >= 0) {
+					filter= new long[length];
+					for (int k= 0; k < length; k++) {
+						filter[k]= in.readLong();
+					}
+				}
+				Entry entry= new Entry(modificationStamp, localTimeStamp, filter);
+				if (root.findMember(path) instanceof IFile file && file.isAccessible() && entry.isCurrent(file)) {
+					put(path, entry);
+				}
+			}
+			// write the pruned index back
+			fDirty.set(fEntries.size() < count);
+		} catch (IOException e) {
+			// a corrupt index is rebuilt
+			fEntries.clear();
+			fSize.set(0);
+			fDirty.set(false);
+		}
+		scheduleSave();
+	}
+
+	/**
+	 * Writes the index to its storage if it changed since it was written.
+	 */
+	public void save() {
+		if (!fDirty.getAndSet(false)) {
+			return;
+		}
+		fStorage.getParentFile().mkdirs();
+		File temp= new File(fStorage.getPath() + ".tmp"); //$NON-NLS-1$
+		List<Map.Entry<String, Entry>> entries= new ArrayList<>(fEntries.entrySet());
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> e : entries) {
+				Entry entry= e.getValue();
+				out.writeUTF(e.getKey());
+				out.writeLong(entry.fModificationStamp);
+				out.writeLong(entry.fLocalTimeStamp);
+				if (entry.fFilter == null) {
+					out.writeInt(-1);
+				} else {
+					out.writeInt(entry.fFilter.length);
+					for (long word : entry.fFilter) {
+						out.writeLong(word);
+					}
+				}
+			}
+		} catch (IOException e) {
+			SearchCorePlugin.log(e);
+			temp.delete();
+			return;
+		}
+		try {
+			Files.move(temp.toPath(), fStorage.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			SearchCorePlugin.log(e);
+			temp.delete();
+		}
+	}
+}
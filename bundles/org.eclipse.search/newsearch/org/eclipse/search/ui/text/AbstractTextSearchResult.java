@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,6 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -29,6 +28,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.eclipse.search.ui.ISearchResult;
 import org.eclipse.search.ui.ISearchResultListener;
 import org.eclipse.search.ui.SearchResultEvent;
+import org.eclipse.search2.internal.ui.text.MatchSet;
 
 /**
  * An abstract base implementation for text-match based search results. This search
@@ -41,7 +41,7 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 
 	private static final Match[] EMPTY_ARRAY= new Match[0];
 
-	private final ConcurrentMap<Object, Set<Match>> fElementsToMatches;
+	private final ConcurrentMap<Object, MatchSet> fElementsToMatches;
 	private final List<ISearchResultListener> fListeners;
 	private final AtomicInteger matchCount;
 
@@ -76,9 +76,9 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 		if (element == null) {
 			return EMPTY_ARRAY;
 		}
-		Set<Match> matches = fElementsToMatches.get(element);
+		MatchSet matches = fElementsToMatches.get(element);
 		if (matches != null) {
-			Match[] sortingCopy = matches.toArray(new Match[matches.size()]);
+			Match[] sortingCopy = matches.toArray();
 			Arrays.sort(sortingCopy, AbstractTextSearchResult::compare);
 			return sortingCopy;
 		}
@@ -101,9 +101,9 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 		if (element == null) {
 			return Collections.emptyEnumeration();
 		}
-		Set<Match> matches = fElementsToMatches.get(element);
+		MatchSet matches = fElementsToMatches.get(element);
 		if (matches != null) {
-			return Collections.enumeration(matches);
+			return Collections.enumeration(Arrays.asList(matches.toArray()));
 		}
 		return Collections.emptyEnumeration();
 	}
@@ -132,14 +132,30 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 	 * @param matches the matches to add
 	 */
 	public void addMatches(Match[] matches) {
-		Collection<Match> reallyAdded= new ArrayList<>();
+		// the filters are looked up once and consecutive matches of the same element share the
+		// lookup of the element's match set
+		MatchFilter[] matchFilters= getActiveMatchFilters();
+		Match[] reallyAdded= new Match[matches.length];
+		int count= 0;
+		Object lastElement= null;
+		MatchSet lastMatches= null;
 		for (Match match : matches) {
-			if (didAddMatch(match)) {
-				reallyAdded.add(match);
+			updateFilterState(match, matchFilters);
+			Object element= match.getElement();
+			if (lastMatches == null || !element.equals(lastElement)) {
+				lastMatches= fElementsToMatches.computeIfAbsent(element, k -> new MatchSet());
+				lastElement= element;
+			}
+			if (lastMatches.add(match)) {
+				reallyAdded[count++]= match;
 			}
 		}
-		if (!reallyAdded.isEmpty()) {
-			fireChange(getSearchResultEvent(reallyAdded, MatchEvent.ADDED));
+		matchCount.set(0);
+		if (count > 0) {
+			MatchEvent event= new MatchEvent(this);
+			event.setKind(MatchEvent.ADDED);
+			event.setMatches(count == reallyAdded.length ? reallyAdded : Arrays.copyOf(reallyAdded, count));
+			fireChange(event);
 		}
 	}
 
@@ -161,7 +177,7 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 	private boolean didAddMatch(Match match) {
 		matchCount.set(0);
 		updateFilterState(match);
-		return fElementsToMatches.computeIfAbsent(match.getElement(), k -> ConcurrentHashMap.newKeySet()).add(match);
+		return fElementsToMatches.computeIfAbsent(match.getElement(), k -> new MatchSet()).add(match);
 	}
 
 	private static int compare(Match match2, Match match1) {
@@ -280,7 +296,10 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 	 * Evaluates the filter for the match and updates it. Return true if the filter changed.
 	 */
 	private boolean updateFilterState(Match match) {
-		MatchFilter[] matchFilters= getActiveMatchFilters();
+		return updateFilterState(match, getActiveMatchFilters());
+	}
+
+	private static boolean updateFilterState(Match match, MatchFilter[] matchFilters) {
 		if (matchFilters == null) {
 			return false; // do nothing, no change
 		}
@@ -309,7 +328,7 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 		}
 		// The oldCount is zero here => we have to calculate again
 		int newCount = 0;
-		for (Set<Match> element : fElementsToMatches.values()) {
+		for (MatchSet element : fElementsToMatches.values()) {
 			newCount += element.size();
 		}
 		if (matchCount.compareAndSet(0, newCount)) {
@@ -325,7 +344,7 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 	 * @since 3.17
 	 */
 	public boolean hasMatches() {
-		for (Entry<Object, Set<Match>> entry : fElementsToMatches.entrySet()) {
+		for (Entry<Object, MatchSet> entry : fElementsToMatches.entrySet()) {
 			if (!entry.getValue().isEmpty()) {
 				return true;
 			}
@@ -345,7 +364,7 @@ public abstract class AbstractTextSearchResult implements ISearchResult {
 		if (element == null) {
 			return 0;
 		}
-		Set<Match> matches = fElementsToMatches.get(element);
+		MatchSet matches = fElementsToMatches.get(element);
 		if (matches != null) {
 			return matches.size();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.ui.IWorkingSet;
 
 import org.eclipse.search.core.text.TextSearchScope;
+import org.eclipse.search.internal.core.text.FilesOfScopeCalculator;
 import org.eclipse.search.internal.core.text.PatternConstructor;
 import org.eclipse.search.internal.ui.Messages;
 import org.eclipse.search.internal.ui.SearchMessages;
@@ -63,7 +64,7 @@ public final class FileTextSearchScope extends TextSearchScope {
 	 * @return a scope containing all files in the workspace that match the given file name patterns.
 	 */
 	public static FileTextSearchScope newWorkspaceScope(String[] fileNamePatterns, boolean includeDerived) {
-		return new FileTextSearchScope(SearchMessages.WorkspaceScope, new IResource[] { ResourcesPlugin.getWorkspace().getRoot() }, null, fileNamePatterns, includeDerived);
+		return FilesOfScopeCalculator.markEvaluated(new FileTextSearchScope(SearchMessages.WorkspaceScope, new IResource[] { ResourcesPlugin.getWorkspace().getRoot() }, null, fileNamePatterns, includeDerived));
 	}
 
 	/**
@@ -92,7 +93,7 @@ public final class FileTextSearchScope extends TextSearchScope {
 			String label= SearchMessages.FileTextSearchScope_scope_multiple;
 			description= Messages.format(label, new String[] { roots[0].getName(), roots[1].getName()});
 		}
-		return new FileTextSearchScope(description, roots, null, fileNamePatterns, includeDerived);
+		return FilesOfScopeCalculator.markEvaluated(new FileTextSearchScope(description, roots, null, fileNamePatterns, includeDerived));
 	}
 
 	/**
@@ -121,7 +122,7 @@ public final class FileTextSearchScope extends TextSearchScope {
 			description= Messages.format(label, new String[] { workingSets[0].getLabel(), workingSets[1].getLabel()});
 		}
 		FileTextSearchScope scope= new FileTextSearchScope(description, convertToResources(workingSets, includeDerived), workingSets, fileNamePatterns, includeDerived);
-		return scope;
+		return FilesOfScopeCalculator.markEvaluated(scope);
 	}
 
 	private final String fDescription;
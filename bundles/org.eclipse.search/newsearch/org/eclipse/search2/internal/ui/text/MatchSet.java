@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search2.internal.ui.text;
+
+import org.eclipse.search.ui.text.Match;
+
+/**
+ * The matches of one element of a search result. The matches are stored in an open addressing
+ * hash table with linear probing, which costs a few bytes per match instead of a node object per
+ * match, and an almost empty table for elements with few matches.
+ * <p>
+ * All methods are synchronized, so that matches of an element can be added and removed by
+ * several threads.
+ * </p>
+ */
+public final class MatchSet {
+
+	private static final Match[] EMPTY_ARRAY= new Match[0];
+
+	private static final int INITIAL_CAPACITY= 4;
+
+	private Match[] fTable= new Match[INITIAL_CAPACITY];
+	private int fSize;
+
+	/**
+	 * Adds a match.
+	 *
+	 * @param match the match to add
+	 * @return <code>true</code> if the match was added, <code>false</code> if it is already
+	 *         contained
+	 */
+	public synchronized boolean add(Match match) {
+		Match[] table= fTable;
+		int mask= table.length - 1;
+		int i= hash(match) & mask;
+		Match current;
+		while ((current= table[i]) != null) {
+			if (current.equals(match)) {
+				return false;
+			}
+			i= (i + 1) & mask;
+		}
+		table[i]= match;
+		fSize++;
+		if (3 * fSize > 2 * table.length) {
+			resize(2 * table.length);
+		}
+		return true;
+	}
+
+	/**
+	 * Removes a match.
+	 *
+	 * @param match the match to remove
+	 * @return <code>true</code> if the match was removed, <code>false</code> if it is not
+	 *         contained
+	 */
+	public synchronized boolean remove(Match match) {
+		Match[] table= fTable;
+		int mask= table.length - 1;
+		int i= hash(match) & mask;
+		Match current;
+		while ((current= table[i]) != null) {
+			if (current.equals(match)) {
+				table[i]= null;
+				fSize--;
+				closeGap(i);
+				return true;
+			}
+			i= (i + 1) & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Moves the following matches of the probe sequence into the freed slot where needed, so
+	 * that all matches stay reachable from their home slot.
+	 */
+	private void closeGap(int free) {
+		Match[] table= fTable;
+		int mask= table.length - 1;
+		int i= (free + 1) & mask;
+		Match current;
+		while ((current= table[i]) != null) {
+			int home= hash(current) & mask;
+			// the match can stay if its home slot lies cyclically in (free, i]
+			boolean reachable= free <= i ? free < home && home <= i : free < home || home <= i;
+			if (!reachable) {
+				table[free]= current;
+				table[i]= null;
+				free= i;
+			}
+			i= (i + 1) & mask;
+		}
+	}
+
+	private void resize(int capacity) {
+		Match[] oldTable= fTable;
+		Match[] table= new Match[capacity];
+		int mask= capacity - 1;
+		for (Match match : oldTable) {
+			if (match != null) {
+				int i= hash(match) & mask;
+				while (table[i] != null) {
+					i= (i + 1) & mask;
+				}
+				table[i]= match;
+			}
+		}
+		fTable= table;
+	}
+
+	public synchronized int size() {
+		return fSize;
+	}
+
+	public synchronized boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	/**
+	 * Returns a snapshot of the matches in no particular order.
+	 *
+	 * @return the matches
+	 */
+	public synchronized Match[] toArray() {
+		if (fSize == 0) {
+			return EMPTY_ARRAY;
+		}
+		Match[] matches= new Match[fSize];
+		int count= 0;
+		for (Match match : fTable) {
+			if (match != null) {
+				matches[count++]= match;
+			}
+		}
+		return matches;
+	}
+
+	private static int hash(Match match) {
+		int h= match.hashCode();
+		return h ^ (h >>> 16);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@
 package org.eclipse.search.internal.ui.text;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
@@ -27,6 +28,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -50,12 +52,23 @@ public class FileSearchQuery implements ISearchQuery {
 
 	private final static class TextSearchResultCollector extends TextSearchRequestor {
 
+		/**
+		 * Minimal time between two additions of matches to the result. The matches of the files
+		 * searched in between are added together, with a single event.
+		 */
+		private static final long PUBLISH_INTERVAL_NANOS= 100_000_000L;
+
 		private final AbstractTextSearchResult fResult;
 		private final boolean fIsFileSearchOnly;
 		private final boolean fSearchInBinaries;
 
 		private final boolean fIsLightweightAutoRefresh;
 		private final ConcurrentHashMap<IFile, ArrayList<FileMatch>> fCachedMatches;
+		/** Matches of completed files not yet added to the result. Protected by itself. */
+		private final ArrayList<Match> fPendingMatches;
+		private long fLastPublishTime; // Protected by fPendingMatches
+		/** Adds the pending matches once the interval has elapsed, even if no further file completes. */
+		private final Job fPublishJob;
 		private volatile boolean stop;
 
 		private TextSearchResultCollector(AbstractTextSearchResult result, boolean isFileSearchOnly, boolean searchInBinaries) {
@@ -64,6 +77,8 @@ public class FileSearchQuery implements ISearchQuery {
 			fSearchInBinaries= searchInBinaries;
 			fIsLightweightAutoRefresh= Platform.getPreferencesService().getBoolean(ResourcesPlugin.PI_RESOURCES, ResourcesPlugin.PREF_LIGHTWEIGHT_AUTO_REFRESH, false, null);
 			fCachedMatches = new ConcurrentHashMap<>();
+			fPendingMatches= new ArrayList<>();
+			fPublishJob= Job.createSystem("Publish file search matches", monitor -> publish(Collections.emptyList(), false)); //$NON-NLS-1$
 		}
 
 		@Override
@@ -78,7 +93,7 @@ public class FileSearchQuery implements ISearchQuery {
 			}
 
 			if (fIsFileSearchOnly) {
-				fResult.addMatch(new FileMatch(file));
+				publish(Collections.singletonList(new FileMatch(file)), false);
 			}
 			return true;
 		}
@@ -168,31 +183,66 @@ public class FileSearchQuery implements ISearchQuery {
 		@Override
 		public void beginReporting() {
 			stop = false;
+			synchronized (fPendingMatches) {
+				// the first matches are added right away
+				fLastPublishTime= System.nanoTime() - PUBLISH_INTERVAL_NANOS;
+			}
 		}
 
 		@Override
 		public void endReporting() {
-			stop = true;
-			flushMatches();
-			fCachedMatches.clear();
+			synchronized (fPendingMatches) {
+				// the publish job is not scheduled again once this is seen
+				stop = true;
+			}
+			fPublishJob.cancel();
+			try {
+				// a running publish job must not add matches after the search ended
+				fPublishJob.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			List<FileMatch> remaining= new ArrayList<>();
+			fCachedMatches.values().removeIf(matches -> {
+				if (matches != null) {
+					remaining.addAll(matches);
+				}
+				return true;
+			});
+			publish(remaining, true);
 		}
 
 		@Override
 		public void flushMatches(IFile file) {
 			List<FileMatch> matches = fCachedMatches.remove(file);
-			if (matches != null && !matches.isEmpty()) {
-				fResult.addMatches(matches.toArray(new Match[matches.size()]));
-			}
+			publish(matches != null ? matches : Collections.emptyList(), false);
 		}
 
-		private void flushMatches() {
-			fCachedMatches.values().removeIf(matches -> {
-				if (matches != null && !matches.isEmpty()) {
-					fResult.addMatches(matches.toArray(new Match[matches.size()]));
-					return true;
+		/**
+		 * Adds the matches to the pending matches, and adds all pending matches to the result if
+		 * forced or if the last addition is long enough ago. Otherwise the pending matches are
+		 * added by the publish job when the interval has elapsed.
+		 */
+		private void publish(List<? extends Match> matches, boolean force) {
+			Match[] toAdd;
+			synchronized (fPendingMatches) {
+				fPendingMatches.addAll(matches);
+				if (fPendingMatches.isEmpty()) {
+					return;
 				}
-				return false;
-			});
+				long now= System.nanoTime();
+				long remaining= PUBLISH_INTERVAL_NANOS - (now - fLastPublishTime);
+				if (!force && remaining > 0) {
+					if (!stop) {
+						fPublishJob.schedule(Math.max(1, remaining / 1_000_000L));
+					}
+					return;
+				}
+				toAdd= fPendingMatches.toArray(new Match[fPendingMatches.size()]);
+				fPendingMatches.clear();
+				fLastPublishTime= now;
+			}
+			fResult.addMatches(toAdd);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2023 Pivotal Software, Inc.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,27 +13,79 @@
  *******************************************************************************/
 package org.eclipse.text.quicksearch.internal.core;
 
+import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.search.internal.ui.text.FileMatch;
 
 @SuppressWarnings("restriction")
 public class LineItem {
 
+	/**
+	 * Reads the text of a line of a file for items that do not keep their text.
+	 */
+	@FunctionalInterface
+	interface LineTextReader {
+		/**
+		 * @param item the item whose line is read
+		 * @param stamp the modification stamp of the file when the line was found
+		 * @param load whether the file may be read if its text is no longer cached, which must
+		 *            not happen on the UI thread
+		 * @return the text of the line, or <code>null</code> if it cannot be read, the file
+		 *         changed since the line was found, or the text is not cached and must not be
+		 *         loaded
+		 */
+		String readLine(LineItem item, IFile f, long stamp, int lineOffset, int lineLength, boolean load);
+	}
+
 	IFile f;
+	/**
+	 * The text of the line, <code>null</code> if it is read on demand by the {@link #reader}.
+	 */
 	String line;
 	int lineNumber;
 	int lineOffset;
+	private final int lineLength;
+	/**
+	 * The file as it was searched, which can differ from {@link #f} in nested projects, and its
+	 * modification stamp when the line was found. Only used to read the text on demand.
+	 */
+	private final IFile searchedFile;
+	private final long stamp;
+	private final LineTextReader reader;
+	/**
+	 * The text read on demand, which can be dropped when memory is low.
+	 */
+	private SoftReference<String> cachedLine;
 
 	public LineItem(IFile f, String line, int lineNumber, int lineOffset) {
 		this.f = getInnermostProjectFile(f);
 		this.line = line;
 		this.lineNumber = lineNumber;
 		this.lineOffset = lineOffset;
+		this.lineLength = line.length();
+		this.searchedFile = null;
+		this.stamp = IResource.NULL_STAMP;
+		this.reader = null;
+	}
+
+	/**
+	 * Creates an item that does not keep the text of its line, but reads it when it is needed,
+	 * typically when the item becomes visible.
+	 */
+	LineItem(IFile f, long stamp, int lineNumber, int lineOffset, int lineLength, LineTextReader reader) {
+		this.f = getInnermostProjectFile(f);
+		this.lineNumber = lineNumber;
+		this.lineOffset = lineOffset;
+		this.lineLength = lineLength;
+		this.searchedFile = f;
+		this.stamp = stamp;
+		this.reader = reader;
 	}
 
 	public LineItem(FileMatch match) {
@@ -41,6 +93,10 @@ public class LineItem {
 		this.line = match.getLineElement().getContents();
 		this.lineNumber = match.getLineElement().getLine();
 		this.lineOffset = match.getLineElement().getOffset();
+		this.lineLength = line.length();
+		this.searchedFile = null;
+		this.stamp = IResource.NULL_STAMP;
+		this.reader = null;
 	}
 
 	private IFile getInnermostProjectFile(IFile file) {
@@ -58,11 +114,49 @@ public class LineItem {
 
 	@Override
 	public String toString() {
-		return lineNumber + ": " + line + "  (" +f.getProjectRelativePath() + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		return lineNumber + ": " + getText() + "  (" +f.getProjectRelativePath() + ")"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
 
+	/**
+	 * Returns the text of the line. Does not read the file, if the text of an item that does not
+	 * keep it is no longer cached, the empty string is returned until the text was loaded in the
+	 * background.
+	 */
 	public String getText() {
-		return line;
+		return getText(false);
+	}
+
+	/**
+	 * Returns the text of the line, reading the file if needed. Must not be called on the UI
+	 * thread.
+	 */
+	String loadText() {
+		return getText(true);
+	}
+
+	private String getText(boolean load) {
+		if (line != null) {
+			return line;
+		}
+		SoftReference<String> ref = cachedLine;
+		String text = ref == null ? null : ref.get();
+		if (text == null) {
+			text = reader.readLine(this, searchedFile, stamp, lineOffset, lineLength, load);
+			if (text == null) {
+				// the file is gone or was changed, or the text is not loaded yet
+				return ""; //$NON-NLS-1$
+			}
+			cachedLine = new SoftReference<>(text);
+		}
+		return text;
+	}
+
+	/**
+	 * @return the file the text of the line is read from on demand, or <code>null</code> if the
+	 *         item keeps its text
+	 */
+	IFile getSearchedFile() {
+		return searchedFile;
 	}
 
 	public int getLineNumber() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2010 Pivotal Software, Inc. and others.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,10 @@ package org.eclipse.text.quicksearch.internal.core;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.search.internal.core.text.PatternPlan;
 
 /**
  * Represents something you can search for with a 'quick search' text searcher.
@@ -48,7 +48,11 @@ public class QuickTextQuery {
 
 	private final boolean caseInsensitive;
 	private final String orgPattern; //Original pattern case preserved even if search is case insensitive.
-	final Pattern pattern;
+	/**
+	 * How to find the matches of the query, without the regular expression engine for queries
+	 * without wildcards.
+	 */
+	final PatternPlan plan;
 
 	/**
 	 * A query that matches anything.
@@ -61,7 +65,7 @@ public class QuickTextQuery {
 		this.orgPattern = substring;
 		this.caseInsensitive = caseInsensitive;
 		String regex = createRegEx(substring);
-		pattern = Pattern.compile(regex, caseInsensitive ? Pattern.CASE_INSENSITIVE : 0);
+		plan = PatternPlan.create(Pattern.compile(regex, caseInsensitive ? Pattern.CASE_INSENSITIVE : 0));
 	}
 
 	private String createRegEx(String patString) {
@@ -174,10 +178,11 @@ public class QuickTextQuery {
 			return Arrays.asList();
 		} else {
 			List<TextRange> ranges = new ArrayList<>();
-			Matcher matcher = pattern.matcher(text);
-			while (matcher.find()) {
-				int start = matcher.start();
-				int end = matcher.end();
+			PatternPlan.Finder finder = plan.finder();
+			finder.reset(text, 0, text.length());
+			while (finder.find()) {
+				int start = finder.start();
+				int end = finder.end();
 				ranges.add(new TextRange(start, end-start));
 			}
 			return ranges;
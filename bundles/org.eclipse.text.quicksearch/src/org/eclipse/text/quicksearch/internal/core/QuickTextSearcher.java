@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Pivotal Software, Inc.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,16 +13,15 @@
 package org.eclipse.text.quicksearch.internal.core;
 
 import java.io.InputStreamReader;
-import java.io.Reader;
 import java.io.StringReader;
-import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -32,15 +31,22 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.search.internal.core.text.PatternPlan;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatcher;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatchers;
 import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
 import org.eclipse.text.quicksearch.internal.ui.Messages;
+import org.eclipse.text.quicksearch.internal.util.FileContentCache;
 import org.eclipse.text.quicksearch.internal.util.LightSchedulingRule;
 import org.eclipse.text.quicksearch.internal.util.LineReader;
 
 public class QuickTextSearcher {
 	private static int MAX_BUFFER_LENGTH = 999_999; // read max 1MB bytes => max 2MB chars.
+	/**
+	 * Matches in lines longer than this do not keep the text of the line, but read it again
+	 * when it is needed. Only used for files that are not streamed.
+	 */
+	private static final int LAZY_LINE_LENGTH = 120;
 	private final QuickTextSearchRequestor requestor;
 	private QuickTextQuery query;
 
@@ -55,6 +61,19 @@ public class QuickTextSearcher {
 	 */
 	private final ISchedulingRule matchesRule = new LightSchedulingRule("QuickSearchMatchesRule"); //$NON-NLS-1$
 
+	/**
+	 * Text of the files searched so far, so that the files are not read again when the search
+	 * is restarted for a changed query.
+	 */
+	private final FileContentCache contentCache;
+
+	/**
+	 * Items whose text was requested on the UI thread but was no longer cached, loaded by the
+	 * {@link #lineLoader}.
+	 */
+	private final Set<LineItem> linesToLoad = ConcurrentHashMap.newKeySet();
+	private final Job lineLoader = Job.createSystem("Load quick search lines", this::loadLines); //$NON-NLS-1$
+
 	private final SearchInFilesWalker walker;
 	private IncrementalUpdateJob incrementalUpdate;
 
@@ -106,7 +125,16 @@ public class QuickTextSearcher {
 	}
 
 	public QuickTextSearcher(QuickTextQuery query, PriorityFunction priorities, int maxLineLen, QuickTextSearchRequestor requestor) {
+		this(query, priorities, maxLineLen, requestor, FileContentCache.create());
+	}
+
+	/**
+	 * Creates a searcher that keeps the text of the searched files in the given cache.
+	 */
+	public QuickTextSearcher(QuickTextQuery query, PriorityFunction priorities, int maxLineLen, QuickTextSearchRequestor requestor,
+			FileContentCache contentCache) {
 		this.MAX_LINE_LEN = maxLineLen;
+		this.contentCache = contentCache;
 		this.requestor = requestor;
 		this.query = query;
 		this.walker = createWalker(new PriorityFunction() {
@@ -150,17 +178,41 @@ public class QuickTextSearcher {
 		}
 
 		@Override
-		protected boolean searchIn(IFile f, BooleanSupplier canceled) {
+		protected Runnable searchIn(IFile f, BooleanSupplier canceled) {
 			currentFile = f;
-			return search(f, canceled, MAX_LINE_LEN, query.pattern, QuickTextSearcher.this::add);
+			List<LineItem> found = new ArrayList<>();
+			if (!search(f, canceled, MAX_LINE_LEN, query.plan, contentCache, QuickTextSearcher.this::loadLater, found::add)) {
+				return null;
+			}
+			return () -> found.forEach(QuickTextSearcher.this::add);
 		}
 
-		private static boolean search(IFile f, BooleanSupplier canceled,
-				int maxLineLength, Pattern pattern, Consumer<LineItem> add) {
+		/**
+		 * @param loadLater called on the UI thread for items whose text must be loaded
+		 */
+		private static boolean search(IFile f, BooleanSupplier canceled, int maxLineLength, PatternPlan plan,
+				FileContentCache cache, Consumer<LineItem> loadLater, Consumer<LineItem> add) {
 			if (canceled.getAsBoolean()) {
 				return false;
 			}
-			try (LineReader lr = new LineReader(getReader(f),
+			// the stamp must be read before the content, so that a concurrent change is noticed
+			long stamp = f.getModificationStamp();
+			String charset;
+			try {
+				charset = f.getCharset();
+			} catch (CoreException e) {
+				return true;
+			}
+			String text = getText(f, stamp, charset, cache);
+			PatternPlan.Finder finder = plan.finder();
+			LineItem.LineTextReader lines = (item, file, fileStamp, lineOffset, lineLength, load) -> {
+				String lineText = readLine(file, fileStamp, charset, lineOffset, lineLength, load, cache);
+				if (lineText == null && !load && file.getModificationStamp() == fileStamp) {
+					loadLater.accept(item);
+				}
+				return lineText;
+			};
+			try (LineReader lr = new LineReader(text != null ? new StringReader(text) : new InputStreamReader(f.getContents(true), charset),
 					maxLineLength)) {
 				String line;
 				int lineIndex = 1;
@@ -170,9 +222,11 @@ public class QuickTextSearcher {
 						return false;
 					}
 
-					Matcher matcher = pattern.matcher(line);
-					if (matcher.find()) {
-						LineItem lineItem = new LineItem(f, line, lineIndex, offset);
+					finder.reset(line, 0, line.length());
+					if (finder.find()) {
+						LineItem lineItem = text != null && line.length() > LAZY_LINE_LENGTH
+								? new LineItem(f, stamp, lineIndex, offset, line.length(), lines)
+								: new LineItem(f, line, lineIndex, offset);
 						add.accept(lineItem);
 					}
 
@@ -184,15 +238,6 @@ public class QuickTextSearcher {
 			return true;
 		}
 
-		private static Reader getReader(IFile f) throws UnsupportedEncodingException, CoreException {
-			String shortString = toShortString(f);
-			if (shortString != null) {
-				return new StringReader(shortString);
-			} else {
-				return new InputStreamReader(f.getContents(true), f.getCharset());
-			}
-		}
-
 		@Override
 		public void resume() {
 			//Only resume if we don't already exceed the maxResult limit.
@@ -202,10 +247,69 @@ public class QuickTextSearcher {
 		}
 
 	}
+	/**
+	 * Returns the content of a file as String, from the cache if the file did not change since
+	 * it was cached.
+	 *
+	 * @param stamp the modification stamp of the file, read before this call
+	 * @return the content, or <code>null</code> if the file is too large and must be streamed
+	 */
+	private static String getText(IFile f, long stamp, String charset, FileContentCache cache) {
+		String text = cache.get(f, stamp, charset);
+		if (text == null) {
+			text = toShortString(f, charset);
+			if (text != null) {
+				cache.put(f, stamp, charset, text);
+			}
+		}
+		return text;
+	}
+
+	/**
+	 * Reads a line of a file again.
+	 *
+	 * @param stamp the modification stamp of the file when the line was found
+	 * @param load whether the file may be read if its text is no longer cached
+	 * @return the text of the line, or <code>null</code> if the file changed since the line was
+	 *         found, the offsets are no longer valid then, or if the text is not cached and must
+	 *         not be loaded
+	 */
+	private static String readLine(IFile f, long stamp, String charset, int lineOffset, int lineLength, boolean load,
+			FileContentCache cache) {
+		if (f.getModificationStamp() != stamp) {
+			return null;
+		}
+		String text = load ? getText(f, stamp, charset, cache) : cache.get(f, stamp, charset);
+		if (text == null || lineOffset + lineLength > text.length() || f.getModificationStamp() != stamp) {
+			return null;
+		}
+		return text.substring(lineOffset, lineOffset + lineLength);
+	}
+
+	/**
+	 * Loads the text of the given item in the background, the item is updated when it is loaded.
+	 */
+	private void loadLater(LineItem item) {
+		if (linesToLoad.add(item)) {
+			lineLoader.schedule();
+		}
+	}
+
+	private void loadLines(IProgressMonitor monitor) {
+		Iterator<LineItem> items = linesToLoad.iterator();
+		while (items.hasNext() && !monitor.isCanceled()) {
+			LineItem item = items.next();
+			items.remove();
+			if (!item.loadText().isEmpty()) {
+				requestor.update(item);
+			}
+		}
+	}
+
 	/**
 	 * Try to get a content as String. Avoids Streaming.
 	 */
-	private static String toShortString(IFile file) {
+	private static String toShortString(IFile file, String charset) {
 		/**
 		 * Just any number such that the most source files will fit in. And not too
 		 * big to avoid out of memory.
@@ -216,7 +320,6 @@ public class QuickTextSearcher {
 			if (length >= MAX_BUFFER_LENGTH) {
 				return null;
 			}
-			String charset = file.getCharset();
 			return new String(content, charset);
 		} catch (Exception e) {
 			return null;
@@ -261,8 +364,7 @@ public class QuickTextSearcher {
 			while (items.hasNext() && !mon.isCanceled()) {
 
 				LineItem item = items.next();
-				Matcher matcher = query.pattern.matcher(item.getText());
-				if (matcher.find()) {
+				if (query.plan.matches(item.loadText())) {
 					//Match still valid but may need updating highlighted text in the UI:
 					requestor.update(item);
 				} else {
@@ -353,6 +455,15 @@ public class QuickTextSearcher {
 
 	public void cancel() {
 		walker.cancel();
+		// the items shown after the search ended may still read their text, which must neither
+		// block the UI thread nor read the file again, so only the text of their files is kept
+		Set<IFile> shownFiles = new HashSet<>();
+		for (LineItem item : matches) {
+			if (item.getSearchedFile() != null) {
+				shownFiles.add(item.getSearchedFile());
+			}
+		}
+		contentCache.retainAll(shownFiles);
 		if (incrementalUpdate instanceof IncrementalUpdateJob update) {
 			update.cancel();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 Pivotal Software, Inc.
+ * Copyright (c) 2013, 2026 Pivotal Software, Inc.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -13,6 +13,8 @@
 package org.eclipse.text.quicksearch.internal.core;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +55,53 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
+	private static record Ticket(QItem item, long number) {
+	}
+
+	/**
+	 * The files of one walk. The files are taken in priority order and searched concurrently,
+	 * the reports of the searches are run in the same order as the files were taken.
+	 */
+	private static final class Walk {
+		private final PriorityQueue<QItem> queue = new PriorityQueue<>();
+		private long taken; // protected by queue
+		private final Map<Long, Runnable> reports = new HashMap<>();
+		private long reported; // protected by reports
+
+		Walk(Collection<QItem> items) {
+			queue.addAll(items);
+		}
+
+		Ticket take() {
+			synchronized (queue) {
+				QItem item = queue.poll();
+				return item == null ? null : new Ticket(item, taken++);
+			}
+		}
+
+		void clear() {
+			synchronized (queue) {
+				queue.clear();
+			}
+		}
+
+		/**
+		 * Runs the report of the file of the ticket once the reports of all files taken before
+		 * have run. A report never runs if the search of a file taken before was stopped. A file
+		 * whose search failed is reported without results.
+		 */
+		void report(Ticket ticket, Runnable report) {
+			synchronized (reports) {
+				reports.put(ticket.number(), report);
+				Runnable next;
+				while ((next = reports.remove(reported)) != null) {
+					reported++;
+					next.run();
+				}
+			}
+		}
+	}
+
 	public ResourceWalker() {
 		super(Messages.QuickSearchDialog_title);
 		init();
@@ -140,21 +189,32 @@ public abstract class ResourceWalker extends Job {
 	public IStatus run(IProgressMonitor monitor) {
 		int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
 		ExecutorService executorService = Executors.newFixedThreadPool(workers);
-		// copy the filesToSearch, to only remove a file after search completed
-		PriorityQueue<QItem> queue = new PriorityQueue<>();
-		queue.addAll(filesToSearch);
+		// copy the filesToSearch, to only remove a file after its results are reported
+		Walk walk = new Walk(filesToSearch);
+		BooleanSupplier canceled = () -> monitor.isCanceled() || suspend;
 		for (int worker = 0; worker < workers; worker++) {
 			executorService.submit(() -> {
-				QItem item;
-				while ((item = queue.poll()) != null) {
-					if (monitor.isCanceled() || suspend) {
-						break;
-					} else {
-						IResource r = item.resource;
-						IFile f = (IFile) r;
-						boolean searched = searchIn(f, () -> monitor.isCanceled() || suspend);
-						if (searched) {
-							filesToSearch.remove(item);
+				Ticket ticket;
+				while (!canceled.getAsBoolean() && (ticket = walk.take()) != null) {
+					QItem item = ticket.item();
+					Runnable report = null;
+					boolean failed = true;
+					try {
+						report = searchIn((IFile) item.resource, canceled);
+						failed = false;
+					} catch (RuntimeException | StackOverflowError e) {
+						QuickSearchActivator.log(e);
+					} finally {
+						// the ticket must complete even if the search failed, otherwise the
+						// reports of all files taken after this one would never run
+						if (report != null) {
+							Runnable searched = report;
+							walk.report(ticket, () -> {
+								searched.run();
+								filesToSearch.remove(item);
+							});
+						} else if (failed) {
+							walk.report(ticket, () -> filesToSearch.remove(item));
 						}
 					}
 				}
@@ -164,7 +224,7 @@ public abstract class ResourceWalker extends Job {
 			while (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
 				executorService.shutdown();
 				if (monitor.isCanceled() || suspend) {
-					queue.clear();
+					walk.clear();
 					executorService.shutdownNow();
 				}
 			}
@@ -182,7 +242,17 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
-	protected abstract boolean searchIn(IFile f, BooleanSupplier canceled);
+	/**
+	 * Searches a file. Several files are searched concurrently, so the results must not be
+	 * reported directly but by the returned report. The reports are run one at a time in the
+	 * priority order of the files.
+	 *
+	 * @param f the file to search
+	 * @param canceled tells whether the search should be stopped
+	 * @return the report of the results, or <code>null</code> if the search was stopped before
+	 *         the whole file was searched
+	 */
+	protected abstract Runnable searchIn(IFile f, BooleanSupplier canceled);
 
 	/**
 	 * Assigns a priority to a given resource. This priority will affect the order in which
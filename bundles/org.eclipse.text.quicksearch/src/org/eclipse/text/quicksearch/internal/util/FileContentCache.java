@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Caches the text of the files searched during a quick search session, so that searching
+ * them again for a changed query does not read and decode them again.
+ * <p>
+ * An entry is only returned while the modification stamp and the charset of its file are
+ * unchanged. The charset is checked because changing the encoding of a file does not change
+ * its modification stamp. When the
+ * cached text exceeds the capacity, the least recently used entries are dropped.
+ * <p>
+ * Instances are thread safe.
+ */
+public class FileContentCache {
+
+	private static record Entry(long stamp, String charset, String text) {
+	}
+
+	/** Upper bound of the default capacity, in characters. */
+	private static final long MAX_DEFAULT_CAPACITY = 32 * 1024 * 1024;
+
+	private final long capacity;
+	private long size; // protected by this
+
+	private final LinkedHashMap<IFile, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Creates a cache that keeps at most the given number of characters.
+	 */
+	public FileContentCache(long capacity) {
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Creates a cache with a capacity that depends on the maximum heap size.
+	 */
+	public static FileContentCache create() {
+		// characters take up to two bytes, use at most a sixteenth of the heap
+		return new FileContentCache(Math.min(Runtime.getRuntime().maxMemory() / 32, MAX_DEFAULT_CAPACITY));
+	}
+
+	/**
+	 * Returns the cached text of the file.
+	 *
+	 * @param file the file
+	 * @param stamp the current modification stamp of the file
+	 * @param charset the current charset of the file
+	 * @return the text, or <code>null</code> if the file is not cached or the text was cached
+	 *         for another modification stamp or charset
+	 */
+	public synchronized String get(IFile file, long stamp, String charset) {
+		Entry entry = entries.get(file);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.stamp() != stamp || !entry.charset().equals(charset)) {
+			entries.remove(file);
+			size -= entry.text().length();
+			return null;
+		}
+		return entry.text();
+	}
+
+	/**
+	 * Caches the text of a file.
+	 *
+	 * @param file the file
+	 * @param stamp the modification stamp of the file read <em>before</em> its text was read
+	 * @param charset the charset the text was decoded with
+	 * @param text the text
+	 */
+	public synchronized void put(IFile file, long stamp, String charset, String text) {
+		if (stamp == IResource.NULL_STAMP || text.length() > capacity) {
+			return;
+		}
+		Entry old = entries.put(file, new Entry(stamp, charset, text));
+		if (old != null) {
+			size -= old.text().length();
+		}
+		size += text.length();
+		Iterator<Map.Entry<IFile, Entry>> iterator = entries.entrySet().iterator();
+		while (size > capacity) {
+			size -= iterator.next().getValue().text().length();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Drops the entries of all files but the given ones.
+	 */
+	public synchronized void retainAll(Set<IFile> files) {
+		Iterator<Map.Entry<IFile, Entry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<IFile, Entry> entry = iterator.next();
+			if (!files.contains(entry.getKey())) {
+				size -= entry.getValue().text().length();
+				iterator.remove();
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		size = 0;
+	}
+}
@@ -178,7 +178,7 @@ public class TextEditor extends AbstractDecoratedTextEditor {
 
 	@Override
 	protected void handlePreferenceStoreChanged(PropertyChangeEvent event) {
-		if (event.getProperty().equals(SpellingService.PREFERENCE_SPELLING_ENABLED)) {
+		if (event.getProperty().equals(SpellingService.PREFERENCE_SPELLING_ENABLED) || event.getProperty().equals(SpellingService.PREFERENCE_SPELLING_INCREMENTAL)) {
 			ISourceViewer viewer= getSourceViewer();
 
 			if (!(viewer instanceof ISourceViewerExtension2)) {
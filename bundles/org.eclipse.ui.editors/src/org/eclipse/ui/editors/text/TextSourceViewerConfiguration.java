@@ -54,6 +54,8 @@ import org.eclipse.jface.text.source.SourceViewerConfiguration;
 
 import org.eclipse.ui.internal.editors.text.EditorsPlugin;
 
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor.LargeFileFeature;
 import org.eclipse.ui.texteditor.AbstractDecoratedTextEditorPreferenceConstants;
 import org.eclipse.ui.texteditor.AnnotationPreference;
 import org.eclipse.ui.texteditor.HyperlinkDetectorRegistry;
@@ -401,6 +403,9 @@ public class TextSourceViewerConfiguration extends SourceViewerConfiguration {
 	 * This implementation currently returns a {@link MonoReconciler} which
 	 * is responsible for spell checking. In the future a different reconciler
 	 * taking over more responsibilities might be returned.</p>
+	 * <p>
+	 * The reconciler is incremental if
+	 * {@link SpellingService#PREFERENCE_SPELLING_INCREMENTAL} is set.</p>
 	 *
 	 * @see org.eclipse.jface.text.source.SourceViewerConfiguration#getReconciler(org.eclipse.jface.text.source.ISourceViewer)
 	 * @since 3.3
@@ -411,13 +416,18 @@ public class TextSourceViewerConfiguration extends SourceViewerConfiguration {
 			return null;
 		}
 
+		if (AbstractDecoratedTextEditor.isFeatureDegraded(sourceViewer, LargeFileFeature.SPELLING)) {
+			return null;
+		}
+
 		SpellingService spellingService= EditorsUI.getSpellingService();
 		if (spellingService.getActiveSpellingEngineDescriptor(fPreferenceStore) == null) {
 			return null;
 		}
 
-		IReconcilingStrategy strategy= new SpellingReconcileStrategy(sourceViewer, spellingService);
-		MonoReconciler reconciler= new MonoReconciler(strategy, false);
+		boolean incremental= fPreferenceStore.getBoolean(SpellingService.PREFERENCE_SPELLING_INCREMENTAL);
+		IReconcilingStrategy strategy= new SpellingReconcileStrategy(sourceViewer, spellingService, incremental);
+		MonoReconciler reconciler= new MonoReconciler(strategy, incremental);
 		reconciler.setDelay(500);
 		return reconciler;
 	}
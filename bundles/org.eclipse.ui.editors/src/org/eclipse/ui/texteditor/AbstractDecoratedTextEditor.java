@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,8 +23,11 @@ import java.nio.charset.UnsupportedCharsetException;
 import java.text.BreakIterator;
 import java.text.DateFormat;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.Iterator;
+import java.util.Set;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
@@ -69,6 +72,7 @@ import org.eclipse.jface.action.GroupMarker;
 import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.action.IMenuListener;
 import org.eclipse.jface.action.IMenuManager;
+import org.eclipse.jface.action.IStatusLineManager;
 import org.eclipse.jface.action.MenuManager;
 import org.eclipse.jface.action.Separator;
 import org.eclipse.jface.dialogs.ErrorDialog;
@@ -108,7 +112,9 @@ import org.eclipse.jface.text.source.IOverviewRulerExtension;
 import org.eclipse.jface.text.source.ISharedTextColors;
 import org.eclipse.jface.text.source.ISourceViewer;
 import org.eclipse.jface.text.source.ISourceViewerExtension;
+import org.eclipse.jface.text.source.ISourceViewerExtension2;
 import org.eclipse.jface.text.source.ISourceViewerExtension3;
+import org.eclipse.jface.text.source.ISourceViewerExtension5;
 import org.eclipse.jface.text.source.IVerticalRuler;
 import org.eclipse.jface.text.source.IVerticalRulerColumn;
 import org.eclipse.jface.text.source.LineChangeHover;
@@ -163,6 +169,7 @@ import org.eclipse.ui.texteditor.rulers.IContributedRulerColumn;
 import org.eclipse.ui.texteditor.rulers.RulerColumnDescriptor;
 import org.eclipse.ui.texteditor.rulers.RulerColumnPreferenceAdapter;
 import org.eclipse.ui.texteditor.rulers.RulerColumnRegistry;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
 import org.eclipse.ui.texteditor.stickyscroll.IStickyLinesProvider;
 
 import org.eclipse.ui.editors.text.DefaultEncodingSupport;
@@ -182,6 +189,36 @@ import org.eclipse.ui.editors.text.ITextEditorHelpContextIds;
  */
 public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 
+	/**
+	 * Features whose cost grows with the size of the document and which an editor turns off for
+	 * large files.
+	 *
+	 * @see AbstractDecoratedTextEditor#isLargeFile(IDocument)
+	 * @see AbstractDecoratedTextEditor#getDegradedFeatures()
+	 * @since 3.21
+	 */
+	public enum LargeFileFeature {
+		/** The quick diff change information in the line number ruler. */
+		QUICK_DIFF,
+		/** The highlighting of occurrences of the selected element. */
+		OCCURRENCES,
+		/** Code folding. */
+		FOLDING,
+		/** Code minings. */
+		CODE_MINING,
+		/** The painting of whitespace characters. */
+		WHITESPACE_CHARACTERS,
+		/** The spell checking reconciler. */
+		SPELLING
+	}
+
+	/**
+	 * Key of the text widget data holding the set of degraded {@link LargeFileFeature features}.
+	 *
+	 * @since 3.21
+	 */
+	private static final String DEGRADED_FEATURES_DATA= "org.eclipse.ui.texteditor.degradedFeatures"; //$NON-NLS-1$
+
 	/**
 	 * Preference key for showing the line number ruler.
 	 */
@@ -342,6 +379,11 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 	 *
 	 */
 	private StickyScrollingHandler fStickyScrollingHandler;
+	/**
+	 * The features turned off because the document is large.
+	 * @since 3.21
+	 */
+	private final Set<LargeFileFeature> fDegradedFeatures= EnumSet.noneOf(LargeFileFeature.class);
 
 	/*
 	 * Workaround for IllegalAccessError thrown because we are accessing
@@ -419,6 +461,7 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 		ISourceViewer viewer= new SourceViewer(parent, ruler, getOverviewRuler(), isOverviewRulerVisible(), styles);
 		// ensure decoration support has been created and configured.
 		getSourceViewerDecorationSupport(viewer);
+		markDegradedFeatures(viewer);
 
 		return viewer;
 	}
@@ -697,7 +740,257 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 	protected boolean isPrefQuickDiffAlwaysOn() {
 		IPreferenceStore store= getPreferenceStore();
 		boolean setting= store != null ? store.getBoolean(AbstractDecoratedTextEditorPreferenceConstants.QUICK_DIFF_ALWAYS_ON) : false;
-		return setting && isEditorInputModifiable();
+		return setting && isEditorInputModifiable() && !isFeatureDegraded(LargeFileFeature.QUICK_DIFF);
+	}
+
+	/**
+	 * Tells whether the given document is large enough to turn off expensive features, i.e.
+	 * whether it exceeds the {@link AbstractDecoratedTextEditorPreferenceConstants#EDITOR_LARGE_FILE_SIZE_THRESHOLD size}
+	 * or the {@link AbstractDecoratedTextEditorPreferenceConstants#EDITOR_LARGE_FILE_LINE_THRESHOLD line}
+	 * threshold.
+	 * <p>
+	 * Subclasses may extend or replace.
+	 * </p>
+	 *
+	 * @param document the document, may be <code>null</code>
+	 * @return <code>true</code> if the document is a large file
+	 * @since 3.21
+	 */
+	protected boolean isLargeFile(IDocument document) {
+		IPreferenceStore store= getPreferenceStore();
+		if (document == null || store == null) {
+			return false;
+		}
+		int maxCharacters= store.getInt(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_SIZE_THRESHOLD);
+		if (maxCharacters > 0 && document.getLength() > maxCharacters) {
+			return true;
+		}
+		int maxLines= store.getInt(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD);
+		return maxLines > 0 && document.getNumberOfLines() > maxLines;
+	}
+
+	/**
+	 * Returns the features to turn off if the editor input is a {@link #isLargeFile(IDocument) large file}.
+	 * <p>
+	 * This implementation returns all features. Subclasses may override.
+	 * </p>
+	 *
+	 * @return the features to turn off for large files
+	 * @since 3.21
+	 */
+	protected Set<LargeFileFeature> getLargeFileFeatures() {
+		return EnumSet.allOf(LargeFileFeature.class);
+	}
+
+	/**
+	 * Returns the features which are turned off because the editor input is a large file.
+	 *
+	 * @return an unmodifiable set of the degraded features, empty if none
+	 * @since 3.21
+	 */
+	public final Set<LargeFileFeature> getDegradedFeatures() {
+		return Collections.unmodifiableSet(EnumSet.copyOf(fDegradedFeatures));
+	}
+
+	/**
+	 * Tells whether the given feature is turned off because the editor input is a large file.
+	 *
+	 * @param feature the feature
+	 * @return <code>true</code> if the feature is degraded
+	 * @since 3.21
+	 */
+	public final boolean isFeatureDegraded(LargeFileFeature feature) {
+		return fDegradedFeatures.contains(feature);
+	}
+
+	/**
+	 * Tells whether the editor showing the given viewer turned off the given feature because its
+	 * input is a large file. Source viewer configurations use this for the features they install,
+	 * e.g. spell checking, folding or occurrence highlighting. The answer is known once the viewer
+	 * has been created and does not change for the lifetime of the viewer's configuration.
+	 *
+	 * @param viewer the source viewer
+	 * @param feature the feature
+	 * @return <code>true</code> if the feature is degraded for the given viewer
+	 * @since 3.21
+	 */
+	public static boolean isFeatureDegraded(ISourceViewer viewer, LargeFileFeature feature) {
+		StyledText textWidget= viewer != null ? viewer.getTextWidget() : null;
+		if (textWidget == null || textWidget.isDisposed()) {
+			return false;
+		}
+		return textWidget.getData(DEGRADED_FEATURES_DATA) instanceof Set<?> features && features.contains(feature);
+	}
+
+	/**
+	 * Records the currently degraded features on the given viewer so that its configuration can
+	 * honor them, see {@link #isFeatureDegraded(ISourceViewer, LargeFileFeature)}. Subclasses
+	 * which create their own source viewer should call this before returning it from
+	 * {@link #createSourceViewer(Composite, IVerticalRuler, int)}.
+	 *
+	 * @param viewer the source viewer
+	 * @since 3.21
+	 */
+	protected final void markDegradedFeatures(ISourceViewer viewer) {
+		StyledText textWidget= viewer.getTextWidget();
+		if (textWidget != null) {
+			textWidget.setData(DEGRADED_FEATURES_DATA, fDegradedFeatures.isEmpty() ? null : getDegradedFeatures());
+		}
+	}
+
+	/**
+	 * Turns the large file profile on or off for the given input, depending on whether its
+	 * document is a {@link #isLargeFile(IDocument) large file}, and reports the degraded
+	 * features in the status line.
+	 *
+	 * @param input the editor input
+	 * @since 3.21
+	 */
+	private void updateLargeFileProfile(IEditorInput input) {
+		IDocumentProvider provider= getDocumentProvider();
+		IDocument document= provider != null ? provider.getDocument(input) : null;
+		Set<LargeFileFeature> degraded= isLargeFile(document) ? EnumSet.copyOf(getLargeFileFeatures()) : EnumSet.noneOf(LargeFileFeature.class);
+		if (degraded.equals(fDegradedFeatures)) {
+			return;
+		}
+
+		boolean reconfigure= false;
+		for (LargeFileFeature feature : LargeFileFeature.values()) {
+			boolean degrade= degraded.contains(feature);
+			if (degrade != fDegradedFeatures.contains(feature)) {
+				if (degrade) {
+					fDegradedFeatures.add(feature);
+				} else {
+					fDegradedFeatures.remove(feature);
+				}
+				handleFeatureDegraded(feature, degrade);
+				reconfigure|= isInstalledByConfiguration(feature);
+			}
+		}
+
+		ISourceViewer viewer= getSourceViewer();
+		if (viewer != null) {
+			markDegradedFeatures(viewer);
+			if (reconfigure && viewer instanceof ISourceViewerExtension2 extension) {
+				// the viewer was configured before the profile of this input was known
+				extension.unconfigure();
+				viewer.configure(getSourceViewerConfiguration());
+				installCodeMiningProviders();
+			}
+		}
+
+		if (!fDegradedFeatures.isEmpty()) {
+			StringBuilder features= new StringBuilder();
+			for (LargeFileFeature feature : fDegradedFeatures) {
+				if (features.length() > 0) {
+					features.append(", "); //$NON-NLS-1$
+				}
+				features.append(getLabel(feature));
+			}
+			IStatusLineManager statusLineManager= getStatusLineManager();
+			if (statusLineManager != null) {
+				statusLineManager.setMessage(NLSUtility.format(TextEditorMessages.AbstractDecoratedTextEditor_largeFile_degraded, features.toString()));
+			}
+		}
+	}
+
+	/**
+	 * Tells whether the given feature is installed by the source viewer configuration, so that
+	 * the viewer has to be configured again when the feature is turned off or on.
+	 *
+	 * @param feature the feature
+	 * @return <code>true</code> if the source viewer configuration installs the feature
+	 * @since 3.21
+	 */
+	private static boolean isInstalledByConfiguration(LargeFileFeature feature) {
+		switch (feature) {
+			case OCCURRENCES:
+			case FOLDING:
+			case SPELLING:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static String getLabel(LargeFileFeature feature) {
+		switch (feature) {
+			case QUICK_DIFF:
+				return TextEditorMessages.AbstractDecoratedTextEditor_largeFile_quickDiff;
+			case OCCURRENCES:
+				return TextEditorMessages.AbstractDecoratedTextEditor_largeFile_occurrences;
+			case FOLDING:
+				return TextEditorMessages.AbstractDecoratedTextEditor_largeFile_folding;
+			case CODE_MINING:
+				return TextEditorMessages.AbstractDecoratedTextEditor_largeFile_codeMining;
+			case WHITESPACE_CHARACTERS:
+				return TextEditorMessages.AbstractDecoratedTextEditor_largeFile_whitespaceCharacters;
+			case SPELLING:
+				return TextEditorMessages.AbstractDecoratedTextEditor_largeFile_spelling;
+			default:
+				return feature.name();
+		}
+	}
+
+	/**
+	 * Called when a feature is turned off because the editor input became a large file, or
+	 * turned on again because it no longer is. This implementation handles quick diff, code
+	 * minings and whitespace characters while the editor is showing, and removes the spelling
+	 * problems. Spell checking, folding and occurrence highlighting are installed by the source
+	 * viewer configuration and take the degraded state into account when the viewer is
+	 * configured, see {@link #isFeatureDegraded(ISourceViewer, LargeFileFeature)}. If the
+	 * viewer is already showing, it is configured again after this method has been called.
+	 * <p>
+	 * Subclasses may extend to turn off features they own.
+	 * </p>
+	 *
+	 * @param feature the feature
+	 * @param degraded <code>true</code> if the feature is turned off, <code>false</code> if it
+	 *            is turned on again
+	 * @since 3.21
+	 */
+	protected void handleFeatureDegraded(LargeFileFeature feature, boolean degraded) {
+		ISourceViewer viewer= getSourceViewer();
+		if (viewer == null) {
+			// applied when the part control is created
+			return;
+		}
+
+		switch (feature) {
+			case QUICK_DIFF:
+				showChangeInformation(isPrefQuickDiffAlwaysOn());
+				break;
+			case CODE_MINING:
+				if (viewer instanceof ISourceViewerExtension5 extension) {
+					if (degraded) {
+						extension.setCodeMiningProviders(null);
+					} else {
+						installCodeMiningProviders();
+					}
+				}
+				break;
+			case WHITESPACE_CHARACTERS:
+				IAction action= getAction(ITextEditorActionConstants.SHOW_WHITESPACE_CHARACTERS);
+				if (action instanceof ShowWhitespaceCharactersAction whitespaceAction) {
+					// without a preference store the action neither paints nor persists its state
+					whitespaceAction.setPreferenceStore(degraded ? null : EditorsUI.getPreferenceStore());
+				}
+				break;
+			case SPELLING:
+				if (degraded) {
+					SpellingProblem.removeAll(viewer, null);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	@Override
+	protected void installCodeMiningProviders() {
+		if (!isFeatureDegraded(LargeFileFeature.CODE_MINING)) {
+			super.installCodeMiningProviders();
+		}
 	}
 
 	/**
@@ -1357,7 +1650,7 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 
 		IAction showWhitespaceCharactersAction= getAction(ITextEditorActionConstants.SHOW_WHITESPACE_CHARACTERS);
 		if (showWhitespaceCharactersAction instanceof ShowWhitespaceCharactersAction act) {
-			act.setPreferenceStore(EditorsUI.getPreferenceStore());
+			act.setPreferenceStore(isFeatureDegraded(LargeFileFeature.WHITESPACE_CHARACTERS) ? null : EditorsUI.getPreferenceStore());
 		}
 
 		setAction(ITextEditorActionConstants.REFRESH, new RefreshEditorAction(this));
@@ -1590,6 +1883,8 @@ public abstract class AbstractDecoratedTextEditor extends StatusTextEditor {
 
 		super.doSetInput(input);
 
+		updateLargeFileProfile(input);
+
 		RulerColumnDescriptor lineNumberColumnDescriptor= RulerColumnRegistry.getDefault().getColumnDescriptor(LineNumberColumn.ID);
 		if (lineNumberColumnDescriptor != null) {
 			IColumnSupport columnSupport= getAdapter(IColumnSupport.class);
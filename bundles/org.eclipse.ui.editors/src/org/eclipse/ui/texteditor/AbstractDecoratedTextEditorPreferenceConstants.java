@@ -762,6 +762,32 @@ public class AbstractDecoratedTextEditorPreferenceConstants {
 	 */
 	public static final String EDITOR_STICKY_SCROLLING_MAXIMUM_COUNT= "stickyScrollingMaximumCount"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that holds the number of characters above which a document is treated
+	 * as large file and expensive editor features are turned off. <code>0</code> disables the
+	 * size threshold.
+	 * <p>
+	 * Value is of type <code>Integer</code>.
+	 * </p>
+	 *
+	 * @see AbstractDecoratedTextEditor#isLargeFile(org.eclipse.jface.text.IDocument)
+	 * @since 3.21
+	 */
+	public static final String EDITOR_LARGE_FILE_SIZE_THRESHOLD= "largeFileSizeThreshold"; //$NON-NLS-1$
+
+	/**
+	 * A named preference that holds the number of lines above which a document is treated as
+	 * large file and expensive editor features are turned off. <code>0</code> disables the line
+	 * threshold.
+	 * <p>
+	 * Value is of type <code>Integer</code>.
+	 * </p>
+	 *
+	 * @see AbstractDecoratedTextEditor#isLargeFile(org.eclipse.jface.text.IDocument)
+	 * @since 3.21
+	 */
+	public static final String EDITOR_LARGE_FILE_LINE_THRESHOLD= "largeFileLineThreshold"; //$NON-NLS-1$
+
 	/**
 	* Initializes the given preference store with the default values.
 	 *
@@ -834,6 +860,7 @@ public class AbstractDecoratedTextEditorPreferenceConstants {
 		boolean isInstalled= EditorsUI.getSpellingService().getSpellingEngineDescriptors().length > 0;
 		store.setDefault(SpellingService.PREFERENCE_SPELLING_ENABLED, isInstalled);
 		store.setDefault(SpellingService.PREFERENCE_SPELLING_ENGINE, ""); //$NON-NLS-1$
+		store.setDefault(SpellingService.PREFERENCE_SPELLING_INCREMENTAL, false);
 
 		store.setDefault(SHOW_RANGE_INDICATOR, true);
 		store.setDefault(REVISION_ASK_BEFORE_QUICKDIFF_SWITCH, MessageDialogWithToggle.ALWAYS);
@@ -868,6 +895,9 @@ public class AbstractDecoratedTextEditorPreferenceConstants {
 		store.setDefault(EDITOR_STICKY_SCROLLING_ENABLED, false);
 		store.setDefault(EDITOR_STICKY_SCROLLING_MAXIMUM_COUNT, 4);
 
+		store.setDefault(EDITOR_LARGE_FILE_SIZE_THRESHOLD, 20_000_000);
+		store.setDefault(EDITOR_LARGE_FILE_LINE_THRESHOLD, 250_000);
+
 		MarkerAnnotationPreferences.initializeDefaultValues(store);
 
 		EditorsPluginPreferenceInitializer.setThemeBasedPreferences(store, false);
@@ -74,6 +74,13 @@ final class TextEditorMessages extends NLS {
 	public static String AbstractDecoratedTextEditor_openWith_menu;
 	public static String AbstractDecoratedTextEditor_showIn_menu;
 	public static String AbstractDecoratedTextEditor_printPageNumber;
+	public static String AbstractDecoratedTextEditor_largeFile_degraded;
+	public static String AbstractDecoratedTextEditor_largeFile_quickDiff;
+	public static String AbstractDecoratedTextEditor_largeFile_occurrences;
+	public static String AbstractDecoratedTextEditor_largeFile_folding;
+	public static String AbstractDecoratedTextEditor_largeFile_codeMining;
+	public static String AbstractDecoratedTextEditor_largeFile_whitespaceCharacters;
+	public static String AbstractDecoratedTextEditor_largeFile_spelling;
 
 
 	static {
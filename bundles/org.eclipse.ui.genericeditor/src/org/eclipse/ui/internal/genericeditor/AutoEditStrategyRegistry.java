@@ -41,6 +41,8 @@ public class AutoEditStrategyRegistry {
 	private static final String EXTENSION_POINT_ID = GenericEditorPlugin.BUNDLE_ID + ".autoEditStrategies"; //$NON-NLS-1$
 
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IAutoEditStrategy>> extensions = new LinkedHashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IAutoEditStrategy>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<>());
 	private boolean outOfSync = true;
 
 	/**
@@ -66,10 +68,8 @@ public class AutoEditStrategyRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.values().stream()
-			.filter(ext -> contentTypes.contains(ext.targetContentType))
+		return this.cache.get(this.extensions.values(), contentTypes).stream()
 			.filter(ext -> ext.matches(sourceViewer, editor))
-			.sorted(new ContentTypeSpecializationComparator<>())
 			.map(GenericContentTypeRelatedExtension<IAutoEditStrategy>::createDelegate)
 			.collect(Collectors.toList());
 	}
@@ -91,6 +91,7 @@ public class AutoEditStrategyRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 }
@@ -38,6 +38,8 @@ public class CharacterPairMatcherRegistry {
 	private static final String EXTENSION_POINT_ID = GenericEditorPlugin.BUNDLE_ID + ".characterPairMatchers"; //$NON-NLS-1$
 
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<ICharacterPairMatcher>> extensions = new HashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<ICharacterPairMatcher>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<>());
 	private boolean outOfSync = true;
 
 	/**
@@ -62,9 +64,8 @@ public class CharacterPairMatcherRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.values().stream().filter(ext -> contentTypes.contains(ext.targetContentType))
+		return this.cache.get(this.extensions.values(), contentTypes).stream()
 				.filter(ext -> ext.matches(sourceViewer, editor))
-				.sorted(new ContentTypeSpecializationComparator<>())
 				.map(GenericContentTypeRelatedExtension<ICharacterPairMatcher>::createDelegate)
 				.collect(Collectors.toList());
 	}
@@ -87,6 +88,7 @@ public class CharacterPairMatcherRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 
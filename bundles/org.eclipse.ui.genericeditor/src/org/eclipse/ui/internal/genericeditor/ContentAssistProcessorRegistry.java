@@ -129,6 +129,8 @@ public class ContentAssistProcessorRegistry {
 	}
 
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IContentAssistProcessor>> extensions = new LinkedHashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IContentAssistProcessor>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<>());
 	private boolean outOfSync = true;
 
 	/**
@@ -150,10 +152,8 @@ public class ContentAssistProcessorRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.values().stream()
-			.filter(ext -> contentTypes.contains(ext.targetContentType))
+		return this.cache.get(this.extensions.values(), contentTypes).stream()
 			.filter(ext -> ext.matches(sourceViewer, editor))
-			.sorted(new ContentTypeSpecializationComparator<>())
 			.map(GenericContentTypeRelatedExtension<IContentAssistProcessor>::createDelegate)
 			.collect(Collectors.toList());
 	}
@@ -173,6 +173,7 @@ public class ContentAssistProcessorRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 }
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.genericeditor;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+
+/**
+ * Caches which extensions of a registry are contributed for a set of content
+ * types, in the order the registry applies them, so that configuring another
+ * editor for the same content types neither filters nor sorts the extensions
+ * again.
+ *
+ * Only the resolution by content type is cached; the <code>enabledWhen</code>
+ * expressions depend on the viewer and editor and are still evaluated by the
+ * registries for each editor. The registries invalidate the cache whenever
+ * they synchronize with the extension registry, and the cache discards its
+ * entries by itself once a content type changes, e.g. because the user edited
+ * its file associations. The cache holds a bounded number of content type
+ * sets, evicting the least recently used first.
+ *
+ * @param <E> the type of the extensions
+ */
+public final class ContentTypeRelatedExtensionCache<E extends GenericContentTypeRelatedExtension<?>> {
+
+	/** Maximum number of cached content type sets. */
+	private static final int MAX_ENTRIES = 64;
+
+	/** Incremented whenever a content type changes. */
+	private static final AtomicLong contentTypesGeneration = new AtomicLong();
+
+	static {
+		Platform.getContentTypeManager()
+				.addContentTypeChangeListener(event -> contentTypesGeneration.incrementAndGet());
+	}
+
+	private final Comparator<? super E> comparator;
+
+	/** The content types generation the cached entries were computed for. */
+	private long generation = contentTypesGeneration.get();
+
+	private final Map<Set<IContentType>, List<E>> entries = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Set<IContentType>, List<E>> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param comparator the order in which the registry applies the extensions,
+	 *                   or <code>null</code> to keep the order of the registry
+	 */
+	public ContentTypeRelatedExtensionCache(Comparator<? super E> comparator) {
+		this.comparator = comparator;
+	}
+
+	/**
+	 * Returns the extensions contributed for at least one of the given content
+	 * types.
+	 *
+	 * @param extensions   all extensions of the registry
+	 * @param contentTypes the content types
+	 * @return the extensions contributed for the content types, sorted
+	 */
+	public synchronized List<E> get(Collection<E> extensions, Set<IContentType> contentTypes) {
+		long current = contentTypesGeneration.get();
+		if (current != generation) {
+			entries.clear();
+			generation = current;
+		}
+		List<E> result = entries.get(contentTypes);
+		if (result == null) {
+			Stream<E> stream = extensions.stream().filter(ext -> contentTypes.contains(ext.targetContentType));
+			if (comparator != null) {
+				stream = stream.sorted(comparator);
+			}
+			result = stream.toList();
+			entries.put(new HashSet<>(contentTypes), result);
+		}
+		return result;
+	}
+
+	/**
+	 * Discards all cached resolutions, e.g. because the extensions changed.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Red Hat Inc. and others.
+ * Copyright (c) 2017, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,12 +25,14 @@ import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ISynchronizable;
 import org.eclipse.jface.text.ITextSelection;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.ITextViewerExtension5;
+import org.eclipse.jface.text.IViewportListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.reconciler.DirtyRegion;
 import org.eclipse.jface.text.reconciler.IReconcilingStrategy;
@@ -50,6 +52,9 @@ import org.eclipse.osgi.util.NLS;
  * anything in-between non-alphanumeric characters) and searches the document highlighting all like words.
  *
  * E.g. if your file contains "t^he dog in the bog" and you leave your caret at ^ you will get both instances of 'the' highlighted.
+ *
+ * The occurrences are looked up in a {@link WordOccurrenceIndex} which is kept up to date on document changes. If a word
+ * occurs very often, only the occurrences in the visible part of the document are highlighted.
  */
 public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReconcilingStrategyExtension, IPreferenceChangeListener {
 
@@ -64,44 +69,67 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 	private static final Pattern CURRENT_WORD_START_PATTERN = Pattern.compile(WORD_REGEXP + "$", //$NON-NLS-1$
 			Pattern.UNICODE_CHARACTER_CLASS);
 
+	/** Maximum number of occurrences highlighted in the whole document, more are only highlighted in the viewport. */
+	private static final int MAX_DOCUMENT_OCCURRENCES = 2000;
+
 	private Annotation[] fOccurrenceAnnotations = null;
 
+	private final WordOccurrenceIndex index = new WordOccurrenceIndex(WORD_PATTERN);
+
+	/** Whether the current highlights are restricted to the viewport. */
+	private boolean viewportRestricted;
+
 	private final ISelectionChangedListener editorSelectionChangedListener = event -> applyHighlights(event.getSelection());
 
+	private final IViewportListener viewportListener = verticalOffset -> {
+		if (viewportRestricted && sourceViewer != null) {
+			applyHighlights(sourceViewer.getSelectionProvider().getSelection());
+		}
+	};
+
 	private void applyHighlights(ISelection selection) {
 		if (!(selection instanceof ITextSelection textSelection)) {
 			return;
 		}
+		viewportRestricted = false;
 		if (sourceViewer == null || !enabled) {
 			removeOccurrenceAnnotations();
 			return;
 		}
 
-		String text = document.get();
 		int offset = textSelection.getOffset();
 		if (sourceViewer instanceof ITextViewerExtension5) {
 			offset = ((ITextViewerExtension5) sourceViewer).widgetOffset2ModelOffset(textSelection.getOffset());
 		}
 
-		String word = findCurrentWord(text, offset);
+		String word = findCurrentWord(document, offset);
 		if (word == null) {
 			removeOccurrenceAnnotations();
 			return;
 		}
 
-		Matcher m = WORD_PATTERN.matcher(text);
-		Map<Annotation, Position> annotationMap = new HashMap<>();
-		while (m.find()) {
-			if (m.group().equals(word)) {
-				annotationMap.put(new Annotation(ANNOTATION_TYPE, false, NLS.bind(Messages.DefaultWordHighlightStrategy_OccurrencesOf, word)), new Position(m.start(), m.end() - m.start()));
-			}
-		}
-
-		if (annotationMap.size() < 2) {
+		int[] occurrences = index.getOccurrences(word);
+		if (occurrences.length < 2) {
 			removeOccurrenceAnnotations();
 			return;
 		}
 
+		int visibleStart = 0;
+		int visibleEnd = Integer.MAX_VALUE;
+		viewportRestricted = occurrences.length > MAX_DOCUMENT_OCCURRENCES;
+		if (viewportRestricted) {
+			visibleStart = sourceViewer.getTopIndexStartOffset();
+			visibleEnd = sourceViewer.getBottomIndexEndOffset();
+		}
+
+		String message = NLS.bind(Messages.DefaultWordHighlightStrategy_OccurrencesOf, word);
+		Map<Annotation, Position> annotationMap = new HashMap<>();
+		for (int occurrence : occurrences) {
+			if (occurrence >= visibleStart && occurrence <= visibleEnd) {
+				annotationMap.put(new Annotation(ANNOTATION_TYPE, false, message), new Position(occurrence, word.length()));
+			}
+		}
+
 		IAnnotationModel annotationModel = sourceViewer.getAnnotationModel();
 		if (annotationModel != null) {
 			synchronized (getLockObject(annotationModel)) {
@@ -122,8 +150,21 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 		}
 	}
 
+	private static String findCurrentWord(IDocument document, int offset) {
+		if (offset < 0 || offset >= document.getLength()) {
+			return null;
+		}
+		try {
+			// words never span lines, only look at the caret line
+			IRegion line = document.getLineInformationOfOffset(offset);
+			return findCurrentWord(document.get(line.getOffset(), line.getLength()), offset - line.getOffset());
+		} catch (BadLocationException e) {
+			return null;
+		}
+	}
+
 	private static String findCurrentWord(String text, int offset) {
-		if (offset < 0 || offset >= text.length()) {
+		if (offset < 0 || offset > text.length()) {
 			return null;
 		}
 		String wordStart = null;
@@ -157,12 +198,15 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 		this.enabled = preferences.getBoolean(ToggleHighlight.TOGGLE_HIGHLIGHT_PREFERENCE, true);
 		this.sourceViewer = (ISourceViewer) viewer;
 		((IPostSelectionProvider) sourceViewer.getSelectionProvider()).addPostSelectionChangedListener(editorSelectionChangedListener);
+		sourceViewer.addViewportListener(viewportListener);
 	}
 
 	public void uninstall() {
 		if (sourceViewer != null) {
 			((IPostSelectionProvider) sourceViewer.getSelectionProvider()).removePostSelectionChangedListener(editorSelectionChangedListener);
+			sourceViewer.removeViewportListener(viewportListener);
 		}
+		index.disconnect();
 		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(GenericEditorPlugin.BUNDLE_ID);
 		preferences.removePreferenceChangeListener(this);
 	}
@@ -218,6 +262,7 @@ public class DefaultWordHighlightStrategy implements IReconcilingStrategy, IReco
 
 	@Override public void setDocument(IDocument document) {
 		this.document = document;
+		index.connect(document);
 	}
 
 	@Override public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 Red Hat Inc. and others.
+ * Copyright (c) 2000, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.ui.IEditorInput;
 import org.eclipse.ui.editors.text.EditorsUI;
 import org.eclipse.ui.editors.text.TextEditor;
 import org.eclipse.ui.internal.genericeditor.preferences.GenericEditorPreferenceConstants;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor.LargeFileFeature;
 import org.eclipse.ui.texteditor.ChainedPreferenceStore;
 import org.eclipse.ui.texteditor.SourceViewerDecorationSupport;
 
@@ -169,6 +170,7 @@ public class ExtensionBasedTextEditor extends TextEditor {
 		SourceViewerDecorationSupport support = getSourceViewerDecorationSupport(viewer);
 
 		configureCharacterPairMatcher(viewer, support);
+		markDegradedFeatures(viewer);
 		return viewer;
 	}
 
@@ -178,10 +180,22 @@ public class ExtensionBasedTextEditor extends TextEditor {
 		ProjectionViewer viewer = (ProjectionViewer) getSourceViewer();
 
 		new ProjectionSupport(viewer, getAnnotationAccess(), getSharedColors()).install();
-		viewer.doOperation(ProjectionViewer.TOGGLE);
+		if (!isFeatureDegraded(LargeFileFeature.FOLDING)) {
+			viewer.doOperation(ProjectionViewer.TOGGLE);
+		}
 		computeImage();
 	}
 
+	@Override
+	protected void handleFeatureDegraded(LargeFileFeature feature, boolean degraded) {
+		super.handleFeatureDegraded(feature, degraded);
+		// the input may be loaded after the part control has been created
+		if (feature == LargeFileFeature.FOLDING && getSourceViewer() instanceof ProjectionViewer viewer
+				&& viewer.isProjectionMode() == degraded) {
+			viewer.doOperation(ProjectionViewer.TOGGLE);
+		}
+	}
+
 	@Override
 	protected void initializeEditor() {
 		super.initializeEditor();
@@ -84,6 +84,8 @@ import org.eclipse.ui.internal.genericeditor.folding.DefaultFoldingReconciler;
 import org.eclipse.ui.internal.genericeditor.hover.CompositeInformationControlCreator;
 import org.eclipse.ui.internal.genericeditor.hover.CompositeTextHover;
 import org.eclipse.ui.internal.genericeditor.markers.MarkerResoltionQuickAssistProcessor;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor.LargeFileFeature;
 import org.eclipse.ui.texteditor.ITextEditor;
 
 /**
@@ -283,27 +285,31 @@ public final class ExtensionBasedTextViewerConfiguration extends TextSourceViewe
 				getContentTypes(sourceViewer.getDocument()));
 
 		// Fill with highlight reconcilers
-		List<IReconcilingStrategy> highlightReconcilingStrategies = new ArrayList<>();
-		List<IReconciler> highlightReconcilers = registry.getHighlightReconcilers(sourceViewer, editor,
-				highlightReconcilingStrategies, getContentTypes(sourceViewer.getDocument()));
-		if (!highlightReconcilers.isEmpty()) {
-			reconcilers.addAll(highlightReconcilers);
-		} else if (highlightReconcilingStrategies.isEmpty()) {
-			reconcilers.add(new DefaultWordHighlightReconciler());
+		if (!AbstractDecoratedTextEditor.isFeatureDegraded(sourceViewer, LargeFileFeature.OCCURRENCES)) {
+			List<IReconcilingStrategy> highlightReconcilingStrategies = new ArrayList<>();
+			List<IReconciler> highlightReconcilers = registry.getHighlightReconcilers(sourceViewer, editor,
+					highlightReconcilingStrategies, getContentTypes(sourceViewer.getDocument()));
+			if (!highlightReconcilers.isEmpty()) {
+				reconcilers.addAll(highlightReconcilers);
+			} else if (highlightReconcilingStrategies.isEmpty()) {
+				reconcilers.add(new DefaultWordHighlightReconciler());
+			}
+			reconcilingStrategies.addAll(highlightReconcilingStrategies);
 		}
-		reconcilingStrategies.addAll(highlightReconcilingStrategies);
 
 		// Fill with folding reconcilers
-		List<IReconcilingStrategy> foldingReconcilingStrategies = new ArrayList<>();
-		List<IReconciler> foldingReconcilers = registry.getFoldingReconcilers(sourceViewer, editor,
-				foldingReconcilingStrategies, getContentTypes(sourceViewer.getDocument()));
-		if (!foldingReconcilers.isEmpty()) {
-			reconcilers.addAll(foldingReconcilers);
-		} else if (foldingReconcilingStrategies.isEmpty()) {
-			reconcilers.add(new DefaultFoldingReconciler());
-		}
+		if (!AbstractDecoratedTextEditor.isFeatureDegraded(sourceViewer, LargeFileFeature.FOLDING)) {
+			List<IReconcilingStrategy> foldingReconcilingStrategies = new ArrayList<>();
+			List<IReconciler> foldingReconcilers = registry.getFoldingReconcilers(sourceViewer, editor,
+					foldingReconcilingStrategies, getContentTypes(sourceViewer.getDocument()));
+			if (!foldingReconcilers.isEmpty()) {
+				reconcilers.addAll(foldingReconcilers);
+			} else if (foldingReconcilingStrategies.isEmpty()) {
+				reconcilers.add(new DefaultFoldingReconciler());
+			}
 
-		reconcilingStrategies.addAll(foldingReconcilingStrategies);
+			reconcilingStrategies.addAll(foldingReconcilingStrategies);
+		}
 
 		if (!reconcilingStrategies.isEmpty()) {
 			// Create the main Reconciler of the generic editor
@@ -40,6 +40,8 @@ public class PresentationReconcilerRegistry {
 	private static final String EXTENSION_POINT_ID = GenericEditorPlugin.BUNDLE_ID + ".presentationReconcilers"; //$NON-NLS-1$
 
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IPresentationReconciler>> extensions = new HashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IPresentationReconciler>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<>());
 	private boolean outOfSync = true;
 
 	/**
@@ -62,10 +64,8 @@ public class PresentationReconcilerRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.values().stream()
-			.filter(ext -> contentTypes.contains(ext.targetContentType))
+		return this.cache.get(this.extensions.values(), contentTypes).stream()
 			.filter(ext -> ext.matches(sourceViewer, editor))
-			.sorted(new ContentTypeSpecializationComparator<>())
 			.map(GenericContentTypeRelatedExtension<IPresentationReconciler>::createDelegate)
 			.collect(Collectors.toList());
 	}
@@ -85,6 +85,7 @@ public class PresentationReconcilerRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 
@@ -33,6 +33,8 @@ public class QuickAssistProcessorRegistry {
 
 	private static final String EXTENSION_POINT_ID = GenericEditorPlugin.BUNDLE_ID + ".quickAssistProcessors"; //$NON-NLS-1$
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IQuickAssistProcessor>> extensions = new HashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IQuickAssistProcessor>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<>());
 	private boolean outOfSync = true;
 
 	/**
@@ -53,10 +55,8 @@ public class QuickAssistProcessorRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.values().stream()
-				.filter(ext -> contentTypes.contains(ext.targetContentType))
+		return this.cache.get(this.extensions.values(), contentTypes).stream()
 				.filter(ext -> ext.matches(sourceViewer, editor))
-				.sorted(new ContentTypeSpecializationComparator<>())
 				.map(GenericContentTypeRelatedExtension<IQuickAssistProcessor>::createDelegate)
 				.collect(Collectors.toList());
 	}
@@ -79,6 +79,7 @@ public class QuickAssistProcessorRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 
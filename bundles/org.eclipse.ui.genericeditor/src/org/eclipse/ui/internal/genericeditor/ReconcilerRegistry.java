@@ -51,6 +51,12 @@ public class ReconcilerRegistry {
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IReconciler>> extensions = new HashMap<>();
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IReconciler>> highlightExtensions = new HashMap<>();
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<IReconciler>> foldingExtensions = new HashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IReconciler>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<IReconciler>().reversed());
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IReconciler>> highlightCache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<IReconciler>().reversed());
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IReconciler>> foldingCache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<IReconciler>().reversed());
 	private boolean outOfSync = true;
 	private boolean highlightOutOfSync = true;
 	private boolean foldingOutOfSync = true;
@@ -82,7 +88,7 @@ public class ReconcilerRegistry {
 			sync();
 		}
 		return getReconcilers(sourceViewer, editor, reconcilingStrategies, contentTypes, RECONCILING_STRATEGY_ELT_NAME,
-				this.extensions);
+				this.extensions, this.cache);
 	}
 
 	/**
@@ -102,7 +108,7 @@ public class ReconcilerRegistry {
 			syncHighlight();
 		}
 		return getReconcilers(sourceViewer, editor, reconcilingStrategies, contentTypes,
-				HIGHLIGHT_RECONCILING_STRATEGY_ELT_NAME, this.highlightExtensions);
+				HIGHLIGHT_RECONCILING_STRATEGY_ELT_NAME, this.highlightExtensions, this.highlightCache);
 	}
 
 	/**
@@ -122,17 +128,16 @@ public class ReconcilerRegistry {
 			syncFolding();
 		}
 		return getReconcilers(sourceViewer, editor, reconcilingStrategies, contentTypes,
-				FOLDING_RECONCILING_STRATEGY_ELT_NAME, this.foldingExtensions);
+				FOLDING_RECONCILING_STRATEGY_ELT_NAME, this.foldingExtensions, this.foldingCache);
 	}
 
 	private static List<IReconciler> getReconcilers(ISourceViewer sourceViewer, ITextEditor editor,
 			List<IReconcilingStrategy> reconcilingStrategies, Set<IContentType> contentTypes, String contributionName,
-			Map<IConfigurationElement, GenericContentTypeRelatedExtension<IReconciler>> extensionsMap) {
+			Map<IConfigurationElement, GenericContentTypeRelatedExtension<IReconciler>> extensionsMap,
+			ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<IReconciler>> cache) {
 		List<IReconciler> reconcilers = new ArrayList<>();
-		List<GenericContentTypeRelatedExtension<IReconciler>> extensions = extensionsMap.values().stream() //
-				.filter(ext -> contentTypes.contains(ext.targetContentType)) //
+		List<GenericContentTypeRelatedExtension<IReconciler>> extensions = cache.get(extensionsMap.values(), contentTypes).stream() //
 				.filter(ext -> ext.matches(sourceViewer, editor)) //
-				.sorted(new ContentTypeSpecializationComparator<IReconciler>().reversed()) //
 				.collect(Collectors.toList());
 		for (GenericContentTypeRelatedExtension<IReconciler> ext : extensions) {
 			if (contributionName.equals(ext.getContributionName())) {
@@ -165,6 +170,7 @@ public class ReconcilerRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 
@@ -185,6 +191,7 @@ public class ReconcilerRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.highlightExtensions.remove(toRemove);
 		}
+		this.highlightCache.clear();
 		this.highlightOutOfSync = false;
 	}
 
@@ -205,6 +212,7 @@ public class ReconcilerRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.foldingExtensions.remove(toRemove);
 		}
+		this.foldingCache.clear();
 		this.foldingOutOfSync = false;
 	}
 }
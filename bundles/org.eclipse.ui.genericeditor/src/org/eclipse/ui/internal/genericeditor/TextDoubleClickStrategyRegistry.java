@@ -32,6 +32,8 @@ public class TextDoubleClickStrategyRegistry {
 	private static final String EXTENSION_POINT_ID = GenericEditorPlugin.BUNDLE_ID + ".textDoubleClickStrategies"; //$NON-NLS-1$
 
 	private final Map<IConfigurationElement, GenericContentTypeRelatedExtension<ITextDoubleClickStrategy>> extensions = new LinkedHashMap<>();
+	private final ContentTypeRelatedExtensionCache<GenericContentTypeRelatedExtension<ITextDoubleClickStrategy>> cache = new ContentTypeRelatedExtensionCache<>(
+			new ContentTypeSpecializationComparator<>());
 	private boolean outOfSync = true;
 
 	/**
@@ -56,9 +58,8 @@ public class TextDoubleClickStrategyRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.values().stream().filter(ext -> contentTypes.contains(ext.targetContentType))
-				.filter(ext -> ext.matches(sourceViewer, editor))
-				.sorted(new ContentTypeSpecializationComparator<>()).findFirst()
+		return this.cache.get(this.extensions.values(), contentTypes).stream()
+				.filter(ext -> ext.matches(sourceViewer, editor)).findFirst()
 				.map(GenericContentTypeRelatedExtension<ITextDoubleClickStrategy>::createDelegate);
 	}
 
@@ -80,6 +81,7 @@ public class TextDoubleClickStrategyRegistry {
 		for (IConfigurationElement toRemove : toRemoveExtensions) {
 			this.extensions.remove(toRemove);
 		}
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 }
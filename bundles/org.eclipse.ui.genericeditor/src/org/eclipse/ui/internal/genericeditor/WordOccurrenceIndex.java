@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.genericeditor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+
+/**
+ * Index of the offsets of all words of a document, so that finding the occurrences of a word does
+ * not need to scan the document.
+ *
+ * The document is split into line aligned blocks, each block maps its words to their offsets
+ * relative to the block start. On a document change only the blocks touched by the change are
+ * tokenized again; the index is built lazily on the first lookup.
+ */
+public class WordOccurrenceIndex implements IDocumentListener {
+
+	/** Approximate number of characters of a block. */
+	private static final int BLOCK_SIZE = 16 * 1024;
+
+	private static final int[] NO_OCCURRENCES = new int[0];
+
+	private static final class Block {
+		final int length;
+		/**
+		 * Offsets of the words relative to the block start; the first element of each array is
+		 * the number of offsets.
+		 */
+		final Map<String, int[]> words;
+
+		Block(int length, Map<String, int[]> words) {
+			this.length = length;
+			this.words = words;
+		}
+	}
+
+	private final Pattern wordPattern;
+	private IDocument document;
+	/** The blocks in document order, <code>null</code> if not yet built. */
+	private List<Block> blocks;
+
+	/**
+	 * Creates a new index.
+	 *
+	 * @param wordPattern the pattern matching a word, must not match line delimiters
+	 */
+	public WordOccurrenceIndex(Pattern wordPattern) {
+		this.wordPattern = wordPattern;
+	}
+
+	/**
+	 * Starts indexing the given document, stops indexing the previous document.
+	 *
+	 * @param document the document, can be <code>null</code>
+	 */
+	public synchronized void connect(IDocument document) {
+		disconnect();
+		this.document = document;
+		if (document != null) {
+			document.addDocumentListener(this);
+		}
+	}
+
+	/**
+	 * Stops indexing the current document and discards the index.
+	 */
+	public synchronized void disconnect() {
+		if (document != null) {
+			document.removeDocumentListener(this);
+			document = null;
+		}
+		blocks = null;
+	}
+
+	/**
+	 * Returns the offsets of all occurrences of the given word in ascending order.
+	 *
+	 * @param word the word
+	 * @return the offsets of the occurrences
+	 */
+	public synchronized int[] getOccurrences(String word) {
+		if (document == null) {
+			return NO_OCCURRENCES;
+		}
+		if (blocks == null) {
+			blocks = buildBlocks(0, document.getLength());
+			if (blocks == null) {
+				return NO_OCCURRENCES;
+			}
+		}
+
+		int[] result = NO_OCCURRENCES;
+		int count = 0;
+		int blockStart = 0;
+		for (Block block : blocks) {
+			int[] offsets = block.words.get(word);
+			if (offsets != null) {
+				int size = offsets[0];
+				if (count + size > result.length) {
+					result = Arrays.copyOf(result, Math.max(2 * result.length, count + size));
+				}
+				for (int i = 1; i <= size; i++) {
+					result[count++] = blockStart + offsets[i];
+				}
+			}
+			blockStart += block.length;
+		}
+		return count == result.length ? result : Arrays.copyOf(result, count);
+	}
+
+	@Override
+	public void documentAboutToBeChanged(DocumentEvent event) {
+		// nothing to do
+	}
+
+	@Override
+	public synchronized void documentChanged(DocumentEvent event) {
+		if (blocks == null) {
+			return;
+		}
+
+		int offset = event.getOffset();
+		int end = offset + event.getLength();
+		int delta = (event.getText() == null ? 0 : event.getText().length()) - event.getLength();
+
+		// blocks touching the change, including neighbors sharing a boundary with it since the
+		// change may join their lines
+		int first = -1;
+		int last = -1;
+		int firstStart = 0;
+		int lastEnd = 0;
+		int blockStart = 0;
+		for (int i = 0; i < blocks.size() && blockStart <= end; i++) {
+			int blockEnd = blockStart + blocks.get(i).length;
+			if (blockEnd >= offset) {
+				if (first == -1) {
+					first = i;
+					firstStart = blockStart;
+				}
+				last = i;
+				lastEnd = blockEnd;
+			}
+			blockStart = blockEnd;
+		}
+		if (first == -1) {
+			blocks = null;
+			return;
+		}
+
+		List<Block> rebuilt = buildBlocks(firstStart, lastEnd + delta - firstStart);
+		if (rebuilt == null) {
+			blocks = null;
+			return;
+		}
+		List<Block> affected = blocks.subList(first, last + 1);
+		affected.clear();
+		affected.addAll(rebuilt);
+	}
+
+	/**
+	 * Splits the given range of the document into line aligned blocks and indexes their words.
+	 *
+	 * @param offset the start of the range, a line start
+	 * @param length the length of the range, ending at a line start or the document end
+	 * @return the blocks or <code>null</code> if the document could not be read
+	 */
+	private List<Block> buildBlocks(int offset, int length) {
+		List<Block> result = new ArrayList<>();
+		int end = offset + length;
+		try {
+			int start = offset;
+			do {
+				int blockEnd = end;
+				if (end - start > BLOCK_SIZE) {
+					int line = document.getLineOfOffset(start + BLOCK_SIZE);
+					if (line + 1 < document.getNumberOfLines()) {
+						blockEnd = Math.min(end, document.getLineOffset(line + 1));
+					}
+				}
+				result.add(indexBlock(document.get(start, blockEnd - start)));
+				start = blockEnd;
+			} while (start < end);
+		} catch (BadLocationException e) {
+			return null;
+		}
+		return result;
+	}
+
+	private Block indexBlock(String text) {
+		Map<String, int[]> words = new HashMap<>();
+		Matcher m = wordPattern.matcher(text);
+		while (m.find()) {
+			String word = m.group();
+			int[] offsets = words.get(word);
+			if (offsets == null) {
+				offsets = new int[4];
+				words.put(word, offsets);
+			} else if (offsets[0] + 1 == offsets.length) {
+				offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+				words.put(word, offsets);
+			}
+			offsets[++offsets[0]] = m.start();
+		}
+		return new Block(text.length(), words);
+	}
+}
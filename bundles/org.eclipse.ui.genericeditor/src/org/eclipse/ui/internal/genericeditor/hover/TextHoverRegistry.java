@@ -31,6 +31,7 @@ import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.text.ITextHover;
 import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.ui.internal.genericeditor.ContentTypeRelatedExtensionCache;
 import org.eclipse.ui.internal.genericeditor.GenericContentTypeRelatedExtension;
 import org.eclipse.ui.internal.genericeditor.GenericEditorPlugin;
 import org.eclipse.ui.texteditor.ITextEditor;
@@ -47,6 +48,8 @@ public final class TextHoverRegistry {
 	private static final String EXTENSION_POINT_ID = GenericEditorPlugin.BUNDLE_ID + ".hoverProviders"; //$NON-NLS-1$
 
 	private SortedSet<TextHoverExtension> extensions;
+	// the extensions are already sorted by isAfter/isBefore
+	private final ContentTypeRelatedExtensionCache<TextHoverExtension> cache = new ContentTypeRelatedExtensionCache<>(null);
 	private boolean outOfSync = true;
 
 	static class TextHoverExtension extends GenericContentTypeRelatedExtension<ITextHover> {
@@ -93,10 +96,8 @@ public final class TextHoverRegistry {
 		if (this.outOfSync) {
 			sync();
 		}
-		return this.extensions.stream()
-				.filter(ext -> contentTypes.contains(ext.targetContentType))
+		return this.cache.get(this.extensions, contentTypes).stream()
 				.filter(ext -> ext.matches(sourceViewer, editor))
-				// don't sort in the stream as the initial structure is already sorted by isAfter/isBefore
 				.map(GenericContentTypeRelatedExtension<ITextHover>::createDelegate)
 				.collect(Collectors.toList());
 	}
@@ -125,6 +126,7 @@ public final class TextHoverRegistry {
 		OrderedExtensionComparator comparator = new OrderedExtensionComparator(ext.values());
 		this.extensions = new TreeSet<>(comparator);
 		this.extensions.addAll(ext.values());
+		this.cache.clear();
 		this.outOfSync = false;
 	}
 
@@ -94,6 +94,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.text.undo.DocumentUndoManagerRegistry;
 import org.eclipse.text.undo.IDocumentUndoManager;
@@ -128,6 +129,7 @@ import org.eclipse.jface.text.AbstractInformationControlManager;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.BlockTextSelection;
 import org.eclipse.jface.text.DefaultLineTracker;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
@@ -234,6 +236,7 @@ import org.eclipse.ui.operations.RedoActionHandler;
 import org.eclipse.ui.operations.UndoActionHandler;
 import org.eclipse.ui.part.EditorPart;
 import org.eclipse.ui.part.MultiPageEditorSite;
+import org.eclipse.ui.progress.IWorkbenchSiteProgressService;
 
 import org.eclipse.ui.texteditor.rulers.IColumnSupport;
 import org.eclipse.ui.texteditor.rulers.IContributedRulerColumn;
@@ -1668,6 +1671,81 @@ public abstract class AbstractTextEditor extends EditorPart
 		}
 	}
 
+	/**
+	 * Connects the editor input to the document provider in the background and sets the input
+	 * once its document is available.
+	 * <p>
+	 * The job owns the connection it creates until the editor adopts it, either when the input is
+	 * set or when the editor releases its input while the job has already connected. If the
+	 * editor abandons the job before, the job releases the connection itself.
+	 * </p>
+	 *
+	 * @since 3.20
+	 */
+	private class InputLoadJob extends Job {
+
+		private final IDocumentProvider fProvider;
+		private final IEditorInput fInput;
+		private final Display fDisplay;
+		private boolean fConnected;
+		private boolean fAbandoned;
+
+		InputLoadJob(IDocumentProvider provider, IEditorInput input, Display display) {
+			super(NLSUtility.format(EditorMessages.Editor_task_loadingInput, input.getName()));
+			fProvider = provider;
+			fInput = input;
+			fDisplay = display;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+
+			CoreException exception = null;
+			try {
+				fProvider.connect(fInput);
+				synchronized (this) {
+					fConnected = !fAbandoned;
+				}
+				if (!fConnected) {
+					fProvider.disconnect(fInput);
+					return Status.CANCEL_STATUS;
+				}
+			} catch (CoreException x) {
+				exception = x;
+			}
+
+			final CoreException failure = exception;
+			if (!fDisplay.isDisposed()) {
+				fDisplay.asyncExec(() -> inputLoaded(this, failure));
+			}
+			return Status.OK_STATUS;
+		}
+
+		/**
+		 * Stops waiting for the input to be loaded.
+		 *
+		 * @return <code>true</code> if the input is connected and the caller takes over the
+		 *         connection, <code>false</code> if the job releases its connection itself
+		 */
+		synchronized boolean abandon() {
+			fAbandoned = true;
+			cancel();
+			return fConnected;
+		}
+
+		IDocumentProvider getProvider() {
+			return fProvider;
+		}
+
+		IEditorInput getInput() {
+			return fInput;
+		}
+	}
+
 	/**
 	 * Implements the ruler column support of for the given editor.
 	 * <p>
@@ -2543,6 +2621,13 @@ public abstract class AbstractTextEditor extends EditorPart
 	 * @since 3.0
 	 */
 	private SelectionListener fSelectionListener;
+	/**
+	 * The job loading the editor input in the background, <code>null</code> if the input is
+	 * connected to the document provider.
+	 *
+	 * @since 3.20
+	 */
+	private InputLoadJob fInputLoadJob;
 	/** The editor's font. */
 	private Font fFont;
 	/**
@@ -3417,12 +3502,128 @@ public abstract class AbstractTextEditor extends EditorPart
 		}
 	}
 
+	/**
+	 * Initializes the editor without connecting the input to the document provider. The editor
+	 * shows a placeholder until a background job has connected the input, then sets the input as
+	 * {@link #setInput(IEditorInput)} does.
+	 *
+	 * @param site  the editor's site
+	 * @param input the editor input for the editor being created
+	 * @throws PartInitException if the editor has no document provider for the input
+	 * @see #isAsyncInputLoadingEnabled(IEditorInput)
+	 * @since 3.20
+	 */
+	private void internalInitAsync(IEditorSite site, IEditorInput input) throws PartInitException {
+		super.setInput(input);
+		updateDocumentProvider(input);
+
+		IDocumentProvider provider = getDocumentProvider();
+		if (provider == null) {
+			throw new PartInitException(new Status(IStatus.ERROR, PlatformUI.PLUGIN_ID, IStatus.OK,
+					EditorMessages.Editor_error_no_provider, null));
+		}
+
+		initializeTitle(input);
+
+		fInputLoadJob = new InputLoadJob(provider, input, site.getShell().getDisplay());
+		IWorkbenchSiteProgressService progressService = site.getService(IWorkbenchSiteProgressService.class);
+		if (progressService != null) {
+			progressService.schedule(fInputLoadJob);
+		} else {
+			fInputLoadJob.schedule();
+		}
+	}
+
+	/**
+	 * Called in the UI thread once the given job has loaded the editor input.
+	 *
+	 * @param job     the job
+	 * @param failure the exception thrown while connecting the input or <code>null</code>
+	 * @since 3.20
+	 */
+	private void inputLoaded(InputLoadJob job, CoreException failure) {
+		if (fInputLoadJob != job) {
+			// the editor has been closed or got another input meanwhile
+			return;
+		}
+
+		if (failure != null) {
+			// keep the job so that closing the editor does not release a connection it never had
+			ErrorDialog.openError(getSite().getShell(), EditorMessages.Editor_error_setinput_title,
+					EditorMessages.Editor_error_setinput_message, failure.getStatus());
+			close(false);
+			return;
+		}
+
+		fInputLoadJob = null;
+		IDocumentProvider provider = job.getProvider();
+		IEditorInput input = job.getInput();
+
+		// doSetInput releases the current connection before it connects again, keep the loaded document meanwhile
+		boolean retained = true;
+		try {
+			provider.connect(input);
+		} catch (CoreException x) {
+			retained = false;
+		}
+		try {
+			setInputWithNotify(input);
+		} finally {
+			if (retained) {
+				provider.disconnect(input);
+			}
+		}
+	}
+
+	/**
+	 * Stops loading the editor input in the background, if any.
+	 *
+	 * @return <code>true</code> if the editor input is connected to the document provider and
+	 *         needs to be disconnected by the caller
+	 * @since 3.20
+	 */
+	private boolean abandonInputLoad() {
+		InputLoadJob job = fInputLoadJob;
+		if (job == null) {
+			return true;
+		}
+		fInputLoadJob = null;
+		return job.abandon();
+	}
+
+	/**
+	 * Tells whether the given input is connected to the document provider in the background
+	 * when the editor is initialized. If so, the editor opens immediately and shows a
+	 * placeholder until the document is available; this avoids blocking the UI thread while a
+	 * large file is read.
+	 * <p>
+	 * The document provider's <code>connect</code> and <code>disconnect</code> methods are then
+	 * called from a background thread, so subclasses may only enable this for document providers
+	 * which support that. Inputs set later with {@link #setInput(IEditorInput)} are always loaded
+	 * synchronously.
+	 * </p>
+	 * <p>
+	 * This implementation returns <code>false</code>. Subclasses may override.
+	 * </p>
+	 *
+	 * @param input the editor input for the editor being created
+	 * @return <code>true</code> if the input should be loaded in the background
+	 * @since 3.20
+	 */
+	protected boolean isAsyncInputLoadingEnabled(IEditorInput input) {
+		return false;
+	}
+
 	@Override
 	public void init(final IEditorSite site, final IEditorInput input) throws PartInitException {
 
 		setSite(site);
 
-		internalInit(site.getWorkbenchWindow(), site, input);
+		if (isAsyncInputLoadingEnabled(input)) {
+			internalInitAsync(site, input);
+		} else {
+			internalInit(site.getWorkbenchWindow(), site, input);
+		}
 		fActivationListener = new ActivationListener(site.getWorkbenchWindow().getPartService());
 	}
 
@@ -4238,6 +4439,10 @@ public abstract class AbstractTextEditor extends EditorPart
 			fSourceViewer.setDocument(document, model);
 			fSourceViewer.setEditable(isEditable());
 			fSourceViewer.showAnnotations(model != null);
+		} else if (fInputLoadJob != null) {
+			fSourceViewer.setDocument(
+					new Document(NLSUtility.format(EditorMessages.Editor_loadingInput_placeholder, input.getName())));
+			fSourceViewer.setEditable(false);
 		}
 
 		if (fElementStateListener instanceof IElementStateListenerExtension extension) {
@@ -4425,7 +4630,7 @@ public abstract class AbstractTextEditor extends EditorPart
 			}
 
 			IEditorInput oldInput = getEditorInput();
-			if (oldInput != null) {
+			if (oldInput != null && abandonInputLoad()) {
 				getDocumentProvider().disconnect(oldInput);
 			}
 
@@ -4726,7 +4931,7 @@ public abstract class AbstractTextEditor extends EditorPart
 		if (provider != null) {
 
 			IEditorInput input = getEditorInput();
-			if (input != null) {
+			if (input != null && abandonInputLoad()) {
 				provider.disconnect(input);
 			}
 
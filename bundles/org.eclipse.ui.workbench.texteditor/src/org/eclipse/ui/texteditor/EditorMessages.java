@@ -67,6 +67,8 @@ final class EditorMessages extends NLS {
 	public static String Editor_error_revert_message;
 	public static String Editor_error_setinput_title;
 	public static String Editor_error_setinput_message;
+	public static String Editor_task_loadingInput;
+	public static String Editor_loadingInput_placeholder;
 	public static String Editor_error_validateEdit_title;
 	public static String Editor_error_validateEdit_message;
 	public static String Editor_error_HyperlinkDetector_couldNotCreate_message;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2008 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,6 +63,9 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 		/** Lock object for modifying the annotations. */
 		private Object fLockObject;
 
+		/** The region whose annotations are replaced, <code>null</code> to replace all. */
+		private IRegion fScope;
+
 		/**
 		 * Initializes this collector with the given annotation model.
 		 *
@@ -97,7 +100,7 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 				Iterator<Annotation> iter= fAnnotationModel.getAnnotationIterator();
 				while (iter.hasNext()) {
 					Annotation annotation= iter.next();
-					if (SpellingAnnotation.TYPE.equals(annotation.getType())) {
+					if (SpellingAnnotation.TYPE.equals(annotation.getType()) && isInScope(fAnnotationModel.getPosition(annotation))) {
 						toRemove.add(annotation);
 					}
 				}
@@ -117,6 +120,51 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 
 			fAddAnnotations= null;
 		}
+
+		/**
+		 * Restricts the annotations replaced by the next collecting pass to the given region.
+		 *
+		 * @param scope the region or <code>null</code> to replace all annotations
+		 */
+		void setScope(IRegion scope) {
+			fScope= scope;
+		}
+
+		private boolean isInScope(Position position) {
+			if (fScope == null || position == null || position.isDeleted()) {
+				return true;
+			}
+			int start= fScope.getOffset();
+			int end= start + fScope.getLength();
+			if (position.getLength() == 0) {
+				return position.getOffset() >= start && position.getOffset() <= end;
+			}
+			return position.getOffset() < end && position.getOffset() + position.getLength() > start;
+		}
+	}
+
+
+	/**
+	 * Collects the problems of one chunk of an incremental check.
+	 */
+	private static class ProblemBuffer implements ISpellingProblemCollector {
+
+		/** The collected problems. */
+		private final List<SpellingProblem> fProblems= new ArrayList<>();
+
+		@Override
+		public void accept(SpellingProblem problem) {
+			fProblems.add(problem);
+		}
+
+		@Override
+		public void beginCollecting() {
+			fProblems.clear();
+		}
+
+		@Override
+		public void endCollecting() {
+		}
 	}
 
 
@@ -145,6 +193,24 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 	 */
 	private final IRegion[] fRegions= new IRegion[1];
 
+	/** Minimum number of characters of a region before an incremental check splits it into chunks. */
+	private static final int CHUNK_THRESHOLD= 64 * 1024;
+
+	/** Approximate number of characters of a chunk passed to the spelling engine at once. */
+	private static final int CHUNK_SIZE= 32 * 1024;
+
+	/** Whether only the changed lines are checked. */
+	private final boolean fIncremental;
+
+	/** The verdicts of already checked words, only used in incremental mode. */
+	private final SpellingWordCache fWordCache;
+
+	/**
+	 * The generation of the spelling preferences the words in {@link #fWordCache} were checked
+	 * with.
+	 */
+	private long fWordCacheGeneration;
+
 
 	/**
 	 * Creates a new comment reconcile strategy.
@@ -153,22 +219,70 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 	 * @param spellingService the spelling service to use
 	 */
 	public SpellingReconcileStrategy(ISourceViewer viewer, SpellingService spellingService) {
+		this(viewer, spellingService, false);
+	}
+
+	/**
+	 * Creates a new comment reconcile strategy.
+	 * <p>
+	 * In incremental mode, the strategy is meant to be used with an incremental reconciler: only
+	 * the lines touched by a dirty region are checked and only the spelling annotations on these
+	 * lines are replaced. Large regions, e.g. the whole document on the initial reconcile, are
+	 * split into line aligned chunks which are checked one after the other on the reconciler
+	 * thread, so that a cancelled check stops between two chunks. Words the spelling engine
+	 * accepted are remembered, so that lines which only consist of known words are not passed to
+	 * the engine again until the spelling preferences change. Incremental mode requires the
+	 * collector created by {@link #createSpellingProblemCollector()}, if a subclass provides its
+	 * own collector, the whole document is checked on each reconcile.
+	 * </p>
+	 *
+	 * @param viewer the source viewer
+	 * @param spellingService the spelling service to use
+	 * @param incremental <code>true</code> if only the changed lines should be checked
+	 * @see SpellingService#PREFERENCE_SPELLING_INCREMENTAL
+	 * @since 3.20
+	 */
+	public SpellingReconcileStrategy(ISourceViewer viewer, SpellingService spellingService, boolean incremental) {
 		Assert.isNotNull(viewer);
 		Assert.isNotNull(spellingService);
 		fViewer= viewer;
 		fSpellingService= spellingService;
+		fIncremental= incremental;
+		fWordCache= incremental ? new SpellingWordCache() : null;
 		fSpellingContext= new SpellingContext();
 		fSpellingContext.setContentType(getContentType());
 
 	}
 
+	/**
+	 * Tells whether this strategy only checks the changed lines.
+	 *
+	 * @return <code>true</code> if this strategy is incremental
+	 * @since 3.20
+	 */
+	public final boolean isIncremental() {
+		return fIncremental;
+	}
+
 	@Override
 	public void initialReconcile() {
+		if (fWordCache != null) {
+			fWordCache.clear();
+		}
 		reconcile(new Region(0, fDocument.getLength()));
 	}
 
 	@Override
 	public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion) {
+		if (fIncremental) {
+			if (fSpellingProblemCollector instanceof SpellingProblemCollector) {
+				reconcile(getLineRegion(dirtyRegion, subRegion));
+			} else {
+				reconcile(new Region(0, fDocument.getLength()));
+			}
+			return;
+		}
+
 		try {
 			IRegion startLineInfo= fDocument.getLineInformationOfOffset(subRegion.getOffset());
 			IRegion endLineInfo= fDocument.getLineInformationOfOffset(subRegion.getOffset() + Math.max(0, subRegion.getLength() - 1));
@@ -190,10 +304,135 @@ public class SpellingReconcileStrategy implements IReconcilingStrategy, IReconci
 			return;
 		}
 
+		if (fIncremental && fSpellingProblemCollector instanceof SpellingProblemCollector collector) {
+			checkIncrementally(collector, region);
+			return;
+		}
+
 		fRegions[0]= region;
 		fSpellingService.check(fDocument, fRegions, fSpellingContext, fSpellingProblemCollector, fProgressMonitor);
 	}
 
+	/**
+	 * Returns the lines touched by the given dirty region.
+	 *
+	 * @param dirtyRegion the dirty region
+	 * @param subRegion the sub region of the dirty region
+	 * @return the region covering the touched lines
+	 */
+	private IRegion getLineRegion(DirtyRegion dirtyRegion, IRegion subRegion) {
+		try {
+			int documentLength= fDocument.getLength();
+			int offset= Math.min(subRegion.getOffset(), documentLength);
+			int length= DirtyRegion.REMOVE.equals(dirtyRegion.getType()) ? 0 : subRegion.getLength();
+			IRegion startLine= fDocument.getLineInformationOfOffset(offset);
+			IRegion endLine= fDocument.getLineInformationOfOffset(Math.min(offset + length, documentLength));
+			return new Region(startLine.getOffset(), endLine.getOffset() + endLine.getLength() - startLine.getOffset());
+		} catch (BadLocationException e) {
+			return new Region(0, fDocument.getLength());
+		}
+	}
+
+	/**
+	 * Checks the given region and replaces the spelling annotations inside it. Large regions are
+	 * split into chunks, the check stops between two chunks if it is cancelled. The chunks are
+	 * checked on the calling thread as the spelling engines and the spelling context are not
+	 * thread safe and the document may only be read by the reconciler thread.
+	 *
+	 * @param collector the collector
+	 * @param region the region to check, must start at a line start
+	 */
+	private void checkIncrementally(SpellingProblemCollector collector, IRegion region) {
+		long generation= fSpellingService.getPreferencesGeneration();
+		if (generation != fWordCacheGeneration) {
+			// another engine, dictionary or setting may judge the words differently
+			fWordCache.clear();
+			fWordCacheGeneration= generation;
+		}
+
+		IDocument document= fDocument;
+		List<IRegion> chunks= computeChunks(document, region);
+		List<SpellingProblem> problems= new ArrayList<>();
+		for (IRegion chunk : chunks) {
+			if (fProgressMonitor != null && fProgressMonitor.isCanceled()) {
+				return;
+			}
+			problems.addAll(checkChunk(document, chunk));
+		}
+
+		if (fProgressMonitor != null && fProgressMonitor.isCanceled()) {
+			return;
+		}
+
+		boolean wholeDocument= region.getOffset() == 0 && region.getLength() >= document.getLength();
+		collector.setScope(wholeDocument ? null : region);
+		try {
+			collector.beginCollecting();
+			for (SpellingProblem problem : problems) {
+				collector.accept(problem);
+			}
+		} finally {
+			collector.endCollecting();
+			collector.setScope(null);
+		}
+	}
+
+	/**
+	 * Splits the given region into line aligned chunks.
+	 *
+	 * @param document the document
+	 * @param region the region, must start at a line start
+	 * @return the chunks
+	 */
+	private static List<IRegion> computeChunks(IDocument document, IRegion region) {
+		List<IRegion> chunks= new ArrayList<>();
+		if (region.getLength() < CHUNK_THRESHOLD) {
+			chunks.add(region);
+			return chunks;
+		}
+
+		int end= region.getOffset() + region.getLength();
+		int offset= region.getOffset();
+		try {
+			while (end - offset > CHUNK_SIZE) {
+				IRegion line= document.getLineInformationOfOffset(offset + CHUNK_SIZE);
+				int chunkEnd= Math.min(end, line.getOffset() + line.getLength());
+				chunks.add(new Region(offset, chunkEnd - offset));
+				offset= chunkEnd;
+			}
+		} catch (BadLocationException e) {
+			// the document changed, check the rest in one piece
+		}
+		chunks.add(new Region(offset, end - offset));
+		return chunks;
+	}
+
+	/**
+	 * Checks one chunk, skipping the spelling engine if the chunk only consists of known words.
+	 *
+	 * @param document the document
+	 * @param chunk the chunk, must start at a line start
+	 * @return the problems found in the chunk
+	 */
+	private List<SpellingProblem> checkChunk(IDocument document, IRegion chunk) {
+		List<SpellingWordCache.Word> words;
+		try {
+			words= fWordCache.getWords(document, chunk);
+		} catch (BadLocationException e) {
+			words= null;
+		}
+		if (words != null && fWordCache.areCorrect(words)) {
+			return new ArrayList<>();
+		}
+
+		ProblemBuffer buffer= new ProblemBuffer();
+		fSpellingService.check(document, new IRegion[] { chunk }, fSpellingContext, buffer, fProgressMonitor);
+		if (words != null && (fProgressMonitor == null || !fProgressMonitor.isCanceled())) {
+			fWordCache.learn(words, buffer.fProblems);
+		}
+		return buffer.fProblems;
+	}
+
 	/**
 	 * Returns the content type of the underlying editor input.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
 
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IRegion;
@@ -56,9 +57,30 @@ public class SpellingService {
 	 */
 	public static final String PREFERENCE_SPELLING_ENGINE= "spellingEngine"; //$NON-NLS-1$
 
+	/**
+	 * A named preference that controls whether editors only spell check the changed lines
+	 * instead of the whole document on each reconcile.
+	 * <p>
+	 * Value is of type <code>Boolean</code>.
+	 * </p>
+	 *
+	 * @see SpellingReconcileStrategy#SpellingReconcileStrategy(org.eclipse.jface.text.source.ISourceViewer, SpellingService, boolean)
+	 * @since 3.20
+	 */
+	public static final String PREFERENCE_SPELLING_INCREMENTAL= "spellingIncremental"; //$NON-NLS-1$
+
 	/** Preferences */
 	private final IPreferenceStore fPreferences;
 
+	/**
+	 * Counts the changes of the preferences, only maintained once
+	 * {@link #getPreferencesGeneration()} has been called.
+	 */
+	private volatile long fPreferencesGeneration;
+
+	/** Listener incrementing {@link #fPreferencesGeneration}, <code>null</code> if not yet installed */
+	private IPropertyChangeListener fPreferencesListener;
+
 	/**
 	 * Initializes the spelling service with the given preferences.
 	 *
@@ -122,6 +144,21 @@ public class SpellingService {
 		}
 	}
 
+	/**
+	 * Returns a number which changes whenever the preferences of this service
+	 * change, e.g. when another spelling engine is selected or the settings
+	 * of the engine are modified. Used to invalidate cached spelling verdicts.
+	 *
+	 * @return the current generation of the preferences
+	 */
+	synchronized long getPreferencesGeneration() {
+		if (fPreferencesListener == null) {
+			fPreferencesListener= event -> fPreferencesGeneration++;
+			fPreferences.addPropertyChangeListener(fPreferencesListener);
+		}
+		return fPreferencesGeneration;
+	}
+
 	/**
 	 * Returns all spelling engine descriptors from extensions to the
 	 * spelling engine extension point.
@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.texteditor.spelling;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPartitioningException;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension3;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITypedRegion;
+
+
+/**
+ * Remembers the words which the spelling engine accepted, so that an incremental spell check can
+ * skip regions that only consist of known words.
+ * <p>
+ * A word is a whitespace delimited token containing at least one letter, punctuation included,
+ * so that the engine's own tokenization and ignore rules cannot make a word look correct in a
+ * context where it would be reported. The verdict is keyed by the word together with the
+ * partition types at its offset in all partitionings of the document and the kind of the
+ * preceding non-whitespace character, which covers comment and string partitions as well as
+ * sentence starts. Only words which were checked and not reported are remembered; a word is
+ * forgotten again as soon as the engine reports a problem for it. The cache holds a bounded
+ * number of words, evicting the least recently used first.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+final class SpellingWordCache {
+
+	/**
+	 * A word of a checked region.
+	 */
+	static final class Word {
+
+		final int fOffset;
+		final int fLength;
+		final String fKey;
+
+		Word(int offset, int length, String key) {
+			fOffset= offset;
+			fLength= length;
+			fKey= key;
+		}
+
+		boolean overlapsWith(SpellingProblem problem) {
+			return problem.getOffset() < fOffset + fLength && problem.getOffset() + Math.max(1, problem.getLength()) > fOffset;
+		}
+	}
+
+	/** Maximum number of remembered words. */
+	private static final int MAX_WORDS= 20000;
+
+	/** Longer tokens are never remembered, they are rarely words. */
+	private static final int MAX_WORD_LENGTH= 64;
+
+	/** Maximum number of characters scanned backwards to find the character preceding a region. */
+	private static final int MAX_CONTEXT_SCAN= 256;
+
+	private final Map<String, Boolean> fCorrectWords= new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > MAX_WORDS;
+		}
+	};
+
+	/**
+	 * Splits the given region of the document into words.
+	 *
+	 * @param document the document
+	 * @param region the region, must start at a line start
+	 * @return the words of the region or <code>null</code> if the region contains a token which
+	 *         cannot be remembered
+	 * @throws BadLocationException if the region is not valid in the document, e.g. because the
+	 *             document changed concurrently
+	 */
+	List<Word> getWords(IDocument document, IRegion region) throws BadLocationException {
+		String text= document.get(region.getOffset(), region.getLength());
+		String[] partitionings= document instanceof IDocumentExtension3 extension ? extension.getPartitionings() : null;
+		ITypedRegion[] partitions= partitionings != null ? new ITypedRegion[partitionings.length] : null;
+
+		List<Word> words= new ArrayList<>();
+		char previous= getPrecedingCharacter(document, region.getOffset());
+		int length= text.length();
+		int i= 0;
+		while (i < length) {
+			char c= text.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+				continue;
+			}
+
+			int start= i;
+			boolean hasLetter= false;
+			while (i < length && !Character.isWhitespace(text.charAt(i))) {
+				hasLetter|= Character.isLetter(text.charAt(i));
+				i++;
+			}
+
+			if (hasLetter) {
+				if (i - start > MAX_WORD_LENGTH) {
+					return null;
+				}
+				int offset= region.getOffset() + start;
+				StringBuilder key= new StringBuilder();
+				key.append(Character.isLetterOrDigit(previous) ? 'a' : previous);
+				appendPartitionTypes(document, partitionings, partitions, offset, key);
+				key.append('\u0000').append(text, start, i);
+				words.add(new Word(offset, i - start, key.toString()));
+			}
+			previous= text.charAt(i - 1);
+		}
+		return words;
+	}
+
+	/**
+	 * Tells whether all given words are known to be correct.
+	 *
+	 * @param words the words
+	 * @return <code>true</code> if all words are known to be correct
+	 */
+	synchronized boolean areCorrect(List<Word> words) {
+		for (Word word : words) {
+			if (fCorrectWords.get(word.fKey) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Remembers the verdicts of a spell check of the given words.
+	 *
+	 * @param words the checked words
+	 * @param problems the problems reported for the checked region
+	 */
+	synchronized void learn(List<Word> words, List<SpellingProblem> problems) {
+		for (Word word : words) {
+			boolean reported= false;
+			for (SpellingProblem problem : problems) {
+				if (word.overlapsWith(problem)) {
+					reported= true;
+					break;
+				}
+			}
+			if (reported) {
+				fCorrectWords.remove(word.fKey);
+			} else {
+				fCorrectWords.put(word.fKey, Boolean.TRUE);
+			}
+		}
+	}
+
+	/**
+	 * Forgets all remembered words.
+	 */
+	synchronized void clear() {
+		fCorrectWords.clear();
+	}
+
+	private static char getPrecedingCharacter(IDocument document, int offset) throws BadLocationException {
+		int limit= Math.max(0, offset - MAX_CONTEXT_SCAN);
+		for (int i= offset - 1; i >= limit; i--) {
+			char c= document.getChar(i);
+			if (!Character.isWhitespace(c)) {
+				return c;
+			}
+		}
+		return '\n';
+	}
+
+	private static void appendPartitionTypes(IDocument document, String[] partitionings, ITypedRegion[] partitions, int offset, StringBuilder key) throws BadLocationException {
+		if (partitionings == null) {
+			key.append(document.getContentType(offset));
+			return;
+		}
+
+		IDocumentExtension3 extension= (IDocumentExtension3) document;
+		for (int i= 0; i < partitionings.length; i++) {
+			ITypedRegion partition= partitions[i];
+			if (partition == null || offset < partition.getOffset() || offset >= partition.getOffset() + partition.getLength()) {
+				try {
+					partition= extension.getPartition(partitionings[i], offset, false);
+				} catch (BadPartitioningException e) {
+					continue;
+				}
+				partitions[i]= partition;
+			}
+			key.append(partition.getType()).append('|');
+		}
+	}
+}
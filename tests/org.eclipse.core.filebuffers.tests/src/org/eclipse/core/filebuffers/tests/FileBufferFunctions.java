@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,15 @@ package org.eclipse.core.filebuffers.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.nio.file.Files;
 
 import org.junit.After;
 import org.junit.Before;
@@ -38,6 +41,7 @@ import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 
@@ -1316,4 +1320,138 @@ public abstract class FileBufferFunctions {
 		}
 	}
 
+	/*
+	 * Tests connecting and disconnecting several locations at once.
+	 */
+	@Test
+	public void testBulkConnectAndDisconnect() throws Exception {
+		IPath[] locations= { fPath, fPath };
+		MultiStatus status= new MultiStatus("org.eclipse.core.filebuffers.tests", IStatus.OK, "", null);
+		IFileBuffer[] fileBuffers= fManager.connect(locations, LocationKind.NORMALIZE, 2, status, null);
+		try {
+			assertTrue(status.isOK());
+			assertEquals(0, status.getChildren().length);
+			assertEquals(locations.length, fileBuffers.length);
+			assertNotNull(fileBuffers[0]);
+			assertSame(fileBuffers[0], fileBuffers[1]);
+			assertSame(fileBuffers[0], fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE));
+		} finally {
+			fManager.disconnect(locations, LocationKind.NORMALIZE, null);
+		}
+		// the location given twice was connected twice
+		assertNull(fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE));
+	}
+
+	/*
+	 * Tests that a file which cannot be connected is reported without preventing the others.
+	 */
+	@Test
+	public void testBulkConnectReportsFailures() throws Exception {
+		// the location of a file in a project which does not exist cannot be determined
+		IPath nonExisting= IPath.fromOSString("/nonExistingProject" + System.currentTimeMillis() + "/file.txt");
+		IPath[] locations= { nonExisting };
+		MultiStatus status= new MultiStatus("org.eclipse.core.filebuffers.tests", IStatus.OK, "", null);
+		IFileBuffer[] fileBuffers= fManager.connect(locations, LocationKind.IFILE, 2, status, null);
+		try {
+			assertEquals(1, fileBuffers.length);
+			assertNull(fileBuffers[0]);
+			assertEquals(IStatus.ERROR, status.getSeverity());
+			IStatus[] children= status.getChildren();
+			assertEquals(1, children.length);
+			assertEquals(IStatus.ERROR, children[0].getSeverity());
+			assertEquals(FileBuffers.PLUGIN_ID, children[0].getPlugin());
+			assertTrue(children[0].getMessage(), children[0].getMessage().contains(nonExisting.toString()));
+			assertNull(fManager.getTextFileBuffer(nonExisting, LocationKind.IFILE));
+		} finally {
+			for (IFileBuffer fileBuffer : fileBuffers) {
+				if (fileBuffer != null) {
+					fManager.disconnect(fileBuffer.getLocation(), LocationKind.IFILE, null);
+				}
+			}
+		}
+	}
+
+	/*
+	 * Tests that released content is reused only while the file is unchanged.
+	 */
+	@Test
+	public void testReleasedContentRetention() throws Exception {
+		long limit= fManager.getReleasedContentLimit();
+		fManager.setReleasedContentLimit(1_000_000);
+		try {
+			String content;
+			fManager.connect(fPath, LocationKind.NORMALIZE, null);
+			try {
+				content= fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE).getDocument().get();
+			} finally {
+				fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+			}
+
+			// change the file behind the back of the workspace, keeping its length and time stamp
+			IFileStore fileStore= FileBuffers.getFileStoreAtLocation(fPath);
+			File file= fileStore != null ? fileStore.toLocalFile(EFS.NONE, null) : null;
+			boolean changed= file != null && file.isFile() && !content.isEmpty();
+			if (changed) {
+				// a cache miss would read the changed content
+				long lastModified= file.lastModified();
+				Files.writeString(file.toPath(), content.replace(content.charAt(0), content.charAt(0) == 'x' ? 'y' : 'x'));
+				assertTrue(file.setLastModified(lastModified));
+			}
+
+			fManager.connect(fPath, LocationKind.NORMALIZE, null);
+			try {
+				// the retained content is used, the file is not read again
+				assertEquals(content, fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE).getDocument().get());
+			} finally {
+				fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+			}
+
+			if (!changed && modifyUnderlyingFile()) {
+				fManager.connect(fPath, LocationKind.NORMALIZE, null);
+				try {
+					assertFalse(content.equals(fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE).getDocument().get()));
+				} finally {
+					fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+				}
+			}
+		} finally {
+			fManager.setReleasedContentLimit(limit);
+		}
+	}
+
+	/*
+	 * Tests that no content is retained while retention is disabled.
+	 */
+	@Test
+	public void testReleasedContentRetentionDisabled() throws Exception {
+		long limit= fManager.getReleasedContentLimit();
+		fManager.setReleasedContentLimit(0);
+		try {
+			String content;
+			fManager.connect(fPath, LocationKind.NORMALIZE, null);
+			try {
+				content= fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE).getDocument().get();
+			} finally {
+				fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+			}
+
+			IFileStore fileStore= FileBuffers.getFileStoreAtLocation(fPath);
+			File file= fileStore != null ? fileStore.toLocalFile(EFS.NONE, null) : null;
+			if (file == null || !file.isFile() || content.isEmpty()) {
+				return;
+			}
+			long lastModified= file.lastModified();
+			Files.writeString(file.toPath(), content.replace(content.charAt(0), content.charAt(0) == 'x' ? 'y' : 'x'));
+			assertTrue(file.setLastModified(lastModified));
+
+			fManager.connect(fPath, LocationKind.NORMALIZE, null);
+			try {
+				assertFalse(content.equals(fManager.getTextFileBuffer(fPath, LocationKind.NORMALIZE).getDocument().get()));
+			} finally {
+				fManager.disconnect(fPath, LocationKind.NORMALIZE, null);
+			}
+		} finally {
+			fManager.setReleasedContentLimit(limit);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,9 +32,13 @@ import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.filesystem.URIUtil;
 
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.content.IContentType;
 
 import org.eclipse.core.resources.IProject;
 
+import org.eclipse.core.internal.filebuffers.ContentDescriptionCache;
+import org.eclipse.core.internal.filebuffers.TextFileBufferManager;
+
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.IFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -1252,4 +1256,30 @@ public abstract class FileStoreFileBufferFunctions {
 		}
 	}
 
+	/*
+	 * Tests that the content description of an unchanged file store is computed only once.
+	 */
+	@Test
+	public void testContentDescriptionCache() throws Exception {
+		if (!fFileStore.fetchInfo().exists())
+			return;
+
+		ContentDescriptionCache cache= ((TextFileBufferManager) fManager).getContentDescriptionCache();
+		fManager.connectFileStore(fFileStore, null);
+		try {
+			ITextFileBuffer buffer= fManager.getFileStoreTextFileBuffer(fFileStore);
+			IContentType contentType= buffer.getContentType();
+			long hits= cache.getHitCount();
+			long misses= cache.getMissCount();
+
+			assertEquals(contentType, buffer.getContentType());
+			assertTrue(cache.getHitCount() > hits);
+
+			cache.clear();
+			assertEquals(contentType, buffer.getContentType());
+			assertTrue(cache.getMissCount() > misses);
+		} finally {
+			fManager.disconnectFileStore(fFileStore, null);
+		}
+	}
 }
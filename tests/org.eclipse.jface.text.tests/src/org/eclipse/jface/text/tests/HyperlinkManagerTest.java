@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.MouseEvent;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.jface.text.hyperlink.HyperlinkManager;
+import org.eclipse.jface.text.hyperlink.IHyperlink;
+import org.eclipse.jface.text.hyperlink.IHyperlinkDetector;
+import org.eclipse.jface.text.hyperlink.IHyperlinkPresenter;
+
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+/**
+ * Tests the caching and the asynchronous detection of {@link HyperlinkManager}.
+ */
+public class HyperlinkManagerTest {
+
+	/** Every word of the text is a hyperlink. */
+	private static final String TEXT= "foo bar baz qux";
+
+	private static final int WORD_LENGTH= 3;
+
+	private Shell fShell;
+
+	private TextViewer fViewer;
+
+	private Document fDocument;
+
+	private TestHyperlinkManager fManager;
+
+	private final AtomicInteger fDetections= new AtomicInteger();
+
+	/** The detection at this offset waits for {@link #fRelease}. */
+	private volatile int fBlockedOffset= -1;
+
+	private final CountDownLatch fBlocked= new CountDownLatch(1);
+
+	private final CountDownLatch fRelease= new CountDownLatch(1);
+
+	private final CountDownLatch fBlockedDone= new CountDownLatch(1);
+
+	private final List<IHyperlink> fShown= new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	public void setUp() {
+		fShell= new Shell();
+		fViewer= new TextViewer(fShell, SWT.NONE);
+		fDocument= new Document(TEXT);
+		fViewer.setDocument(fDocument);
+		fManager= new TestHyperlinkManager();
+		fManager.install(fViewer, new RecordingPresenter(), new IHyperlinkDetector[] { new WordDetector() }, SWT.MOD1);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fRelease.countDown();
+		fManager.uninstall();
+		fShell.dispose();
+	}
+
+	private void moveTo(int offset) {
+		fManager.fOffset= offset;
+		Event event= new Event();
+		event.widget= fViewer.getTextWidget();
+		event.display= fShell.getDisplay();
+		event.stateMask= SWT.MOD1;
+		fManager.mouseMove(new MouseEvent(event));
+	}
+
+	private IHyperlink lastShown() {
+		return fShown.isEmpty() ? null : fShown.get(fShown.size() - 1);
+	}
+
+	@Test
+	public void testCacheHit() {
+		moveTo(0);
+		assertEquals(1, fDetections.get());
+		assertEquals(0, lastShown().getHyperlinkRegion().getOffset());
+
+		moveTo(0);
+		// inside the hyperlink that was just found
+		moveTo(2);
+		assertEquals(1, fDetections.get());
+		assertEquals(3, fShown.size());
+
+		moveTo(4);
+		assertEquals(2, fDetections.get());
+		moveTo(0);
+		assertEquals(2, fDetections.get());
+		assertEquals(0, lastShown().getHyperlinkRegion().getOffset());
+
+		// offsets without hyperlinks are cached as well
+		moveTo(3);
+		moveTo(3);
+		assertEquals(3, fDetections.get());
+	}
+
+	@Test
+	public void testCacheInvalidatedByModificationStamp() throws Exception {
+		// only the modification stamp tells that the document changed
+		fViewer.removeTextListener(fManager);
+		moveTo(0);
+		assertEquals(1, fDetections.get());
+
+		fDocument.replace(TEXT.length(), 0, " ");
+		moveTo(0);
+		assertEquals(2, fDetections.get());
+		moveTo(0);
+		assertEquals(2, fDetections.get());
+	}
+
+	@Test
+	public void testCacheClearedOnDeactivate() {
+		moveTo(0);
+		moveTo(0);
+		assertEquals(1, fDetections.get());
+
+		fManager.endSession();
+		moveTo(0);
+		assertEquals(2, fDetections.get());
+	}
+
+	@Test
+	public void testStaleAsynchronousDetectionDroppedOnMouseMove() throws Exception {
+		fManager.setAsynchronousDetection(true);
+		fBlockedOffset= 0;
+		moveTo(0);
+		assertTrue(fBlocked.await(5, TimeUnit.SECONDS));
+
+		moveTo(4);
+		fRelease.countDown();
+		assertTrue(fBlockedDone.await(5, TimeUnit.SECONDS));
+		assertTrue(DisplayHelper.waitForCondition(fShell.getDisplay(), 5000, () -> lastShown() != null));
+		DisplayHelper.runEventLoop(fShell.getDisplay(), 100);
+
+		assertEquals(1, fShown.size());
+		assertEquals(4, lastShown().getHyperlinkRegion().getOffset());
+		// the stale result was not cached either
+		fManager.setAsynchronousDetection(false);
+		int detections= fDetections.get();
+		moveTo(0);
+		assertEquals(detections + 1, fDetections.get());
+	}
+
+	@Test
+	public void testStaleAsynchronousDetectionDroppedOnDeactivate() throws Exception {
+		fManager.setAsynchronousDetection(true);
+		fBlockedOffset= 0;
+		moveTo(0);
+		assertTrue(fBlocked.await(5, TimeUnit.SECONDS));
+
+		fManager.endSession();
+		fRelease.countDown();
+		assertTrue(fBlockedDone.await(5, TimeUnit.SECONDS));
+		DisplayHelper.runEventLoop(fShell.getDisplay(), 100);
+
+		assertTrue(fShown.isEmpty());
+		fManager.setAsynchronousDetection(false);
+		moveTo(0);
+		assertEquals(2, fDetections.get());
+	}
+
+	private static final class TestHyperlinkManager extends HyperlinkManager {
+
+		volatile int fOffset;
+
+		TestHyperlinkManager() {
+			super(HyperlinkManager.FIRST);
+		}
+
+		@Override
+		protected int getCurrentTextOffset() {
+			return fOffset;
+		}
+
+		void endSession() {
+			deactivate();
+		}
+	}
+
+	private final class WordDetector implements IHyperlinkDetector {
+
+		@Override
+		public IHyperlink[] detectHyperlinks(ITextViewer textViewer, IRegion region, boolean canShowMultipleHyperlinks) {
+			fDetections.incrementAndGet();
+			int offset= region.getOffset();
+			if (offset == fBlockedOffset) {
+				fBlocked.countDown();
+				// ignore interrupts, only the generation of the detection tells that it is stale
+				while (fRelease.getCount() > 0) {
+					try {
+						fRelease.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						// wait on
+					}
+				}
+				fBlockedDone.countDown();
+			}
+			int start= offset - offset % (WORD_LENGTH + 1);
+			if (offset - start >= WORD_LENGTH) {
+				return null;
+			}
+			return new IHyperlink[] { new WordHyperlink(new Region(start, WORD_LENGTH)) };
+		}
+	}
+
+	private static final class WordHyperlink implements IHyperlink {
+
+		private final IRegion fRegion;
+
+		WordHyperlink(IRegion region) {
+			fRegion= region;
+		}
+
+		@Override
+		public IRegion getHyperlinkRegion() {
+			return fRegion;
+		}
+
+		@Override
+		public String getTypeLabel() {
+			return null;
+		}
+
+		@Override
+		public String getHyperlinkText() {
+			return null;
+		}
+
+		@Override
+		public void open() {
+			// nothing to open
+		}
+	}
+
+	private final class RecordingPresenter implements IHyperlinkPresenter {
+
+		@Override
+		public boolean canShowMultipleHyperlinks() {
+			return false;
+		}
+
+		@Override
+		public void showHyperlinks(IHyperlink[] hyperlinks) {
+			fShown.add(hyperlinks[0]);
+		}
+
+		@Override
+		public void hideHyperlinks() {
+			// only shown hyperlinks are recorded
+		}
+
+		@Override
+		public void install(ITextViewer textViewer) {
+			// nothing to install
+		}
+
+		@Override
+		public void uninstall() {
+			// nothing to uninstall
+		}
+	}
+}
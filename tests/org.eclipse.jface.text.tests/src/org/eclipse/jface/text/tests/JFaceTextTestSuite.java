@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import org.eclipse.jface.text.tests.codemining.CodeMiningLineHeaderAnnotationTes
 import org.eclipse.jface.text.tests.codemining.CodeMiningProjectionViewerTest;
 import org.eclipse.jface.text.tests.codemining.CodeMiningTest;
 import org.eclipse.jface.text.tests.contentassist.AsyncContentAssistTest;
+import org.eclipse.jface.text.tests.contentassist.ContentAssistSchedulerTest;
 import org.eclipse.jface.text.tests.contentassist.ContextInformationPresenterTest;
 import org.eclipse.jface.text.tests.contentassist.ContextInformationTest;
 import org.eclipse.jface.text.tests.contentassist.FilteringAsyncContentAssistTests;
@@ -32,6 +33,7 @@ import org.eclipse.jface.text.tests.rules.ScannerColumnTest;
 import org.eclipse.jface.text.tests.rules.WordRuleTest;
 import org.eclipse.jface.text.tests.source.AnnotationRulerColumnTest;
 import org.eclipse.jface.text.tests.source.LineNumberRulerColumnTest;
+import org.eclipse.jface.text.tests.source.OverviewRulerTest;
 import org.eclipse.jface.text.tests.source.inlined.AnnotationOnTabTest;
 import org.eclipse.jface.text.tests.source.inlined.LineContentBoundsDrawingTest;
 import org.eclipse.jface.text.tests.templates.persistence.TemplatePersistenceDataTest;
@@ -45,15 +47,18 @@ import org.eclipse.jface.text.tests.templates.persistence.TemplatePersistenceDat
 @SelectClasses({
 		AnnotationRulerColumnTest.class,
 		LineNumberRulerColumnTest.class,
+		OverviewRulerTest.class,
 		HTML2TextReaderTest.class,
 		TextHoverPopupTest.class,
 		TextPresentationTest.class,
 		DefaultUndoManagerTest.class,
 		TextViewerTest.class,
+		HyperlinkManagerTest.class,
 		TextViewerUndoManagerTest.class,
 		DefaultPairMatcherTest.class,
 		DefaultPairMatcherTest2.class,
 		AsyncContentAssistTest.class,
+		ContentAssistSchedulerTest.class,
 		FilteringAsyncContentAssistTests.class,
 		IncrementalAsyncContentAssistTests.class,
 		ContextInformationTest.class,
@@ -10,9 +10,14 @@
  *******************************************************************************/
 package org.eclipse.jface.text.tests.codemining;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -21,14 +26,19 @@ import org.junit.jupiter.api.Test;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.jface.internal.text.codemining.CodeMiningLineHeaderAnnotation;
 
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.codemining.ICodeMining;
 import org.eclipse.jface.text.codemining.LineHeaderCodeMining;
 import org.eclipse.jface.text.source.AnnotationModel;
 import org.eclipse.jface.text.source.AnnotationPainter;
@@ -46,6 +56,8 @@ public class CodeMiningLineHeaderAnnotationTest {
 
 	private Document document;
 
+	private InlinedAnnotationSupport fSupport;
+
 	@BeforeEach
 	public void setUp() {
 		fShell= new Shell(Display.getDefault());
@@ -69,24 +81,83 @@ public class CodeMiningLineHeaderAnnotationTest {
 
 	@AfterEach
 	public void tearDown() {
+		if (fSupport != null) {
+			fSupport.uninstall();
+		}
 		fViewer= null;
 	}
 
-	@Test
-	public void testGetHeightDoesNotReturnZero() throws Exception {
+	/**
+	 * Shows a line header annotation with the given mining through the inlined annotation support,
+	 * and waits until it is painted.
+	 */
+	private CodeMiningLineHeaderAnnotation showAnnotation(ICodeMining mining) {
+		AnnotationPainter painter= new AnnotationPainter(fViewer, null);
+		fViewer.addPainter(painter);
+		fSupport= new InlinedAnnotationSupport();
+		fSupport.install(fViewer, painter);
 		var cut= new CodeMiningLineHeaderAnnotation(new Position(0, 0), fViewer);
-		var s= new InlinedAnnotationSupport();
-		s.install(fViewer, new AnnotationPainter(fViewer, null));
-		var m= AbstractInlinedAnnotation.class.getDeclaredMethod("setSupport", InlinedAnnotationSupport.class);
-		m.setAccessible(true);
-		m.invoke(cut, s);
-		cut.update(Arrays.asList(new LineHeaderCodeMining(0, document, null) {
+		cut.update(List.of(mining), null);
+		Set<AbstractInlinedAnnotation> annotations= Set.of(cut);
+		fSupport.updateAnnotations(annotations);
+		return cut;
+	}
+
+	private LineHeaderCodeMining createMining(String[] label, AtomicInteger labelRequests, AtomicBoolean drawn) throws BadLocationException {
+		return new LineHeaderCodeMining(0, document, null) {
 			@Override
 			public String getLabel() {
-				return "mining";
+				labelRequests.incrementAndGet();
+				return label[0];
 			}
-		}), null);
+
+			@Override
+			public Point draw(GC gc, StyledText textWidget, Color color, int x, int y) {
+				drawn.set(true);
+				return super.draw(gc, textWidget, color, x, y);
+			}
+		};
+	}
+
+	@Test
+	public void testGetHeightDoesNotReturnZero() throws Exception {
+		AtomicBoolean drawn= new AtomicBoolean();
+		var cut= showAnnotation(createMining(new String[] { "mining" }, new AtomicInteger(), drawn));
+		assertTrue(DisplayHelper.waitForCondition(fViewer.getTextWidget().getDisplay(), 3000, drawn::get));
 		// https: //github.com/eclipse-platform/eclipse.platform.ui/issues/2786
 		assertNotEquals(0, cut.getHeight()); // getHeight should not return 0, otherwise editor content starts jumping around
 	}
+
+	@Test
+	public void testHeightIsMeasuredAgainOnlyWhenInputsChange() throws Exception {
+		String[] label= { "mining" };
+		AtomicInteger labelRequests= new AtomicInteger();
+		AtomicBoolean drawn= new AtomicBoolean();
+		var cut= showAnnotation(createMining(label, labelRequests, drawn));
+		assertTrue(DisplayHelper.waitForCondition(fViewer.getTextWidget().getDisplay(), 3000, drawn::get));
+
+		GC gc= new GC(fViewer.getTextWidget());
+		try {
+			int height= cut.getHeight(gc);
+			assertNotEquals(0, height);
+
+			// nothing changed, the labels are not even requested
+			labelRequests.set(0);
+			assertEquals(height, cut.getHeight(gc));
+			assertEquals(0, labelRequests.get());
+
+			// a resolved mining changes its label and redraws the annotation
+			label[0]= "first\nsecond\nthird";
+			cut.redraw();
+			int multilineHeight= cut.getHeight(gc);
+			assertTrue(multilineHeight > height);
+
+			labelRequests.set(0);
+			fViewer.getTextWidget().setLineSpacing(10);
+			assertTrue(cut.getHeight(gc) > multilineHeight);
+			assertTrue(labelRequests.get() > 0);
+		} finally {
+			gc.dispose();
+		}
+	}
 }
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.contentassist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jface.internal.text.ContentAssistScheduler;
+import org.eclipse.jface.internal.text.ContentAssistScheduler.Statistics;
+
+public class ContentAssistSchedulerTest {
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	public void setUp() {
+		executor= Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testConcurrencyLimitAndQueueDropping() throws Exception {
+		ContentAssistScheduler scheduler= new ContentAssistScheduler(() -> executor, 1, 1, 10_000, 3);
+		Object processor= new Object();
+		CountDownLatch release= new CountDownLatch(1);
+		CompletableFuture<String> running= scheduler.submit(processor, () -> {
+			release.await();
+			return "first";
+		}, "none");
+		CompletableFuture<String> dropped= scheduler.submit(processor, () -> "second", "none");
+		CompletableFuture<String> last= scheduler.submit(processor, () -> "third", "none");
+
+		assertEquals("none", dropped.getNow(null));
+		assertEquals(1, scheduler.getStatistics(processor).getQueued());
+		release.countDown();
+		assertEquals("first", running.get(5, TimeUnit.SECONDS));
+		assertEquals("third", last.get(5, TimeUnit.SECONDS));
+
+		Statistics statistics= scheduler.getStatistics(processor);
+		assertEquals(2, statistics.getCompleted());
+		assertEquals(1, statistics.getDropped());
+		assertEquals(1, statistics.getMaxQueued());
+	}
+
+	@Test
+	public void testOtherProcessorsAreNotBlocked() throws Exception {
+		ContentAssistScheduler scheduler= new ContentAssistScheduler(() -> executor, 1, 4, 10_000, 3);
+		CountDownLatch release= new CountDownLatch(1);
+		Object slow= new Object();
+		scheduler.submit(slow, () -> release.await(5, TimeUnit.SECONDS), false);
+		scheduler.submit(slow, () -> release.await(5, TimeUnit.SECONDS), false);
+		assertEquals("fast", scheduler.submit(new Object(), () -> "fast", null).get(5, TimeUnit.SECONDS));
+		release.countDown();
+	}
+
+	@Test
+	public void testDeprioritizeAfterRepeatedOverBudget() throws Exception {
+		ContentAssistScheduler scheduler= new ContentAssistScheduler(() -> executor, 2, 4, 0, 2);
+		Object processor= new Object();
+		scheduler.submit(processor, () -> {
+			Thread.sleep(5);
+			return null;
+		}, null).get(5, TimeUnit.SECONDS);
+		assertFalse(scheduler.isDeprioritized(processor));
+		scheduler.submit(processor, () -> {
+			Thread.sleep(5);
+			return null;
+		}, null).get(5, TimeUnit.SECONDS);
+		assertTrue(scheduler.isDeprioritized(processor));
+		assertEquals(2, scheduler.getStatistics(processor).getOverBudget());
+	}
+
+	@Test
+	public void testCancelRunningInterrupts() throws Exception {
+		ContentAssistScheduler scheduler= new ContentAssistScheduler(() -> executor, 1, 1, 10_000, 3);
+		Object processor= new Object();
+		CountDownLatch started= new CountDownLatch(1);
+		CountDownLatch interrupted= new CountDownLatch(1);
+		CompletableFuture<Object> future= scheduler.submit(processor, () -> {
+			started.countDown();
+			try {
+				Thread.sleep(10_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+			}
+			return null;
+		}, null);
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		future.cancel(true);
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+		waitForIdle(scheduler, processor);
+		Statistics statistics= scheduler.getStatistics(processor);
+		assertEquals(1, statistics.getCancelled());
+		assertEquals(0, statistics.getCompleted());
+	}
+
+	@Test
+	public void testCancelQueued() throws Exception {
+		ContentAssistScheduler scheduler= new ContentAssistScheduler(() -> executor, 1, 2, 10_000, 3);
+		Object processor= new Object();
+		CountDownLatch release= new CountDownLatch(1);
+		CompletableFuture<Boolean> running= scheduler.submit(processor, () -> release.await(5, TimeUnit.SECONDS), false);
+		CompletableFuture<Boolean> queued= scheduler.submit(processor, () -> Boolean.TRUE, false);
+		queued.cancel(true);
+		assertEquals(0, scheduler.getStatistics(processor).getQueued());
+		release.countDown();
+		assertTrue(running.get(5, TimeUnit.SECONDS));
+		waitForIdle(scheduler, processor);
+
+		Statistics statistics= scheduler.getStatistics(processor);
+		assertEquals(1, statistics.getCompleted());
+		assertEquals(1, statistics.getCancelled());
+		// the slot of the cancelled computation is not lost
+		assertTrue(scheduler.submit(processor, () -> Boolean.TRUE, false).get(5, TimeUnit.SECONDS));
+	}
+
+	private static void waitForIdle(ContentAssistScheduler scheduler, Object key) throws InterruptedException {
+		long end= System.currentTimeMillis() + 5_000;
+		while (scheduler.getStatistics(key).getRunning() > 0 && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+	}
+}
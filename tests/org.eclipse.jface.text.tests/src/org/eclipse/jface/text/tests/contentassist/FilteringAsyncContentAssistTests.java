@@ -19,7 +19,9 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.AfterEach;
@@ -34,6 +36,8 @@ import org.eclipse.swt.widgets.Shell;
 
 import org.eclipse.text.edits.InsertEdit;
 
+import org.eclipse.jface.internal.text.ContentAssistScheduler;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.DocumentEvent;
@@ -361,6 +365,43 @@ public class FilteringAsyncContentAssistTests {
 
 	}
 
+	@Test
+	public void testDroppedComputationLeavesComputingState() throws Exception {
+		BlockingProcessor processor= new BlockingProcessor("abcd()");
+		ca.addContentAssistProcessor(processor, IDocument.DEFAULT_CONTENT_TYPE);
+		ca.install(viewer);
+		viewer.setSelectedRange(0, 0);
+
+		ContentAssistScheduler scheduler= ContentAssistScheduler.getDefault();
+		Callable<Boolean> blocking= () -> processor.blocked.await(5, TimeUnit.SECONDS);
+		try {
+			// occupy all computation slots of the processor so that the popup's computation waits
+			scheduler.submit(processor, blocking, Boolean.FALSE);
+			scheduler.submit(processor, blocking, Boolean.FALSE);
+			ca.showPossibleCompletions();
+			DisplayHelper.sleep(shell.getDisplay(), 100);
+			assertEquals(1, getComputedProposals(ca, p -> p.getClass().getSimpleName().equals("ComputingProposal")).size());
+
+			// newer requests fill the queue and drop the popup's computation
+			for (int i= 0; i < 4; i++) {
+				scheduler.submit(processor, blocking, Boolean.FALSE);
+			}
+			assertTrue(scheduler.getStatistics(processor).getDropped() > 0);
+			assertTrue(new DisplayHelper() {
+				@Override
+				protected boolean condition() {
+					try {
+						return getComputedProposals(ca, p -> p.getClass().getSimpleName().equals("ComputingProposal")).isEmpty();
+					} catch (Exception e) {
+						return false;
+					}
+				}
+			}.waitForCondition(shell.getDisplay(), 2000));
+		} finally {
+			processor.blocked.countDown();
+		}
+	}
+
 	static class ImmediateContentAssistProcessor implements IContentAssistProcessor {
 
 		final private List<String> templates;
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jface.text.tests.source;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Shell;
 
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.source.CompositeRuler;
 import org.eclipse.jface.text.source.LineNumberRulerColumn;
 import org.eclipse.jface.text.source.SourceViewer;
@@ -51,4 +55,33 @@ public class LineNumberRulerColumnTest {
 		lineNumberRulerColumn.redraw();
 	}
 
+	@Test
+	public void testDamageTrackingSkipsDigitComputationForSingleLineEdits() throws Exception {
+		int[] computations= { 0 };
+		LineNumberRulerColumn lineNumberRulerColumn= new LineNumberRulerColumn() {
+			@Override
+			protected int computeNumberOfDigits() {
+				computations[0]++;
+				return super.computeNumberOfDigits();
+			}
+		};
+		lineNumberRulerColumn.setDamageTrackingEnabled(true);
+		CompositeRuler ruler= new CompositeRuler();
+		ruler.addDecorator(0, lineNumberRulerColumn);
+		SourceViewer sourceViewer= new SourceViewer(fParent, ruler, SWT.NONE);
+		IDocument document= new Document("a\nb\nc\n");
+		sourceViewer.setDocument(document);
+		lineNumberRulerColumn.getControl().setSize(20, 100);
+		lineNumberRulerColumn.redraw();
+
+		int before= computations[0];
+		document.replace(1, 0, "xyz");
+		lineNumberRulerColumn.redraw();
+		assertEquals(before, computations[0]);
+
+		document.replace(1, 0, "\n");
+		lineNumberRulerColumn.redraw();
+		assertEquals(before + 1, computations[0]);
+	}
+
 }
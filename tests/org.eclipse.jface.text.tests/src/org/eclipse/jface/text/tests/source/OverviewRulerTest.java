@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.source;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.IAnnotationAccess;
+import org.eclipse.jface.text.source.IAnnotationModel;
+import org.eclipse.jface.text.source.IAnnotationModelExtension;
+import org.eclipse.jface.text.source.ISharedTextColors;
+import org.eclipse.jface.text.source.OverviewRuler;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+public class OverviewRulerTest {
+
+	private static final String TYPE= "test.annotation"; //$NON-NLS-1$
+
+	private Shell fShell;
+
+	private OverviewRuler fRuler;
+
+	private SourceViewer fViewer;
+
+	@BeforeEach
+	public void setUp() {
+		fShell= new Shell();
+		fShell.setLayout(new FillLayout());
+		fShell.setSize(400, 400);
+
+		ISharedTextColors colors= new ISharedTextColors() {
+			@Override
+			public Color getColor(RGB rgb) {
+				return new Color(rgb);
+			}
+
+			@Override
+			public void dispose() {
+			}
+		};
+		fRuler= new OverviewRuler(new TestAnnotationAccess(), 12, colors);
+		fRuler.addAnnotationType(TYPE);
+		fRuler.setAnnotationTypeLayer(TYPE, 0);
+		fRuler.setAnnotationTypeColor(TYPE, new Color(255, 0, 0));
+		fViewer= new SourceViewer(fShell, null, fRuler, true, SWT.V_SCROLL | SWT.H_SCROLL);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	@Test
+	public void testPaintedRowsFollowDocumentChanges() throws Exception {
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 1000; i++) {
+			content.append("line ").append(i).append('\n'); //$NON-NLS-1$
+		}
+		IDocument document= new Document(content.toString());
+		fViewer.setDocument(document, new AnnotationModel());
+		fShell.open();
+
+		// many annotations on the first lines map to a few rows
+		IAnnotationModel model= fViewer.getVisualAnnotationModel();
+		for (int i= 0; i < 10; i++) {
+			model.addAnnotation(new Annotation(TYPE, true, null), new Position(document.getLineOffset(i), 1));
+		}
+		int top= waitForFirstPaintedRow(y -> y >= 0);
+		assertTrue(top < 20, "annotations on the first lines are painted at the top: " + top); //$NON-NLS-1$
+
+		// the painted rows are recomputed when the positions move with the text
+		document.replace(0, 0, content.substring(0, content.length() / 2));
+		fRuler.update();
+		int moved= waitForFirstPaintedRow(y -> y > top + 20);
+		assertTrue(moved > top + 20, "annotations moved down with the text: " + moved); //$NON-NLS-1$
+
+		((IAnnotationModelExtension) model).removeAllAnnotations();
+		assertEquals(-1, waitForFirstPaintedRow(y -> y == -1));
+	}
+
+	private interface RowCondition {
+		boolean test(int y);
+	}
+
+	private int waitForFirstPaintedRow(RowCondition condition) throws Exception {
+		int[] row= new int[] { -2 };
+		new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				try {
+					row[0]= getFirstPaintedRow();
+				} catch (ReflectiveOperationException e) {
+					throw new IllegalStateException(e);
+				}
+				return condition.test(row[0]);
+			}
+		}.waitForCondition(fShell.getDisplay(), 2000);
+		return row[0];
+	}
+
+	private int getFirstPaintedRow() throws ReflectiveOperationException {
+		Field field= OverviewRuler.class.getDeclaredField("fBuffer"); //$NON-NLS-1$
+		field.setAccessible(true);
+		Image buffer= (Image) field.get(fRuler);
+		if (buffer == null || buffer.isDisposed()) {
+			return -2;
+		}
+		RGB background= fRuler.getControl().getBackground().getRGB();
+		ImageData data= buffer.getImageData();
+		int x= data.width / 2;
+		for (int y= 0; y < data.height; y++) {
+			if (!background.equals(data.palette.getRGB(data.getPixel(x, y)))) {
+				return y;
+			}
+		}
+		return -1;
+	}
+
+	private static class TestAnnotationAccess implements IAnnotationAccess {
+
+		@Override
+		@Deprecated
+		public Object getType(Annotation annotation) {
+			return annotation.getType();
+		}
+
+		@Override
+		@Deprecated
+		public boolean isMultiLine(Annotation annotation) {
+			return true;
+		}
+
+		@Override
+		@Deprecated
+		public boolean isTemporary(Annotation annotation) {
+			return !annotation.isPersistent();
+		}
+	}
+}
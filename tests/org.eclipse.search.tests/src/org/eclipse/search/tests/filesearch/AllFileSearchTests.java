@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,8 +19,13 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({
 		AnnotationManagerTest.class,
+		BatchedMatchReportingTest.class,
+		FileSearchResultTest.class,
 		FileSearchTests.class,
+		IndexedTextSearchEngineTest.class,
 		LineAnnotationManagerTest.class,
+		LiteralPrefilterTest.class,
+		PatternPlanTest.class,
 		PositionTrackerTest.class,
 		ResultUpdaterTest.class,
 		SearchResultPageTest.class,
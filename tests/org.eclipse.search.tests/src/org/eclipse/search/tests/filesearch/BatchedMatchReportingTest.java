@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.search.core.text.TextSearchEngine;
+import org.eclipse.search.core.text.TextSearchRequestor;
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.ui.text.FileMatch;
+import org.eclipse.search.internal.ui.text.FileSearchQuery;
+import org.eclipse.search.tests.ResourceHelper;
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+
+public class BatchedMatchReportingTest {
+
+	private static final int NUMBER_OF_FILES= 50;
+
+	private IProject fProject;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("batched-project"); //$NON-NLS-1$
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder")); //$NON-NLS-1$
+		for (int i= 0; i < NUMBER_OF_FILES; i++) {
+			ResourceHelper.createFile(folder, "file" + i + ".txt", "hello hello\nworld\nhello\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject("batched-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testTextSearch() throws Exception {
+		FileSearchQuery query= new FileSearchQuery("hello", false, true, newScope()); //$NON-NLS-1$
+		AbstractTextSearchResult result= (AbstractTextSearchResult) query.getSearchResult();
+		AtomicInteger events= new AtomicInteger();
+		AtomicInteger matches= new AtomicInteger();
+		result.addListener(e -> {
+			if (e instanceof MatchEvent matchEvent && matchEvent.getKind() == MatchEvent.ADDED) {
+				events.incrementAndGet();
+				matches.addAndGet(matchEvent.getMatches().length);
+			}
+		});
+		NewSearchUI.runQueryInForeground(null, query);
+
+		assertEquals(3 * NUMBER_OF_FILES, result.getMatchCount());
+		assertEquals(3 * NUMBER_OF_FILES, matches.get());
+		assertTrue(events.get() < NUMBER_OF_FILES, "matches of several files are added together"); //$NON-NLS-1$
+
+		for (Object element : result.getElements()) {
+			Match[] fileMatches= result.getMatches(element);
+			assertEquals(3, fileMatches.length);
+			// matches in the same line share the line element
+			assertSame(((FileMatch) fileMatches[0]).getLineElement(), ((FileMatch) fileMatches[1]).getLineElement());
+			assertNotSame(((FileMatch) fileMatches[0]).getLineElement(), ((FileMatch) fileMatches[2]).getLineElement());
+		}
+	}
+
+	@Test
+	public void testFileNameSearch() throws Exception {
+		FileSearchQuery query= new FileSearchQuery("", false, true, newScope()); //$NON-NLS-1$
+		AbstractTextSearchResult result= (AbstractTextSearchResult) query.getSearchResult();
+		AtomicInteger events= new AtomicInteger();
+		result.addListener(e -> {
+			if (e instanceof MatchEvent matchEvent && matchEvent.getKind() == MatchEvent.ADDED) {
+				events.incrementAndGet();
+			}
+		});
+		NewSearchUI.runQueryInForeground(null, query);
+
+		assertEquals(NUMBER_OF_FILES, result.getMatchCount());
+		assertTrue(events.get() < NUMBER_OF_FILES, "files are added together"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSkippedFilesAreFlushed() throws Exception {
+		IFolder folder= fProject.getFolder("folder"); //$NON-NLS-1$
+		for (int i= 0; i < NUMBER_OF_FILES; i++) {
+			ResourceHelper.createFile(folder, "other" + i + ".txt", "world\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		Set<IFile> flushed= ConcurrentHashMap.newKeySet();
+		TextSearchRequestor collector= new TextSearchRequestor() {
+			@Override
+			public void flushMatches(IFile file) {
+				flushed.add(file);
+			}
+		};
+		Pattern searchPattern= PatternConstructor.createPattern("hello", false, true); //$NON-NLS-1$
+		TextSearchEngine.create().search(newScope(), collector, searchPattern, null);
+
+		// files without a match, including those skipped without being read, are flushed as well
+		assertEquals(2 * NUMBER_OF_FILES, flushed.size());
+	}
+
+	private FileTextSearchScope newScope() {
+		return FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.txt" }, false); //$NON-NLS-1$
+	}
+}
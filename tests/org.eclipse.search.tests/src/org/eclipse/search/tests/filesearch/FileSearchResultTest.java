@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.search.internal.ui.text.FileMatch;
+import org.eclipse.search.internal.ui.text.FileSearchQuery;
+import org.eclipse.search.internal.ui.text.LineElement;
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+import org.eclipse.search.ui.text.Match;
+
+public class FileSearchResultTest {
+
+	@Test
+	public void testAddAndRemoveManyMatches() {
+		IFile file= ResourcesPlugin.getWorkspace().getRoot().getFile(IPath.fromOSString("/project/file.txt")); //$NON-NLS-1$
+		AbstractTextSearchResult result= newResult();
+		LineElement line= new LineElement(file, 1, 0, "line"); //$NON-NLS-1$
+		List<Match> matches= new ArrayList<>();
+		for (int i= 0; i < 10000; i++) {
+			matches.add(new FileMatch(file, i, 1, line));
+		}
+		List<Match> shuffled= new ArrayList<>(matches);
+		Collections.shuffle(shuffled);
+		result.addMatches(shuffled.toArray(new Match[shuffled.size()]));
+		// adding again has no effect
+		result.addMatches(shuffled.subList(0, 100).toArray(new Match[100]));
+		result.addMatch(shuffled.get(100));
+
+		assertEquals(matches.size(), result.getMatchCount());
+		assertEquals(matches.size(), result.getMatchCount(file));
+		Match[] sorted= result.getMatches(file);
+		for (int i= 0; i < sorted.length; i++) {
+			assertEquals(matches.get(i), sorted[i]);
+		}
+
+		for (int i= 0; i < matches.size(); i+= 2) {
+			result.removeMatch(matches.get(i));
+		}
+		assertEquals(matches.size() / 2, result.getMatchCount());
+		int count= 0;
+		for (Enumeration<Match> e= result.getMatchSet(file); e.hasMoreElements();) {
+			assertEquals(1, e.nextElement().getOffset() % 2);
+			count++;
+		}
+		assertEquals(matches.size() / 2, count);
+
+		result.removeMatches(matches.toArray(new Match[matches.size()]));
+		assertEquals(0, result.getMatchCount());
+		assertFalse(result.hasMatches());
+		assertEquals(0, result.getElementsCount());
+
+		result.addMatch(matches.get(0));
+		assertTrue(result.hasMatches());
+	}
+
+	private static AbstractTextSearchResult newResult() {
+		FileTextSearchScope scope= FileTextSearchScope.newWorkspaceScope(null, false);
+		return (AbstractTextSearchResult) new FileSearchQuery("line", false, true, scope).getSearchResult(); //$NON-NLS-1$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.search.tests.filesearch;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.lang.reflect.Field;
@@ -34,6 +35,7 @@ import org.eclipse.core.runtime.ContributorFactorySimple;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IContributor;
 import org.eclipse.core.runtime.IExtensionRegistry;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.content.IContentTypeManager;
@@ -42,6 +44,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceProxy;
 
 import org.eclipse.ui.IWorkbenchPage;
 
@@ -50,6 +53,7 @@ import org.eclipse.search.core.text.TextSearchMatchAccess;
 import org.eclipse.search.core.text.TextSearchRequestor;
 import org.eclipse.search.core.text.TextSearchScope;
 import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.core.text.TextSearchVisitor;
 import org.eclipse.search.internal.ui.SearchPlugin;
 import org.eclipse.search.tests.ResourceHelper;
 import org.eclipse.search.tests.SearchTestUtil;
@@ -557,6 +561,115 @@ public class FileSearchTests {
 
 	}
 
+	@Test
+	public void testLargeFileSerial() throws Exception {
+		testLargeFile(new SerialTestResultCollector());
+	}
+
+	@Test
+	public void testLargeFileParallel() throws Exception {
+		testLargeFile(new ParallelTestResultCollector());
+	}
+
+	private void testLargeFile(TestResultCollector collector) throws Exception {
+		// large enough to be searched in chunks
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 200000; i++) {
+			buf.append("line ").append(i).append(i % 7 == 0 ? " hello\n" : "\n");
+		}
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile large= ResourceHelper.createFile(folder, "large", buf.toString());
+		IFile other= ResourceHelper.createFile(folder, "other", buf.toString());
+		IFile small= ResourceHelper.createFile(folder, "small", "hello\n");
+
+		Pattern searchPattern= PatternConstructor.createPattern("hello", false, true);
+
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] {fProject}, (String[]) null, false);
+		TextSearchVisitor visitor= new TextSearchVisitor(collector, searchPattern, null);
+		// independent of the number of processors of the test machine
+		visitor.setNumberOfThreads(4);
+		visitor.search(scope, null);
+
+		TestResult[] results= collector.getResults();
+		assertEquals(2 * (200000 / 7 + 1) + 1, results.length, "Number of total results");
+		assertMatches(results, 200000 / 7 + 1, large, buf.toString(), "hello");
+		assertMatches(results, 200000 / 7 + 1, other, buf.toString(), "hello");
+		assertMatches(results, 1, small, "hello\n", "hello");
+		if (collector.canRunInParallel()) {
+			assertTrue(visitor.getNumberOfSearchedChunks() > 1, "Large files are searched in chunks");
+		} else {
+			assertEquals(0, visitor.getNumberOfSearchedChunks(), "A single job searches whole files");
+		}
+	}
+
+	@Test
+	public void testManyFilesSerial() throws Exception {
+		testManyFiles(new SerialTestResultCollector());
+	}
+
+	@Test
+	public void testManyFilesParallel() throws Exception {
+		testManyFiles(new ParallelTestResultCollector());
+	}
+
+	private void testManyFiles(TestResultCollector collector) throws Exception {
+		// the files are searched while the scope is still evaluated
+		List<IFile> files= new ArrayList<>();
+		List<String> contents= new ArrayList<>();
+		for (int i= 0; i < 10; i++) {
+			IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder" + i));
+			for (int k= 0; k < 10; k++) {
+				String content= "hello " + i + "\nworld " + k + " hello\n";
+				files.add(ResourceHelper.createFile(folder, "file" + k + ".txt", content));
+				contents.add(content);
+			}
+		}
+		ResourceHelper.createFile(fProject.getFolder("folder0"), "other.txt", "world\n");
+
+		Pattern searchPattern= PatternConstructor.createPattern("hello", false, true);
+
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] {fProject}, new String[] {"*.txt"}, false);
+		TextSearchEngine.create().search(scope, collector, searchPattern, null);
+
+		TestResult[] results= collector.getResults();
+		assertEquals(2 * files.size(), results.length, "Number of total results");
+		for (int i= 0; i < files.size(); i++) {
+			assertMatches(results, 2, files.get(i), contents.get(i), "hello");
+		}
+	}
+
+	@Test
+	public void testScopeWithOwnFiles() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile listed= ResourceHelper.createFile(folder, "listed.txt", "hello\n");
+		ResourceHelper.createFile(folder, "unlisted.txt", "hello\n");
+		FileTextSearchScope projectScope= FileTextSearchScope.newSearchScope(new IResource[] {fProject}, (String[]) null, false);
+
+		// a scope overriding evaluateFilesInScope is not evaluated by the engine
+		TextSearchScope scope= new TextSearchScope() {
+			@Override
+			public IResource[] getRoots() {
+				return projectScope.getRoots();
+			}
+
+			@Override
+			public boolean contains(IResourceProxy proxy) {
+				return projectScope.contains(proxy);
+			}
+
+			@Override
+			public IFile[] evaluateFilesInScope(MultiStatus status) {
+				return new IFile[] { listed };
+			}
+		};
+		TestResultCollector collector= new SerialTestResultCollector();
+		TextSearchEngine.create().search(scope, collector, PatternConstructor.createPattern("hello", false, true), null);
+
+		TestResult[] results= collector.getResults();
+		assertEquals(1, results.length, "Number of total results");
+		assertMatches(results, 1, listed, "hello\n", "hello");
+	}
+
 	@Test
 	public void testBinaryContentTypeWithDescriberSerial() throws Exception {
 		testBinaryContentTypeWithDescriber(new SerialTestResultCollector());
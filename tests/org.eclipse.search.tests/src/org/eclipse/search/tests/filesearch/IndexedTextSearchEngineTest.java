@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.search.core.text.TextSearchMatchAccess;
+import org.eclipse.search.core.text.TextSearchRequestor;
+import org.eclipse.search.internal.core.SearchCorePlugin;
+import org.eclipse.search.internal.core.text.IndexedTextSearchEngine;
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.core.text.RequiredLiterals;
+import org.eclipse.search.internal.core.text.TrigramIndex;
+import org.eclipse.search.tests.ResourceHelper;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+
+public class IndexedTextSearchEngineTest {
+
+	private static class FileCollector extends TextSearchRequestor {
+
+		private final List<IFile> fFiles= new ArrayList<>();
+
+		@Override
+		public boolean acceptPatternMatch(TextSearchMatchAccess matchAccess) throws CoreException {
+			synchronized (fFiles) {
+				if (!fFiles.contains(matchAccess.getFile())) {
+					fFiles.add(matchAccess.getFile());
+				}
+			}
+			return true;
+		}
+	}
+
+	private IProject fProject;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("indexed-project"); //$NON-NLS-1$
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject("indexed-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRequiredLiterals() {
+		assertEquals(Arrays.asList("hello"), RequiredLiterals.of(PatternConstructor.createPattern("hello", false, false))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Arrays.asList("mor", "ng"), RequiredLiterals.of(PatternConstructor.createPattern("mor*ng", false, false))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(Arrays.asList("a.b"), RequiredLiterals.of(Pattern.compile("a\\.b"))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Arrays.asList("ab", "d"), RequiredLiterals.of(Pattern.compile("abc?d"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(Arrays.asList("def"), RequiredLiterals.of(Pattern.compile("(abc)?def"))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(Arrays.asList(), RequiredLiterals.of(Pattern.compile("abc|def"))); //$NON-NLS-1$
+		assertEquals(Arrays.asList("def"), RequiredLiterals.of(Pattern.compile("(?:abc)?def"))); //$NON-NLS-1$ //$NON-NLS-2$
+		assertNull(TrigramIndex.getTrigrams(Pattern.compile("a.b"))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRequiredLiteralsOfFlagGroups() {
+		// embedded flags change the meaning of the following characters
+		assertEquals(Arrays.asList(), RequiredLiterals.of(Pattern.compile("(?x) hel lo # comment"))); //$NON-NLS-1$
+		assertEquals(Arrays.asList(), RequiredLiterals.of(Pattern.compile("abc(?i)def"))); //$NON-NLS-1$
+		assertEquals(Arrays.asList(), RequiredLiterals.of(Pattern.compile("(?x:a b c)def"))); //$NON-NLS-1$
+		assertEquals(Arrays.asList(), RequiredLiterals.of(Pattern.compile("(?-i)abc"))); //$NON-NLS-1$
+		assertNull(TrigramIndex.getTrigrams(Pattern.compile("(?x)hel lo"))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testIndexPrunedOnLoad() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder")); //$NON-NLS-1$
+		IFile kept= ResourceHelper.createFile(folder, "kept.txt", "some content\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IFile deleted= ResourceHelper.createFile(folder, "deleted.txt", "other content\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		File storage= File.createTempFile("trigram", ".index"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			TrigramIndex index= new TrigramIndex(storage);
+			index.startup();
+			index.getCandidates(new IFile[] { kept, deleted }, TrigramIndex.getTrigrams(Pattern.compile("content")), List.of()); //$NON-NLS-1$
+			Job.getJobManager().join(index, null);
+			assertEquals(2, index.getFileCount());
+			index.save();
+			index.shutdown();
+
+			deleted.delete(true, null);
+			index= new TrigramIndex(storage);
+			index.startup();
+			assertEquals(1, index.getFileCount());
+			index.shutdown();
+		} finally {
+			storage.delete();
+		}
+	}
+
+	@Test
+	public void testIndexSizeIsBounded() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder")); //$NON-NLS-1$
+		IFile first= ResourceHelper.createFile(folder, "first.txt", "some content\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		IFile second= ResourceHelper.createFile(folder, "second.txt", "other content\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		File storage= File.createTempFile("trigram", ".index"); //$NON-NLS-1$ //$NON-NLS-2$
+		storage.delete();
+		// room for a single entry
+		TrigramIndex index= new TrigramIndex(storage, 200);
+		index.startup();
+		try {
+			int[] trigrams= TrigramIndex.getTrigrams(Pattern.compile("content")); //$NON-NLS-1$
+			index.getCandidates(new IFile[] { first, second }, trigrams, List.of());
+			Job.getJobManager().join(index, null);
+			assertEquals(1, index.getFileCount());
+
+			// files which are not indexed are still searched
+			assertEquals(2, index.getCandidates(new IFile[] { first, second }, trigrams, List.of()).length);
+		} finally {
+			index.shutdown();
+			storage.delete();
+		}
+	}
+
+	@Test
+	public void testIndexedSearchFindsAllMatches() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder")); //$NON-NLS-1$
+		IFile hello= ResourceHelper.createFile(folder, "hello.txt", "say Hello\nworld\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		IFile other= ResourceHelper.createFile(folder, "other.txt", "nothing to see\n"); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// the first search indexes the files, the second one uses the index
+		assertEquals(Arrays.asList(hello), search("hello")); //$NON-NLS-1$
+		Job.getJobManager().join(SearchCorePlugin.getDefault().getTrigramIndex(), null);
+		assertEquals(Arrays.asList(hello), search("hello")); //$NON-NLS-1$
+		assertEquals(Arrays.asList(other), search("to see")); //$NON-NLS-1$
+
+		// a changed file is searched although its entry is out of date
+		other.setContents("hello again\n".getBytes(), IResource.NONE, null); //$NON-NLS-1$
+		List<IFile> files= search("hello"); //$NON-NLS-1$
+		assertEquals(2, files.size());
+
+		Job.getJobManager().join(SearchCorePlugin.getDefault().getTrigramIndex(), null);
+		assertEquals(Arrays.asList(other), search("again")); //$NON-NLS-1$
+	}
+
+	private List<IFile> search(String text) {
+		FileCollector collector= new FileCollector();
+		Pattern pattern= PatternConstructor.createPattern(text, false, false);
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, (String[]) null, false);
+		new IndexedTextSearchEngine().search(scope, collector, pattern, null);
+		return collector.fFiles;
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.search.internal.core.text.LiteralPrefilter;
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.tests.ResourceHelper;
+
+public class LiteralPrefilterTest {
+
+	private IProject fProject;
+
+	private IFolder fFolder;
+
+	private final LiteralPrefilter.ContentBuffer fBuffer= new LiteralPrefilter.ContentBuffer();
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("prefilter-project"); //$NON-NLS-1$
+		fFolder= ResourceHelper.createFolder(fProject.getFolder("folder")); //$NON-NLS-1$
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		ResourceHelper.deleteProject("prefilter-project"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCaseSensitive() throws Exception {
+		IFile file= ResourceHelper.createFile(fFolder, "file.txt", "some Hello world\n", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(create("Hello", true).mayMatch(file, fBuffer)); //$NON-NLS-1$
+		assertFalse(create("hello", true).mayMatch(file, fBuffer)); //$NON-NLS-1$
+		assertFalse(create("Hallo", true).mayMatch(file, fBuffer)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCaseInsensitive() throws Exception {
+		IFile file= ResourceHelper.createFile(fFolder, "file.txt", "some HELLO world\n", "ISO-8859-1"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(create("hello", false).mayMatch(file, fBuffer)); //$NON-NLS-1$
+		assertFalse(create("hallo", false).mayMatch(file, fBuffer)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLiteralSpanningChunks() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		while (buf.length() < LiteralPrefilter.BUFFER_SIZE - 2) {
+			buf.append('x');
+		}
+		buf.append("needle"); //$NON-NLS-1$
+		IFile file= ResourceHelper.createFile(fFolder, "file.txt", buf.toString(), "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(create("needle", true).mayMatch(file, fBuffer)); //$NON-NLS-1$
+		// the file does not fit into the buffer and is read again
+		assertNull(fBuffer.getContent(file));
+	}
+
+	@Test
+	public void testContentIsKept() throws Exception {
+		IFile file= ResourceHelper.createFile(fFolder, "file.txt", "some H\u00e9llo world\n", "UTF-8"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(create("llo", true).mayMatch(file, fBuffer)); //$NON-NLS-1$
+		assertEquals("some H\u00e9llo world\n", fBuffer.getContent(file)); //$NON-NLS-1$
+
+		IFile other= ResourceHelper.createFile(fFolder, "other.txt", "some world\n", "UTF-16"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(create("llo", true).mayMatch(other, fBuffer)); //$NON-NLS-1$
+		// the file was not checked
+		assertNull(fBuffer.getContent(other));
+	}
+
+	@Test
+	public void testUnsupportedCharsetIsSearched() throws Exception {
+		IFile file= ResourceHelper.createFile(fFolder, "file.txt", "some world\n", "UTF-16"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(create("hello", true).mayMatch(file, fBuffer)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testUnsuitablePatterns() {
+		assertNull(LiteralPrefilter.create(Pattern.compile("a.b|c"))); //$NON-NLS-1$
+		// case insensitive 'k' and 's' also match non ASCII characters
+		assertNull(LiteralPrefilter.create(PatternConstructor.createPattern("ksk", false, false))); //$NON-NLS-1$
+	}
+
+	private static LiteralPrefilter create(String text, boolean isCaseSensitive) {
+		LiteralPrefilter prefilter= LiteralPrefilter.create(PatternConstructor.createPattern(text, isCaseSensitive, false));
+		assertNotNull(prefilter);
+		return prefilter;
+	}
+}
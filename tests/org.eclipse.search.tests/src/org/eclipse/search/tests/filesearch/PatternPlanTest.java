@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.core.text.PatternPlan;
+import org.eclipse.search.internal.core.text.PatternPlan.Kind;
+
+public class PatternPlanTest {
+
+	private static final String TEXT= "Foo foo_bar foobar\nBAR fOo.bar Kelvin Kelvin foo|bar foo"; //$NON-NLS-1$
+
+	@Test
+	public void testKinds() {
+		assertEquals(Kind.LITERAL, kind(PatternConstructor.createPattern("foo.bar", true, false))); //$NON-NLS-1$
+		assertEquals(Kind.CASE_INSENSITIVE_LITERAL, kind(PatternConstructor.createPattern("foo", false, false))); //$NON-NLS-1$
+		assertEquals(Kind.WORD_LITERAL, kind(PatternConstructor.createPattern("foo", false, true, false, true))); //$NON-NLS-1$
+		assertEquals(Kind.ALTERNATION, kind(Pattern.compile("foo|bar|\\.x"))); //$NON-NLS-1$
+		assertEquals(Kind.LITERAL, kind(Pattern.compile("foo|bar", Pattern.LITERAL))); //$NON-NLS-1$
+
+		assertEquals(Kind.REGEX, kind(PatternConstructor.createPattern("foo*", false, false))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile("fo+"))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile("foo\\s"))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile("(?i)foo"))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile("foo|"))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile("foo|bar", Pattern.CASE_INSENSITIVE))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile("foo", Pattern.COMMENTS))); //$NON-NLS-1$
+		assertEquals(Kind.REGEX, kind(Pattern.compile(""))); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSameMatchesAsRegex() {
+		assertSameMatches(PatternConstructor.createPattern("foo", true, false)); //$NON-NLS-1$
+		assertSameMatches(PatternConstructor.createPattern("foo", false, false)); //$NON-NLS-1$
+		assertSameMatches(PatternConstructor.createPattern("fOo.bar", false, false)); //$NON-NLS-1$
+		assertSameMatches(PatternConstructor.createPattern("foo|bar", true, false)); //$NON-NLS-1$
+		assertSameMatches(PatternConstructor.createPattern("foo", false, true, false, true)); //$NON-NLS-1$
+		assertSameMatches(PatternConstructor.createPattern("bar", false, true, true, true)); //$NON-NLS-1$
+		// the Kelvin sign matches k ignoring case
+		assertSameMatches(PatternConstructor.createPattern("kelvin", false, false)); //$NON-NLS-1$
+		assertSameMatches(Pattern.compile("kelvin", Pattern.CASE_INSENSITIVE)); //$NON-NLS-1$
+		assertSameMatches(Pattern.compile("foo|foo_bar|bar")); //$NON-NLS-1$
+		assertSameMatches(Pattern.compile("foo_bar|foo|bar")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRegion() {
+		PatternPlan plan= PatternPlan.create(PatternConstructor.createPattern("foo", false, true, false, true)); //$NON-NLS-1$
+		PatternPlan.Finder finder= plan.finder();
+		// the word boundaries see the text outside of the region
+		finder.reset(TEXT, 1, TEXT.length());
+		List<Integer> starts= new ArrayList<>();
+		while (finder.find()) {
+			starts.add(Integer.valueOf(finder.start()));
+		}
+		assertEquals(List.of(Integer.valueOf(TEXT.indexOf("fOo")), Integer.valueOf(TEXT.indexOf("foo|")), Integer.valueOf(TEXT.lastIndexOf("foo"))), starts); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		PatternPlan alternation= PatternPlan.create(Pattern.compile("foobar|foo")); //$NON-NLS-1$
+		finder= alternation.finder();
+		int start= TEXT.indexOf("foobar"); //$NON-NLS-1$
+		finder.reset(TEXT, start, start + 4);
+		assertTrue(finder.find());
+		assertEquals(start + 3, finder.end());
+	}
+
+	private static Kind kind(Pattern pattern) {
+		return PatternPlan.create(pattern).getKind();
+	}
+
+	private static void assertSameMatches(Pattern pattern) {
+		List<String> expected= new ArrayList<>();
+		Matcher matcher= pattern.matcher(TEXT);
+		while (matcher.find()) {
+			expected.add(matcher.start() + "-" + matcher.end()); //$NON-NLS-1$
+		}
+		List<String> actual= new ArrayList<>();
+		PatternPlan.Finder finder= PatternPlan.create(pattern).finder();
+		finder.reset(TEXT, 0, TEXT.length());
+		while (finder.find()) {
+			actual.add(finder.start() + "-" + finder.end()); //$NON-NLS-1$
+		}
+		assertEquals(expected, actual, pattern.pattern());
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.text.quicksearch.internal.util.FileContentCache;
+import org.junit.jupiter.api.Test;
+
+class FileContentCacheTest {
+
+	private static final String UTF_8 = "UTF-8";
+
+	private static IFile file(String path) {
+		return ResourcesPlugin.getWorkspace().getRoot().getFile(IPath.fromPortableString(path));
+	}
+
+	@Test
+	void testModificationStamp() {
+		FileContentCache cache = new FileContentCache(100);
+		IFile file = file("/project/a.txt");
+		cache.put(file, 1, UTF_8, "text");
+		assertEquals("text", cache.get(file, 1, UTF_8));
+		// the file changed, the entry is dropped
+		assertNull(cache.get(file, 2, UTF_8));
+		assertNull(cache.get(file, 1, UTF_8));
+
+		cache.put(file, IResource.NULL_STAMP, UTF_8, "text");
+		assertNull(cache.get(file, IResource.NULL_STAMP, UTF_8));
+	}
+
+	@Test
+	void testCharset() {
+		FileContentCache cache = new FileContentCache(100);
+		IFile file = file("/project/a.txt");
+		cache.put(file, 1, UTF_8, "text");
+		// the encoding changed without a change of the content, the entry is dropped
+		assertNull(cache.get(file, 1, "ISO-8859-1"));
+		assertNull(cache.get(file, 1, UTF_8));
+	}
+
+	@Test
+	void testLeastRecentlyUsedEntriesAreDropped() {
+		FileContentCache cache = new FileContentCache(10);
+		IFile a = file("/project/a.txt");
+		IFile b = file("/project/b.txt");
+		IFile c = file("/project/c.txt");
+		cache.put(a, 1, UTF_8, "aaaa");
+		cache.put(b, 1, UTF_8, "bbbb");
+		assertEquals("aaaa", cache.get(a, 1, UTF_8));
+		cache.put(c, 1, UTF_8, "cccc");
+		assertNull(cache.get(b, 1, UTF_8));
+		assertEquals("aaaa", cache.get(a, 1, UTF_8));
+		assertEquals("cccc", cache.get(c, 1, UTF_8));
+
+		// too large to be cached at all
+		cache.put(b, 1, UTF_8, "bbbbbbbbbbbb");
+		assertNull(cache.get(b, 1, UTF_8));
+		assertEquals("aaaa", cache.get(a, 1, UTF_8));
+
+		cache.clear();
+		assertNull(cache.get(a, 1, UTF_8));
+	}
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.text.quicksearch.internal.core.LineItem;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearchRequestor;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearcher;
+import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
+import org.eclipse.text.quicksearch.internal.util.FileContentCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QuickTextSearcherTest {
+
+	private static final int NUMBER_OF_FILES = 40;
+
+	private IProject project;
+
+	@BeforeEach
+	void setUp() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName() + System.currentTimeMillis());
+		project.create(null);
+		project.open(null);
+		for (int i = 0; i < NUMBER_OF_FILES; i++) {
+			String contents = "first line\nthe needle " + i + "\nlast line\n";
+			project.getFile("file" + i + ".txt").create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+		}
+	}
+
+	@AfterEach
+	void tearDown() throws CoreException {
+		project.delete(true, null);
+	}
+
+	@Test
+	void testResultsAreReportedInPriorityOrder() throws Exception {
+		PriorityFunction priorities = new PriorityFunction() {
+			@Override
+			public double priority(IResource r) {
+				if (r.getType() == IResource.FILE) {
+					// later files first
+					return r.getProject().equals(project) ? Integer.parseInt(r.getName().replaceAll("\\D", "")) : PRIORITY_IGNORE;
+				}
+				return PRIORITY_DEFAULT;
+			}
+		};
+		List<LineItem> found = search(new QuickTextQuery("needle", true), priorities, NUMBER_OF_FILES);
+		for (int i = 0; i < NUMBER_OF_FILES; i++) {
+			IFile file = found.get(i).getFile();
+			assertEquals("file" + (NUMBER_OF_FILES - 1 - i) + ".txt", file.getName());
+			assertEquals(2, found.get(i).getLineNumber());
+		}
+	}
+
+	@Test
+	void testTextOfLongLines() throws Exception {
+		String longLine = "the needle" + "x".repeat(1000);
+		String contents = "first line\r\n" + longLine + "\r\nlast needle\r\n";
+		IFile longFile = project.getFile("long.txt");
+		longFile.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+		List<LineItem> found = search(new QuickTextQuery("needle", true), only(longFile), 2);
+		assertEquals(2, found.get(0).getLineNumber());
+		assertEquals(longLine, found.get(0).getText());
+		assertEquals(contents.indexOf(longLine), found.get(0).getOffset());
+		assertEquals(3, found.get(1).getLineNumber());
+		assertEquals("last needle", found.get(1).getText());
+	}
+
+	@Test
+	void testTextOfChangedFile() throws Exception {
+		String longLine = "the needle" + "x".repeat(1000);
+		IFile longFile = project.getFile("long.txt");
+		longFile.create(new ByteArrayInputStream(("first line\n" + longLine + "\n").getBytes(StandardCharsets.UTF_8)), true, null);
+		List<LineItem> found = search(new QuickTextQuery("needle", true), only(longFile), 1);
+		// the offset of the line is no longer valid
+		String changed = "first line was changed\n" + longLine + "\n";
+		longFile.setContents(new ByteArrayInputStream(changed.getBytes(StandardCharsets.UTF_8)), true, false, null);
+		assertEquals("", found.get(0).getText());
+	}
+
+	@Test
+	void testTextOfEvictedFileIsLoadedInBackground() throws Exception {
+		String longLine = "the needle" + "x".repeat(1000);
+		IFile longFile = project.getFile("long.txt");
+		longFile.create(new ByteArrayInputStream(("first line\n" + longLine + "\n").getBytes(StandardCharsets.UTF_8)), true, null);
+		Set<Thread> readers = ConcurrentHashMap.newKeySet();
+		FileContentCache cache = new FileContentCache(1_000_000) {
+			@Override
+			public synchronized void put(IFile file, long stamp, String charset, String text) {
+				// each read of a file is cached
+				readers.add(Thread.currentThread());
+				super.put(file, stamp, charset, text);
+			}
+		};
+		CountDownLatch updated = new CountDownLatch(1);
+		List<LineItem> found = search(new QuickTextQuery("needle", true), only(longFile), 1, cache, item -> updated.countDown());
+		readers.clear();
+		cache.clear();
+
+		// the caller, typically the UI thread, does not read the file
+		assertEquals("", found.get(0).getText());
+		assertFalse(readers.contains(Thread.currentThread()));
+		assertTrue(updated.await(10, TimeUnit.SECONDS));
+		assertEquals(longLine, found.get(0).getText());
+	}
+
+	/**
+	 * Ignores all files but the given one.
+	 */
+	private static PriorityFunction only(IFile file) {
+		return new PriorityFunction() {
+			@Override
+			public double priority(IResource r) {
+				if (r.getType() == IResource.FILE) {
+					return r.equals(file) ? PRIORITY_DEFAULT : PRIORITY_IGNORE;
+				}
+				return PRIORITY_DEFAULT;
+			}
+		};
+	}
+
+	/**
+	 * Searches with the given priorities and waits for the expected number of results.
+	 */
+	private static List<LineItem> search(QuickTextQuery query, PriorityFunction priorities, int expected) throws InterruptedException {
+		return search(query, priorities, expected, FileContentCache.create(), item -> {
+			// not checked
+		});
+	}
+
+	/**
+	 * Searches with the given priorities and cache, and waits for the expected number of results.
+	 *
+	 * @param updated called with the items whose text was loaded later
+	 */
+	private static List<LineItem> search(QuickTextQuery query, PriorityFunction priorities, int expected, FileContentCache cache,
+			Consumer<LineItem> updated) throws InterruptedException {
+		List<LineItem> found = new ArrayList<>();
+		AtomicBoolean restarted = new AtomicBoolean();
+		QuickTextSearchRequestor requestor = new QuickTextSearchRequestor() {
+			@Override
+			public void add(LineItem match) {
+				synchronized (found) {
+					found.add(match);
+				}
+			}
+
+			@Override
+			public void clear() {
+				synchronized (found) {
+					found.clear();
+				}
+				restarted.set(true);
+			}
+
+			@Override
+			public void update(LineItem match) {
+				updated.accept(match);
+			}
+		};
+		QuickTextSearcher searcher = new QuickTextSearcher(new QuickTextQuery(), priorities, 10000, requestor, cache);
+		try {
+			// restart the search with the priorities, the first walk used the default ones
+			searcher.setQuery(query, true);
+			long end = System.currentTimeMillis() + 10000;
+			while ((!restarted.get() || size(found) < expected || !searcher.isDone()) && System.currentTimeMillis() < end) {
+				Thread.sleep(10);
+			}
+			synchronized (found) {
+				assertEquals(expected, found.size());
+				return new ArrayList<>(found);
+			}
+		} finally {
+			searcher.cancel();
+		}
+	}
+
+	private static int size(List<LineItem> list) {
+		synchronized (list) {
+			return list.size();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.text.quicksearch.internal.core.ResourceWalker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ResourceWalkerTest {
+
+	private static final int NUMBER_OF_FILES = 20;
+
+	private IProject project;
+
+	@BeforeEach
+	void setUp() throws CoreException {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(getClass().getName() + System.currentTimeMillis());
+		project.create(null);
+		project.open(null);
+		for (int i = 0; i < NUMBER_OF_FILES; i++) {
+			project.getFile("file" + i + ".txt").create(new ByteArrayInputStream(("line " + i).getBytes(StandardCharsets.UTF_8)), true, null);
+		}
+	}
+
+	@AfterEach
+	void tearDown() throws CoreException {
+		project.delete(true, null);
+	}
+
+	@Test
+	void testFailedSearchDoesNotBlockLaterReports() throws Exception {
+		Set<String> reported = ConcurrentHashMap.newKeySet();
+		ResourceWalker walker = new ResourceWalker() {
+			@Override
+			protected Runnable searchIn(IFile f, BooleanSupplier canceled) {
+				if (!f.getProject().equals(project)) {
+					return () -> {
+						// not part of this test
+					};
+				}
+				int number = Integer.parseInt(f.getName().replaceAll("\\D", ""));
+				if (number % 2 == 0) {
+					throw new StackOverflowError();
+				}
+				return () -> reported.add(f.getName());
+			}
+		};
+		walker.schedule();
+		walker.join();
+
+		assertEquals(NUMBER_OF_FILES / 2, reported.size());
+		assertTrue(walker.isDone());
+	}
+}
@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.editors.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.core.filebuffers.tests.ResourceHelper;
+
+import org.eclipse.jface.dialogs.ErrorDialog;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.reconciler.IReconciler;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.ui.IEditorInput;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.intro.IIntroPart;
+import org.eclipse.ui.part.FileEditorInput;
+import org.eclipse.ui.tests.harness.util.DisplayHelper;
+
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor.LargeFileFeature;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditorPreferenceConstants;
+
+import org.eclipse.ui.editors.text.EditorsUI;
+import org.eclipse.ui.editors.text.TextEditor;
+import org.eclipse.ui.editors.text.TextFileDocumentProvider;
+import org.eclipse.ui.editors.text.TextSourceViewerConfiguration;
+
+/**
+ * Tests opening a text editor which connects its input in the background.
+ */
+public class AsyncInputLoadingTest {
+
+	private static final String EDITOR_ID = "org.eclipse.ui.editors.tests.AsyncLoadingEditor";
+
+	private static final long TIMEOUT = 10000;
+
+	/** The document provider used by the next {@link AsyncLoadingEditor} created. */
+	static LoadingDocumentProvider fgProvider;
+
+	private IProject fProject;
+
+	private IFile fFile;
+
+	private IFile fOtherFile;
+
+	private IWorkbenchPage fPage;
+
+	private Display fDisplay;
+
+	private boolean fAutomatedMode;
+
+	@Before
+	public void setUp() throws Exception {
+		IIntroPart intro = PlatformUI.getWorkbench().getIntroManager().getIntro();
+		if (intro != null) {
+			PlatformUI.getWorkbench().getIntroManager().closeIntro(intro);
+		}
+		fProject = ResourceHelper.createProject("AsyncInputLoadingTest");
+		fFile = ResourceHelper.createFile(fProject, "file.txt", "file content");
+		fOtherFile = ResourceHelper.createFile(fProject, "other.txt", "other content");
+		fPage = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		fDisplay = fPage.getWorkbenchWindow().getShell().getDisplay();
+		fgProvider = new LoadingDocumentProvider();
+		fAutomatedMode = ErrorDialog.AUTOMATED_MODE;
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fgProvider.release();
+		fPage.closeAllEditors(false);
+		ErrorDialog.AUTOMATED_MODE = fAutomatedMode;
+		EditorsUI.getPreferenceStore().setToDefault(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD);
+		TestUtil.cleanUp();
+		ResourceHelper.deleteProject("AsyncInputLoadingTest");
+		fgProvider = null;
+	}
+
+	@Test
+	public void testLoad() throws Exception {
+		FileEditorInput input = new FileEditorInput(fFile);
+		fgProvider.block(input);
+		AsyncLoadingEditor editor = (AsyncLoadingEditor) fPage.openEditor(input, EDITOR_ID);
+
+		// the editor is open and shows a read-only placeholder while the input is connected
+		assertSame(input, editor.getEditorInput());
+		assertNotEquals("file content", editor.getViewerDocument().get());
+		assertFalse(editor.isViewerEditable());
+
+		fgProvider.release();
+		assertTrue(DisplayHelper.waitForCondition(fDisplay, TIMEOUT, () -> "file content".equals(editor.getViewerDocument().get())));
+		assertSame(fgProvider.getDocument(input), editor.getViewerDocument());
+		assertTrue(editor.isViewerEditable());
+		assertEquals(1, fgProvider.getConnectionCount(input));
+
+		fPage.closeEditor(editor, false);
+		TestUtil.runEventLoop();
+		assertEquals(0, fgProvider.getConnectionCount(input));
+	}
+
+	@Test
+	public void testCloseWhileLoading() throws Exception {
+		FileEditorInput input = new FileEditorInput(fFile);
+		fgProvider.block(input);
+		AsyncLoadingEditor editor = (AsyncLoadingEditor) fPage.openEditor(input, EDITOR_ID);
+		assertTrue(fgProvider.awaitConnecting());
+
+		fPage.closeEditor(editor, false);
+		TestUtil.runEventLoop();
+		fgProvider.release();
+
+		// the job releases the connection it completes after the editor is gone
+		assertFalse(TestUtil.waitForJobs(0, TIMEOUT));
+		assertEquals(0, fgProvider.getConnectionCount(input));
+		assertEquals(1, fgProvider.getDisconnectCount(input));
+	}
+
+	@Test
+	public void testSetInputWhileLoading() throws Exception {
+		FileEditorInput input = new FileEditorInput(fFile);
+		fgProvider.block(input);
+		AsyncLoadingEditor editor = (AsyncLoadingEditor) fPage.openEditor(input, EDITOR_ID);
+		assertTrue(fgProvider.awaitConnecting());
+
+		FileEditorInput otherInput = new FileEditorInput(fOtherFile);
+		editor.setInput(otherInput);
+		assertEquals("other content", editor.getViewerDocument().get());
+		assertTrue(editor.isViewerEditable());
+
+		fgProvider.release();
+		assertFalse(TestUtil.waitForJobs(0, TIMEOUT));
+		TestUtil.runEventLoop();
+
+		// the loaded input is neither shown nor kept connected
+		assertSame(otherInput, editor.getEditorInput());
+		assertEquals("other content", editor.getViewerDocument().get());
+		assertEquals(0, fgProvider.getConnectionCount(input));
+		assertEquals(1, fgProvider.getConnectionCount(otherInput));
+
+		fPage.closeEditor(editor, false);
+		TestUtil.runEventLoop();
+		assertEquals(0, fgProvider.getConnectionCount(otherInput));
+	}
+
+	@Test
+	public void testLoadFailure() throws Exception {
+		ErrorDialog.AUTOMATED_MODE = true;
+		FileEditorInput input = new FileEditorInput(fFile);
+		fgProvider.fail(input);
+		AsyncLoadingEditor editor = (AsyncLoadingEditor) fPage.openEditor(input, EDITOR_ID);
+
+		// the editor closes itself and does not release a connection it never got
+		assertTrue(DisplayHelper.waitForCondition(fDisplay, TIMEOUT, () -> fPage.findEditor(input) == null));
+		assertTrue(editor.isDisposed());
+		assertEquals(0, fgProvider.getConnectionCount(input));
+		assertEquals(0, fgProvider.getDisconnectCount(input));
+	}
+
+	@Test
+	public void testLargeFileProfile() throws Exception {
+		EditorsUI.getPreferenceStore().setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD, 1);
+		FileEditorInput input = new FileEditorInput(ResourceHelper.createFile(fProject, "large.txt", "a\nb\nc\n"));
+		fgProvider.block(input);
+		AsyncLoadingEditor editor = (AsyncLoadingEditor) fPage.openEditor(input, EDITOR_ID);
+		assertFalse(editor.fConfiguration.fSpellingDegraded);
+
+		fgProvider.release();
+		assertTrue(DisplayHelper.waitForCondition(fDisplay, TIMEOUT, () -> "a\nb\nc\n".equals(editor.getViewerDocument().get())));
+
+		// the profile is only known once the input is loaded, the viewer is configured again
+		assertEquals(EnumSet.allOf(LargeFileFeature.class), editor.getDegradedFeatures());
+		assertTrue(AbstractDecoratedTextEditor.isFeatureDegraded(editor.getViewer(), LargeFileFeature.SPELLING));
+		assertTrue(editor.fConfiguration.fSpellingDegraded);
+	}
+
+	/**
+	 * A text editor which loads all inputs in the background.
+	 */
+	public static class AsyncLoadingEditor extends TextEditor {
+
+		final RecordingConfiguration fConfiguration = new RecordingConfiguration();
+
+		private boolean fDisposed;
+
+		public AsyncLoadingEditor() {
+			setDocumentProvider(fgProvider);
+			setSourceViewerConfiguration(fConfiguration);
+		}
+
+		@Override
+		protected boolean isAsyncInputLoadingEnabled(IEditorInput input) {
+			return true;
+		}
+
+		@Override
+		public void dispose() {
+			fDisposed = true;
+			super.dispose();
+		}
+
+		ISourceViewer getViewer() {
+			return getSourceViewer();
+		}
+
+		IDocument getViewerDocument() {
+			return getSourceViewer().getDocument();
+		}
+
+		boolean isViewerEditable() {
+			return getSourceViewer().isEditable();
+		}
+
+		boolean isDisposed() {
+			return fDisposed;
+		}
+	}
+
+	/**
+	 * Records whether spell checking was degraded when the viewer was last configured.
+	 */
+	static class RecordingConfiguration extends TextSourceViewerConfiguration {
+
+		boolean fSpellingDegraded;
+
+		RecordingConfiguration() {
+			super(EditorsUI.getPreferenceStore());
+		}
+
+		@Override
+		public IReconciler getReconciler(ISourceViewer sourceViewer) {
+			fSpellingDegraded = AbstractDecoratedTextEditor.isFeatureDegraded(sourceViewer, LargeFileFeature.SPELLING);
+			return super.getReconciler(sourceViewer);
+		}
+	}
+
+	/**
+	 * Counts the connections per element and lets connecting an element block or fail.
+	 */
+	static class LoadingDocumentProvider extends TextFileDocumentProvider {
+
+		private final Map<Object, AtomicInteger> fConnections = new ConcurrentHashMap<>();
+
+		private final Map<Object, AtomicInteger> fDisconnects = new ConcurrentHashMap<>();
+
+		private final CountDownLatch fConnecting = new CountDownLatch(1);
+
+		private final CountDownLatch fRelease = new CountDownLatch(1);
+
+		private volatile Object fBlockedElement;
+
+		private volatile Object fFailingElement;
+
+		void block(Object element) {
+			fBlockedElement = element;
+		}
+
+		void fail(Object element) {
+			fFailingElement = element;
+		}
+
+		boolean awaitConnecting() throws InterruptedException {
+			return fConnecting.await(TIMEOUT, TimeUnit.MILLISECONDS);
+		}
+
+		void release() {
+			fRelease.countDown();
+		}
+
+		int getConnectionCount(Object element) {
+			AtomicInteger count = fConnections.get(element);
+			return count == null ? 0 : count.get();
+		}
+
+		int getDisconnectCount(Object element) {
+			AtomicInteger count = fDisconnects.get(element);
+			return count == null ? 0 : count.get();
+		}
+
+		@Override
+		public void connect(Object element) throws CoreException {
+			if (element.equals(fFailingElement)) {
+				throw new CoreException(new Status(IStatus.ERROR, "org.eclipse.ui.editors.tests", "Cannot connect " + element));
+			}
+			if (element.equals(fBlockedElement)) {
+				fBlockedElement = null;
+				fConnecting.countDown();
+				try {
+					fRelease.await(TIMEOUT, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			super.connect(element);
+			fConnections.computeIfAbsent(element, e -> new AtomicInteger()).incrementAndGet();
+		}
+
+		@Override
+		public void disconnect(Object element) {
+			fConnections.computeIfAbsent(element, e -> new AtomicInteger()).decrementAndGet();
+			fDisconnects.computeIfAbsent(element, e -> new AtomicInteger()).incrementAndGet();
+			super.disconnect(element);
+		}
+	}
+}
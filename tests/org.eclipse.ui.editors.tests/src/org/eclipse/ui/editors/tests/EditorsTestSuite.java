@@ -1,5 +1,5 @@
 /************************************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,8 +45,10 @@ import org.eclipse.ui.texteditor.stickyscroll.StickyLineTest;
 		TextFileDocumentProviderTest.class,
 		FindNextActionTest.class,
 		StatusEditorTest.class,
+		AsyncInputLoadingTest.class,
 		TextNavigationTest.class,
 		LargeFileTest.class, CaseActionTest.class,
+		LargeFileProfileTest.class,
 		TextMultiCaretNavigationTest.class,
 		TextMultiCaretSelectionCommandsTest.class,
 
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.editors.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.core.filebuffers.tests.ResourceHelper;
+
+import org.eclipse.jface.action.IAction;
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.source.ISourceViewer;
+import org.eclipse.jface.text.source.ISourceViewerExtension5;
+
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.ide.IDE;
+import org.eclipse.ui.intro.IIntroPart;
+import org.eclipse.ui.part.FileEditorInput;
+
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor.LargeFileFeature;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditorPreferenceConstants;
+import org.eclipse.ui.texteditor.AbstractTextEditor;
+import org.eclipse.ui.texteditor.ITextEditorActionConstants;
+
+import org.eclipse.ui.editors.text.EditorsUI;
+import org.eclipse.ui.editors.text.TextSourceViewerConfiguration;
+
+/**
+ * Tests turning off expensive editor features for large files.
+ */
+public class LargeFileProfileTest {
+
+	private static final Set<LargeFileFeature> ALL_FEATURES = EnumSet.allOf(LargeFileFeature.class);
+
+	private IProject fProject;
+
+	private IFile fSmallFile;
+
+	private IFile fLargeFile;
+
+	private IPreferenceStore fStore;
+
+	private IWorkbenchPage fPage;
+
+	@Before
+	public void setUp() throws Exception {
+		IIntroPart intro = PlatformUI.getWorkbench().getIntroManager().getIntro();
+		if (intro != null) {
+			PlatformUI.getWorkbench().getIntroManager().closeIntro(intro);
+		}
+		fProject = ResourceHelper.createProject("LargeFileProfileTest");
+		fSmallFile = ResourceHelper.createFile(fProject, "small.txt", lines(5));
+		fLargeFile = ResourceHelper.createFile(fProject, "large.txt", lines(50));
+		fPage = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+		fStore = EditorsUI.getPreferenceStore();
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD, 20);
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_SIZE_THRESHOLD, 0);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fPage.closeAllEditors(false);
+		fStore.setToDefault(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD);
+		fStore.setToDefault(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_SIZE_THRESHOLD);
+		fStore.setToDefault(AbstractDecoratedTextEditorPreferenceConstants.QUICK_DIFF_ALWAYS_ON);
+		fStore.setToDefault(AbstractTextEditor.PREFERENCE_SHOW_WHITESPACE_CHARACTERS);
+		TestUtil.cleanUp();
+		ResourceHelper.deleteProject("LargeFileProfileTest");
+	}
+
+	private static String lines(int count) {
+		StringBuilder content = new StringBuilder();
+		for (int i = 1; i <= count; i++) {
+			content.append("line ").append(i).append('\n');
+		}
+		return content.toString();
+	}
+
+	private AbstractDecoratedTextEditor open(IFile file) throws Exception {
+		AbstractDecoratedTextEditor editor = (AbstractDecoratedTextEditor) IDE.openEditor(fPage, file);
+		TestUtil.runEventLoop();
+		return editor;
+	}
+
+	private static ISourceViewer getViewer(AbstractDecoratedTextEditor editor) {
+		return (ISourceViewer) editor.getAdapter(ITextViewer.class);
+	}
+
+	@Test
+	public void testLineThreshold() throws Exception {
+		assertEquals(EnumSet.noneOf(LargeFileFeature.class), open(fSmallFile).getDegradedFeatures());
+
+		AbstractDecoratedTextEditor editor = open(fLargeFile);
+		assertEquals(ALL_FEATURES, editor.getDegradedFeatures());
+		for (LargeFileFeature feature : LargeFileFeature.values()) {
+			assertTrue(feature.name(), editor.isFeatureDegraded(feature));
+		}
+	}
+
+	@Test
+	public void testSizeThreshold() throws Exception {
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD, 0);
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_SIZE_THRESHOLD, 100);
+
+		assertTrue(open(fSmallFile).getDegradedFeatures().isEmpty());
+		assertEquals(ALL_FEATURES, open(fLargeFile).getDegradedFeatures());
+	}
+
+	@Test
+	public void testThresholdsDisabled() throws Exception {
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD, 0);
+
+		assertTrue(open(fLargeFile).getDegradedFeatures().isEmpty());
+	}
+
+	@Test
+	public void testQuickDiff() throws Exception {
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.QUICK_DIFF_ALWAYS_ON, true);
+
+		assertTrue(open(fSmallFile).isChangeInformationShowing());
+		assertFalse(open(fLargeFile).isChangeInformationShowing());
+	}
+
+	@Test
+	public void testWhitespaceCharacters() throws Exception {
+		fStore.setValue(AbstractTextEditor.PREFERENCE_SHOW_WHITESPACE_CHARACTERS, true);
+
+		IAction action = open(fSmallFile).getAction(ITextEditorActionConstants.SHOW_WHITESPACE_CHARACTERS);
+		assertTrue(action.isChecked());
+
+		action = open(fLargeFile).getAction(ITextEditorActionConstants.SHOW_WHITESPACE_CHARACTERS);
+		assertFalse(action.isChecked());
+		// the global preference is left alone
+		assertTrue(fStore.getBoolean(AbstractTextEditor.PREFERENCE_SHOW_WHITESPACE_CHARACTERS));
+	}
+
+	@Test
+	public void testCodeMinings() throws Exception {
+		ISourceViewer viewer = getViewer(open(fLargeFile));
+		assertFalse(((ISourceViewerExtension5) viewer).hasCodeMiningProviders());
+	}
+
+	@Test
+	public void testConfiguredFeatures() throws Exception {
+		ISourceViewer viewer = getViewer(open(fSmallFile));
+		assertFalse(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.SPELLING));
+		assertFalse(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.FOLDING));
+		assertFalse(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.OCCURRENCES));
+
+		viewer = getViewer(open(fLargeFile));
+		assertTrue(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.SPELLING));
+		assertTrue(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.FOLDING));
+		assertTrue(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.OCCURRENCES));
+		assertNull(new TextSourceViewerConfiguration(fStore).getReconciler(viewer));
+	}
+
+	@Test
+	public void testInputChange() throws Exception {
+		fStore.setValue(AbstractDecoratedTextEditorPreferenceConstants.QUICK_DIFF_ALWAYS_ON, true);
+		AbstractDecoratedTextEditor editor = open(fLargeFile);
+		assertEquals(ALL_FEATURES, editor.getDegradedFeatures());
+
+		editor.setInput(new FileEditorInput(fSmallFile));
+		TestUtil.runEventLoop();
+		assertTrue(editor.getDegradedFeatures().isEmpty());
+		assertFalse(AbstractDecoratedTextEditor.isFeatureDegraded(getViewer(editor), LargeFileFeature.SPELLING));
+		assertTrue(editor.isChangeInformationShowing());
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.genericeditor.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.swt.custom.StyledText;
+import org.eclipse.swt.widgets.Control;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.content.IContentType;
+import org.eclipse.core.runtime.content.IContentTypeManager;
+
+import org.eclipse.jface.text.IDocument;
+
+/**
+ * Tests that the cached content type resolution of the registries follows
+ * changes of the content types.
+ */
+public class ContentTypeRelatedExtensionCacheTest extends AbstratGenericEditorTest {
+
+	private static final String EXTENSION = "cachetest";
+
+	private static final String USER_CONTENT_TYPE_ID = "org.eclipse.ui.genericeditor.tests.user-content-type";
+
+	private String triggerAutoEdits(String fileName) throws Exception {
+		cleanFileAndEditor();
+		createAndOpenFile(fileName, "bar 'bar'");
+		IDocument document = editor.getDocumentProvider().getDocument(editor.getEditorInput());
+		StyledText control = (StyledText) editor.getAdapter(Control.class);
+		control.setText("");
+		return document.get();
+	}
+
+	@Test
+	public void testFileAssociationChange() throws Exception {
+		IContentType contentType = Platform.getContentTypeManager()
+				.getContentType("org.eclipse.ui.genericeditor.tests.specialized-content-type");
+		assertEquals("", triggerAutoEdits("before." + EXTENSION));
+
+		contentType.addFileSpec(EXTENSION, IContentType.FILE_EXTENSION_SPEC);
+		try {
+			assertEquals("AutoAddedSecond!AutoAddedFirst!", triggerAutoEdits("associated." + EXTENSION));
+		} finally {
+			contentType.removeFileSpec(EXTENSION, IContentType.FILE_EXTENSION_SPEC);
+		}
+		assertEquals("", triggerAutoEdits("after." + EXTENSION));
+	}
+
+	@Test
+	public void testUserDefinedContentType() throws Exception {
+		IContentTypeManager manager = Platform.getContentTypeManager();
+		IContentType userContentType = manager.addContentType(USER_CONTENT_TYPE_ID, "User content-type",
+				manager.getContentType("org.eclipse.ui.genericeditor.tests.content-type"));
+		try {
+			userContentType.addFileSpec(EXTENSION, IContentType.FILE_EXTENSION_SPEC);
+			assertEquals("AutoAddedFirst!", triggerAutoEdits("user." + EXTENSION));
+		} finally {
+			manager.removeContentType(USER_CONTENT_TYPE_ID);
+		}
+		assertEquals("", triggerAutoEdits("removed." + EXTENSION));
+	}
+}
@@ -13,6 +13,7 @@
  */
 package org.eclipse.ui.genericeditor.tests;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -26,6 +27,8 @@ import org.junit.jupiter.api.Test;
 
 import org.eclipse.core.commands.Command;
 
+import org.eclipse.jface.preference.IPreferenceStore;
+
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
@@ -37,6 +40,11 @@ import org.eclipse.ui.commands.ICommandService;
 import org.eclipse.ui.genericeditor.tests.contributions.EnabledPropertyTester;
 import org.eclipse.ui.tests.harness.util.DisplayHelper;
 
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditor.LargeFileFeature;
+import org.eclipse.ui.texteditor.AbstractDecoratedTextEditorPreferenceConstants;
+
+import org.eclipse.ui.editors.text.EditorsUI;
 import org.eclipse.ui.editors.text.IFoldingCommandIds;
 
 public class FoldingTest extends AbstratGenericEditorTest {
@@ -76,6 +84,21 @@ public class FoldingTest extends AbstratGenericEditorTest {
 		assertFoldingAsync();
 	}
 
+	@Test
+	public void testNoFoldingForLargeFile() throws Exception {
+		IPreferenceStore store = EditorsUI.getPreferenceStore();
+		store.setValue(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD, 2);
+		try {
+			createAndOpenFile("bar.xml", "<a>\n <b>\n  c\n </b>\n</a>");
+			ProjectionViewer viewer = (ProjectionViewer) editor.getAdapter(ITextViewer.class);
+			assertTrue(editor.isFeatureDegraded(LargeFileFeature.FOLDING));
+			assertTrue(AbstractDecoratedTextEditor.isFeatureDegraded(viewer, LargeFileFeature.OCCURRENCES));
+			assertFalse(viewer.isProjectionMode());
+		} finally {
+			store.setToDefault(AbstractDecoratedTextEditorPreferenceConstants.EDITOR_LARGE_FILE_LINE_THRESHOLD);
+		}
+	}
+
 	private static Position pos(int offset, int length) {
 		return new Position(offset, length);
 	}
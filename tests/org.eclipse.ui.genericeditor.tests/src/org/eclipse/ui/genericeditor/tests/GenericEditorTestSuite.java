@@ -32,7 +32,9 @@ import org.junit.platform.suite.api.Suite;
 		HighlightTest.class,
 		IconsTest.class,
 		TestQuickAssist.class,
-		DoubleClickTest.class
+		DoubleClickTest.class,
+		WordOccurrenceIndexTest.class,
+		ContentTypeRelatedExtensionCacheTest.class
 })
 public class GenericEditorTestSuite {
 	// see @SuiteClasses
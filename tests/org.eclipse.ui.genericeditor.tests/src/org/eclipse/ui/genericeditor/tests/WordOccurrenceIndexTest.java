@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.genericeditor.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jface.text.Document;
+
+import org.eclipse.ui.internal.genericeditor.WordOccurrenceIndex;
+
+public class WordOccurrenceIndexTest {
+
+	private static final Pattern WORD_PATTERN= Pattern.compile("\\w+", Pattern.UNICODE_CHARACTER_CLASS);
+
+	private static int[] scan(Document document, String word) {
+		int[] offsets= new int[0];
+		Matcher m= WORD_PATTERN.matcher(document.get());
+		while (m.find()) {
+			if (m.group().equals(word)) {
+				offsets= Arrays.copyOf(offsets, offsets.length + 1);
+				offsets[offsets.length - 1]= m.start();
+			}
+		}
+		return offsets;
+	}
+
+	@Test
+	public void testOccurrences() {
+		Document document= new Document("the dog in the bog\nthe end");
+		WordOccurrenceIndex index= new WordOccurrenceIndex(WORD_PATTERN);
+		index.connect(document);
+
+		assertArrayEquals(new int[] { 0, 11, 19 }, index.getOccurrences("the"));
+		assertArrayEquals(new int[0], index.getOccurrences("cat"));
+	}
+
+	@Test
+	public void testIndexFollowsEdits() throws Exception {
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < 5000; i++) {
+			text.append("alpha beta gamma delta\n");
+		}
+		Document document= new Document(text.toString());
+		WordOccurrenceIndex index= new WordOccurrenceIndex(WORD_PATTERN);
+		index.connect(document);
+		index.getOccurrences("alpha");
+
+		// split a word, join two lines and replace a large range spanning several blocks
+		document.replace(2, 0, " ");
+		document.replace(document.getLineOffset(100) - 1, 1, "");
+		document.replace(document.getLineOffset(1000), 50000, "alphabeta\nbeta alpha");
+		document.replace(document.getLength(), 0, "alpha");
+
+		for (String word : new String[] { "alpha", "al", "pha", "beta", "deltaalpha", "alphabeta", "gamma" }) {
+			assertArrayEquals(scan(document, word), index.getOccurrences(word), word);
+		}
+	}
+
+	@Test
+	public void testDisconnect() throws Exception {
+		Document document= new Document("one one");
+		WordOccurrenceIndex index= new WordOccurrenceIndex(WORD_PATTERN);
+		index.connect(document);
+		index.disconnect();
+		document.replace(0, 0, "one ");
+
+		assertArrayEquals(new int[0], index.getOccurrences("one"));
+	}
+}
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.workbench.texteditor.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.preference.PreferenceStore;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.reconciler.DirtyRegion;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.jface.text.source.ISourceViewer;
+
+import org.eclipse.ui.texteditor.spelling.ISpellingProblemCollector;
+import org.eclipse.ui.texteditor.spelling.SpellingAnnotation;
+import org.eclipse.ui.texteditor.spelling.SpellingContext;
+import org.eclipse.ui.texteditor.spelling.SpellingProblem;
+import org.eclipse.ui.texteditor.spelling.SpellingReconcileStrategy;
+import org.eclipse.ui.texteditor.spelling.SpellingService;
+
+/**
+ * Tests the incremental mode of {@link SpellingReconcileStrategy}.
+ */
+public class SpellingReconcileStrategyTest {
+
+	/** The only word the fake spelling engine reports. */
+	private static final String MISSPELLED= "teh";
+
+	private static class Problem extends SpellingProblem {
+
+		private final int fOffset;
+
+		Problem(int offset) {
+			fOffset= offset;
+		}
+
+		@Override
+		public int getOffset() {
+			return fOffset;
+		}
+
+		@Override
+		public int getLength() {
+			return MISSPELLED.length();
+		}
+
+		@Override
+		public String getMessage() {
+			return MISSPELLED;
+		}
+
+		@Override
+		public ICompletionProposal[] getProposals() {
+			return new ICompletionProposal[0];
+		}
+	}
+
+	private final Document fDocument= new Document();
+
+	private final AnnotationModel fAnnotationModel= new AnnotationModel();
+
+	private final AtomicInteger fEngineCalls= new AtomicInteger();
+
+	private final AtomicInteger fActiveChecks= new AtomicInteger();
+
+	private final AtomicInteger fMaxActiveChecks= new AtomicInteger();
+
+	private final Set<Thread> fEngineThreads= ConcurrentHashMap.newKeySet();
+
+	private final NullProgressMonitor fProgressMonitor= new NullProgressMonitor();
+
+	private final PreferenceStore fPreferences= new PreferenceStore();
+
+	/** Number of engine calls after which the fake engine cancels the progress monitor, 0 for never. */
+	private int fCancelAfter;
+
+	private SpellingReconcileStrategy fStrategy;
+
+	@Before
+	public void setUp() {
+		ISourceViewer viewer= mock(ISourceViewer.class);
+		when(viewer.getAnnotationModel()).thenReturn(fAnnotationModel);
+		SpellingService service= new SpellingService(fPreferences) {
+			@Override
+			public void check(IDocument document, IRegion[] regions, SpellingContext context, ISpellingProblemCollector collector, IProgressMonitor monitor) {
+				try {
+					SpellingReconcileStrategyTest.this.check(document, regions, collector);
+				} catch (BadLocationException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+
+		fAnnotationModel.connect(fDocument);
+		fStrategy= new SpellingReconcileStrategy(viewer, service, true);
+		fStrategy.setDocument(fDocument);
+		fStrategy.setProgressMonitor(fProgressMonitor);
+	}
+
+	/*
+	 * Behaves like a stateful engine: it tracks the calls in progress and may cancel the check.
+	 */
+	private void check(IDocument document, IRegion[] regions, ISpellingProblemCollector collector) throws BadLocationException {
+		int calls= fEngineCalls.incrementAndGet();
+		fMaxActiveChecks.accumulateAndGet(fActiveChecks.incrementAndGet(), Math::max);
+		fEngineThreads.add(Thread.currentThread());
+		try {
+			collector.beginCollecting();
+			for (IRegion region : regions) {
+				String text= document.get(region.getOffset(), region.getLength());
+				for (int index= text.indexOf(MISSPELLED); index != -1; index= text.indexOf(MISSPELLED, index + 1)) {
+					collector.accept(new Problem(region.getOffset() + index));
+				}
+			}
+			collector.endCollecting();
+			if (calls == fCancelAfter) {
+				fProgressMonitor.setCanceled(true);
+			}
+		} finally {
+			fActiveChecks.decrementAndGet();
+		}
+	}
+
+	private void setLargeDocument() {
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < 10000; i++) {
+			text.append("some words teh here\n");
+		}
+		fDocument.set(text.toString());
+	}
+
+	private List<Annotation> getSpellingAnnotations() {
+		List<Annotation> annotations= new ArrayList<>();
+		Iterator<Annotation> iter= fAnnotationModel.getAnnotationIterator();
+		while (iter.hasNext()) {
+			Annotation annotation= iter.next();
+			if (SpellingAnnotation.TYPE.equals(annotation.getType())) {
+				annotations.add(annotation);
+			}
+		}
+		return annotations;
+	}
+
+	private void replace(int offset, int length, String text) throws BadLocationException {
+		fDocument.replace(offset, length, text);
+		if (text.isEmpty()) {
+			fStrategy.reconcile(new DirtyRegion(offset, length, DirtyRegion.REMOVE, null), new Region(offset, length));
+		} else {
+			fStrategy.reconcile(new DirtyRegion(offset, text.length(), DirtyRegion.INSERT, text), new Region(offset, text.length()));
+		}
+	}
+
+	@Test
+	public void testOnlyChangedLinesAreReplaced() throws Exception {
+		fDocument.set("teh one\ntwo\nteh three\n");
+		fStrategy.initialReconcile();
+		List<Annotation> initial= getSpellingAnnotations();
+		assertEquals(2, initial.size());
+
+		replace(8, 3, MISSPELLED);
+
+		List<Annotation> annotations= getSpellingAnnotations();
+		assertEquals(3, annotations.size());
+		assertTrue(annotations.containsAll(initial));
+	}
+
+	@Test
+	public void testRemovedLineDropsProblems() throws Exception {
+		fDocument.set("ok\nteh\nok");
+		fStrategy.initialReconcile();
+		assertEquals(1, getSpellingAnnotations().size());
+
+		replace(3, 4, "");
+
+		assertEquals(0, getSpellingAnnotations().size());
+	}
+
+	@Test
+	public void testKnownWordsSkipEngine() throws Exception {
+		fDocument.set("hello world\nhello world\n");
+		fStrategy.initialReconcile();
+		assertEquals(1, fEngineCalls.get());
+
+		replace(12, 5, "hello");
+		assertEquals(1, fEngineCalls.get());
+
+		replace(18, 5, MISSPELLED);
+		assertEquals(2, fEngineCalls.get());
+		assertEquals(1, getSpellingAnnotations().size());
+	}
+
+	@Test
+	public void testPreferenceChangeClearsKnownWords() throws Exception {
+		fDocument.set("hello world\nhello world\n");
+		fStrategy.initialReconcile();
+		assertEquals(1, fEngineCalls.get());
+
+		fPreferences.setValue(SpellingService.PREFERENCE_SPELLING_ENGINE, "another.engine");
+		replace(12, 5, "hello");
+		assertEquals(2, fEngineCalls.get());
+
+		replace(12, 5, "hello");
+		assertEquals(2, fEngineCalls.get());
+	}
+
+	@Test
+	public void testLargeDocumentIsCheckedInChunks() throws Exception {
+		setLargeDocument();
+		fStrategy.initialReconcile();
+
+		assertTrue(fEngineCalls.get() > 1);
+		assertEquals(10000, getSpellingAnnotations().size());
+		// the engine is never called concurrently nor from another thread
+		assertEquals(1, fMaxActiveChecks.get());
+		assertEquals(Set.of(Thread.currentThread()), fEngineThreads);
+	}
+
+	@Test
+	public void testCancelledCheckStopsBetweenChunks() throws Exception {
+		fDocument.set("teh\n");
+		fStrategy.initialReconcile();
+		List<Annotation> initial= getSpellingAnnotations();
+		assertEquals(1, initial.size());
+
+		setLargeDocument();
+		fEngineCalls.set(0);
+		fCancelAfter= 1;
+		fStrategy.initialReconcile();
+
+		assertEquals(1, fEngineCalls.get());
+		// the annotations are left alone
+		assertEquals(initial, getSpellingAnnotations());
+	}
+}
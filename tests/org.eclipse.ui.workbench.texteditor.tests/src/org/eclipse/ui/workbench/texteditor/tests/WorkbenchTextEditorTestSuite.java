@@ -48,6 +48,7 @@ import org.eclipse.ui.workbench.texteditor.tests.rulers.RulerTestSuite;
 		FindReplaceDialogTest.class,
 		FindReplaceOverlayTest.class,
 		FindReplaceLogicTest.class,
+		SpellingReconcileStrategyTest.class,
 })
 public class WorkbenchTextEditorTestSuite {
 	// see @SelectClasses